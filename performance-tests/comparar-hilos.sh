@@ -0,0 +1,43 @@
+#!/bin/bash
+
+# Compara rendimiento (req/s) y p99 con hilos de plataforma y con hilos virtuales
+# Requiere PostgreSQL y Redis en marcha (docker compose up -d postgres redis) y k6 instalado
+# Uso: ./performance-tests/comparar-hilos.sh [tasa_por_segundo] [duracion]
+
+TASA=${1:-400}
+DURACION=${2:-1m}
+API_URL="http://localhost:8080"
+
+if ! command -v k6 &> /dev/null; then
+    echo "❌ k6 no está instalado (https://k6.io/docs/get-started/installation/)"
+    exit 1
+fi
+
+echo "🔨 Construyendo la aplicación..."
+./gradlew -q bootJar -x test || exit 1
+JAR=$(ls build/libs/*.jar | grep -v plain | head -n 1)
+
+for MODO in plataforma virtual; do
+    VIRTUALES=false
+    [ "$MODO" = "virtual" ] && VIRTUALES=true
+
+    echo ""
+    echo "🚀 Iniciando la API con hilos ${MODO} (spring.threads.virtual.enabled=${VIRTUALES})"
+    java -jar "$JAR" --spring.threads.virtual.enabled=${VIRTUALES} \
+        --logging.level.cue.edu.co.eventia_core_api=WARN --spring.jpa.show-sql=false > "performance-tests/hilos-${MODO}.log" 2>&1 &
+    PID=$!
+
+    for _ in $(seq 1 60); do
+        curl -s "${API_URL}/actuator/health" > /dev/null && break
+        sleep 1
+    done
+
+    k6 run -q -e MODO=${MODO} -e TASA=${TASA} -e DURACION=${DURACION} -e BASE_URL=${API_URL} \
+        performance-tests/k6-hilos-virtuales.js
+
+    kill $PID
+    wait $PID 2>/dev/null
+done
+
+echo ""
+echo "📊 Resultados: performance-tests/hilos-plataforma.json y performance-tests/hilos-virtual.json"
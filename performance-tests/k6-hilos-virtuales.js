@@ -0,0 +1,64 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// Compara hilos de plataforma y virtuales con la misma carga de E/S (ver comparar-hilos.sh)
+// Uso: k6 run -e MODO=virtual -e TASA=400 performance-tests/k6-hilos-virtuales.js
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODO = __ENV.MODO || 'desconocido';
+const TASA = parseInt(__ENV.TASA || '400');
+
+export let options = {
+  scenarios: {
+    carga_constante: {
+      // Llegadas a tasa fija: si el servidor se satura, crece la latencia en lugar de bajar la carga
+      executor: 'constant-arrival-rate',
+      rate: TASA,
+      timeUnit: '1s',
+      duration: __ENV.DURACION || '1m',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const evento = http.post(`${BASE_URL}/api/v1/eventos`, JSON.stringify({
+    nombre: `Evento hilos ${MODO} ${Date.now()}`,
+    descripcion: 'Comparación de modelos de hilos',
+    fechaInicio: '2030-01-15T10:00:00',
+    fechaFin: '2030-01-15T18:00:00',
+    ubicacion: 'Auditorio',
+    capacidadMaxima: 1000,
+  }), { headers: { 'Content-Type': 'application/json' } });
+  return { eventoId: evento.json('id') };
+}
+
+export default function (datos) {
+  // Lecturas que llegan a PostgreSQL (listado paginado y estadísticas) y a la caché (evento por ID)
+  const respuestas = http.batch([
+    ['GET', `${BASE_URL}/api/v1/participantes?limit=50`],
+    ['GET', `${BASE_URL}/api/v1/asistencias/evento/${datos.eventoId}/estadisticas`],
+    ['GET', `${BASE_URL}/api/v1/eventos/${datos.eventoId}`],
+  ]);
+  respuestas.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+}
+
+export function handleSummary(data) {
+  const resultado = {
+    modo: MODO,
+    tasaObjetivo: TASA,
+    peticionesPorSegundo: data.metrics.http_reqs.values.rate,
+    p50Ms: data.metrics.http_req_duration.values['p(50)'],
+    p99Ms: data.metrics.http_req_duration.values['p(99)'],
+    fallidas: data.metrics.http_req_failed.values.rate,
+    iteracionesDescartadas: data.metrics.dropped_iterations ? data.metrics.dropped_iterations.values.count : 0,
+  };
+  return {
+    [`performance-tests/hilos-${MODO}.json`]: JSON.stringify(resultado, null, 2),
+    stdout: `\n${MODO}: ${resultado.peticionesPorSegundo.toFixed(1)} req/s | `
+      + `p50 ${resultado.p50Ms.toFixed(1)} ms | p99 ${resultado.p99Ms.toFixed(1)} ms | `
+      + `fallidas ${(resultado.fallidas * 100).toFixed(2)}% | descartadas ${resultado.iteracionesDescartadas}\n`,
+  };
+}
@@ -0,0 +1,71 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara tamaño y tiempo de codificación/decodificación de una lista de 10.000 asistencias
+ * (un valor de caché grande) con JSON de texto, Smile y Smile comprimido.
+ * Ejecutar con ./gradlew jmh; los tamaños se imprimen al preparar cada formato.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CodecCacheBenchmark {
+
+    private static final int ASISTENCIAS = 10_000;
+
+    @Param({"json", "smile", "smile-gzip"})
+    private String formato;
+
+    private CodecCache codec;
+    private List<Asistencia> asistencias;
+    private byte[] codificado;
+
+    @Setup
+    public void preparar() {
+        codec = switch (formato) {
+            case "json" -> CodecCache.json(0);
+            case "smile" -> CodecCache.smile(0);
+            default -> CodecCache.smile(1);
+        };
+
+        asistencias = new ArrayList<>(ASISTENCIAS);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 8, 0);
+        for (int i = 0; i < ASISTENCIAS; i++) {
+            asistencias.add(Asistencia.builder()
+                    .id((long) i)
+                    .eventoId(1L)
+                    .participanteId(100_000L + i)
+                    .fechaRegistro(base.plusSeconds(i))
+                    .estado(i % 10 == 0 ? EstadoAsistencia.EN_ESPERA : EstadoAsistencia.CONFIRMADO)
+                    .notas(i % 3 == 0 ? "Registro desde el portal" : null)
+                    .build());
+        }
+        codificado = codec.serialize(asistencias);
+        System.out.printf("%n[%s] tamaño serializado: %,d bytes%n", formato, codificado.length);
+    }
+
+    @Benchmark
+    public byte[] codificar() {
+        return codec.serialize(asistencias);
+    }
+
+    @Benchmark
+    public Object decodificar() {
+        return codec.deserialize(codificado);
+    }
+}
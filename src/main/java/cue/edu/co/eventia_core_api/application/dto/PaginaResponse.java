@@ -0,0 +1,22 @@
+package cue.edu.co.eventia_core_api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Respuesta paginada por cursor: "siguienteCursor" se envía como ?after= para pedir
+ * la página siguiente y es null en la última página
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaResponse<T> {
+    private List<T> elementos;
+    private String siguienteCursor;
+    private int limite;
+}
@@ -0,0 +1,15 @@
+package cue.edu.co.eventia_core_api.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PosicionEsperaResponse {
+    private Long asistenciaId;
+    private Long posicion;
+}
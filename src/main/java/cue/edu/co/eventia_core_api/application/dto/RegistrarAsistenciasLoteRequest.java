@@ -0,0 +1,22 @@
+package cue.edu.co.eventia_core_api.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrarAsistenciasLoteRequest {
+
+    @NotEmpty(message = "El lote debe contener al menos una asistencia")
+    @Size(max = 1000, message = "El lote no puede exceder 1000 asistencias")
+    private List<@Valid RegistrarAsistenciaRequest> asistencias;
+}
@@ -1,34 +1,83 @@
 package cue.edu.co.eventia_core_api.application.mapper;
 
 import cue.edu.co.eventia_core_api.application.dto.AsistenciaResponse;
+import cue.edu.co.eventia_core_api.application.dto.RegistrarAsistenciasLoteRequest;
 import cue.edu.co.eventia_core_api.domain.model.Asistencia;
-import cue.edu.co.eventia_core_api.domain.service.EventoService;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.SolicitudAsistencia;
+import cue.edu.co.eventia_core_api.domain.service.ConsultaConArchivoService;
 import cue.edu.co.eventia_core_api.domain.service.ParticipanteService;
+import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
 public class AsistenciaMapper {
 
+    // Los nombres de eventos archivados también se resuelven (historial del participante)
     @Autowired
-    private EventoService eventoService;
+    private ConsultaConArchivoService consultaConArchivo;
 
     @Autowired
     private ParticipanteService participanteService;
 
     public AsistenciaResponse toResponse(Asistencia asistencia) {
-        var evento = eventoService.obtenerEventoPorId(asistencia.getEventoId());
+        var evento = consultaConArchivo.obtenerEvento(asistencia.getEventoId());
         var participante = participanteService.obtenerParticipantePorId(asistencia.getParticipanteId());
 
+        return toResponse(asistencia, evento.getNombre(), participante.getNombreCompleto());
+    }
+
+    public List<SolicitudAsistencia> toSolicitudes(RegistrarAsistenciasLoteRequest request) {
+        return request.getAsistencias().stream()
+                .map(item -> SolicitudAsistencia.builder()
+                        .eventoId(item.getEventoId())
+                        .participanteId(item.getParticipanteId())
+                        .notas(item.getNotas())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convierte un listado resolviendo eventos y participantes en bloque:
+     * una consulta por tipo de entidad para los IDs distintos, en lugar de dos búsquedas por fila
+     */
+    public List<AsistenciaResponse> toResponseList(List<Asistencia> asistencias) {
+        if (asistencias.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> nombresEventos = consultaConArchivo.obtenerEventosPorIds(
+                        distintos(asistencias, Asistencia::getEventoId)).stream()
+                .collect(Collectors.toMap(Evento::getId, Evento::getNombre));
+        Map<Long, String> nombresParticipantes = participanteService.obtenerParticipantesPorIds(
+                        distintos(asistencias, Asistencia::getParticipanteId)).stream()
+                .collect(Collectors.toMap(Participante::getId, Participante::getNombreCompleto));
+
+        List<AsistenciaResponse> respuestas = new ArrayList<>(asistencias.size());
+        for (Asistencia asistencia : asistencias) {
+            respuestas.add(toResponse(asistencia,
+                    nombre(nombresEventos, "Evento", asistencia.getEventoId()),
+                    nombre(nombresParticipantes, "Participante", asistencia.getParticipanteId())));
+        }
+        return respuestas;
+    }
+
+    private AsistenciaResponse toResponse(Asistencia asistencia, String nombreEvento, String nombreParticipante) {
         return AsistenciaResponse.builder()
                 .id(asistencia.getId())
                 .eventoId(asistencia.getEventoId())
-                .nombreEvento(evento.getNombre())
+                .nombreEvento(nombreEvento)
                 .participanteId(asistencia.getParticipanteId())
-                .nombreParticipante(participante.getNombreCompleto())
+                .nombreParticipante(nombreParticipante)
                 .fechaRegistro(asistencia.getFechaRegistro())
                 .estado(asistencia.getEstado())
                 .notas(asistencia.getNotas())
@@ -36,10 +85,15 @@ public class AsistenciaMapper {
                 .build();
     }
 
-    public List<AsistenciaResponse> toResponseList(List<Asistencia> asistencias) {
-        return asistencias.stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    private static Set<Long> distintos(List<Asistencia> asistencias, Function<Asistencia, Long> id) {
+        return asistencias.stream().map(id).collect(Collectors.toSet());
     }
-}
 
+    private static String nombre(Map<Long, String> nombres, String recurso, Long id) {
+        String nombre = nombres.get(id);
+        if (nombre == null) {
+            throw new ResourceNotFoundException(recurso, "id", id);
+        }
+        return nombre;
+    }
+}
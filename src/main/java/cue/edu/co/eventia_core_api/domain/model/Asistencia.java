@@ -63,5 +63,22 @@ public class Asistencia {
     public boolean estaConfirmada() {
         return estado == EstadoAsistencia.CONFIRMADO;
     }
+
+    /**
+     * Verifica si la asistencia está en la lista de espera del evento
+     */
+    public boolean estaEnEspera() {
+        return estado == EstadoAsistencia.EN_ESPERA;
+    }
+
+    /**
+     * Verifica si la asistencia ocupa un cupo del evento
+     * (confirmada o ya resuelta como asistió / no asistió)
+     */
+    public boolean ocupaCupo() {
+        return estado == EstadoAsistencia.CONFIRMADO
+                || estado == EstadoAsistencia.ASISTIO
+                || estado == EstadoAsistencia.NO_ASISTIO;
+    }
 }
 
@@ -0,0 +1,28 @@
+package cue.edu.co.eventia_core_api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila de la exportación de asistencias de un evento, con los datos del participante
+ * ya resueltos en la misma consulta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsistenciaExportada {
+
+    private Long asistenciaId;
+    private Long participanteId;
+    private String nombreParticipante;
+    private String email;
+    private String documento;
+    private EstadoAsistencia estado;
+    private LocalDateTime fechaRegistro;
+    private String notas;
+}
@@ -0,0 +1,7 @@
+package cue.edu.co.eventia_core_api.domain.model;
+
+/**
+ * Evento de dominio publicado cuando un evento aumenta su capacidad máxima
+ */
+public record CapacidadEventoAmpliada(Long eventoId) {
+}
@@ -0,0 +1,31 @@
+package cue.edu.co.eventia_core_api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contadores de asistencias de un evento agrupados por estado
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConteoAsistencias {
+
+    private Long eventoId;
+    private long total;
+    private long confirmados;
+    private long cancelados;
+    private long asistieron;
+    private long noAsistieron;
+    private long enEspera;
+
+    /**
+     * Conteo de un evento sin asistencias
+     */
+    public static ConteoAsistencias vacio(Long eventoId) {
+        return ConteoAsistencias.builder().eventoId(eventoId).build();
+    }
+}
@@ -0,0 +1,33 @@
+package cue.edu.co.eventia_core_api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de un listado recorrido por clave (keyset): los elementos vienen ordenados por ID
+ * y la siguiente página empieza después de "ultimoId"
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Pagina<T> {
+
+    private List<T> elementos;
+    private Long ultimoId;
+    private boolean hayMas;
+
+    /**
+     * Construye la página a partir de una consulta que pidió "limite + 1" filas:
+     * la fila sobrante solo indica que existe una página siguiente y se descarta
+     */
+    public static <T> Pagina<T> de(List<T> filas, int limite, Function<T, Long> id) {
+        boolean hayMas = filas.size() > limite;
+        List<T> elementos = hayMas ? filas.subList(0, limite) : filas;
+        Long ultimoId = elementos.isEmpty() ? null : id.apply(elementos.get(elementos.size() - 1));
+        return new Pagina<>(List.copyOf(elementos), ultimoId, hayMas);
+    }
+}
@@ -0,0 +1,20 @@
+package cue.edu.co.eventia_core_api.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Solicitud de registro de un participante en un evento (usada en registros por lote)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolicitudAsistencia {
+
+    private Long eventoId;
+    private Long participanteId;
+    private String notas;
+}
@@ -0,0 +1,39 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto (interfaz) para el archivo de eventos terminados y sus asistencias
+ * Los eventos archivados ya no están en EventoRepository ni sus asistencias en AsistenciaRepository
+ */
+public interface ArchivoEventosRepository {
+
+    /**
+     * Mueve al archivo, con sus asistencias, hasta "limite" eventos FINALIZADO o CANCELADO
+     * cuya fecha de fin sea anterior a "terminadosAntesDe"
+     * @return IDs de los eventos archivados
+     */
+    List<Long> archivarTerminados(LocalDateTime terminadosAntesDe, int limite);
+
+    Optional<Evento> findEventoById(Long id);
+
+    List<Evento> findEventosByIds(Collection<Long> ids);
+
+    Optional<Asistencia> findAsistenciaById(Long id);
+
+    /**
+     * Siguientes asistencias archivadas del evento por orden de ID (paginación por clave)
+     */
+    List<Asistencia> findAsistenciasSiguientesPorEvento(Long eventoId, long despuesDeId, int limite);
+
+    List<Asistencia> findAsistenciasByParticipanteId(Long participanteId);
+
+    ConteoAsistencias contarPorEstado(Long eventoId);
+}
@@ -0,0 +1,41 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+/**
+ * Puerto (interfaz) para la asignación distribuida de cupos
+ * Permite resolver capacidad y doble registro antes de tocar la base de datos,
+ * compartiendo el estado entre todos los nodos de la API
+ */
+public interface AsignadorCuposDistribuido {
+
+    /**
+     * Resultado de una reserva distribuida
+     */
+    enum ResultadoReserva {
+        RESERVADO,
+        DUPLICADO,
+        AGOTADO,
+        NO_DISPONIBLE
+    }
+
+    /**
+     * Reserva un cupo y registra al participante en el evento de forma atómica
+     * Si la transacción actual se revierte, la reserva se compensa automáticamente
+     */
+    ResultadoReserva reservar(Long eventoId, Long participanteId);
+
+    /**
+     * Devuelve un cupo al confirmar la transacción actual
+     * @param retirarParticipante true si el participante deja de estar registrado en el evento
+     */
+    void liberar(Long eventoId, Long participanteId, boolean retirarParticipante);
+
+    /**
+     * Reconstruye el estado del evento a partir de la base de datos
+     */
+    void reconstruir(Long eventoId);
+
+    /**
+     * Descarta el estado del evento para que se reconstruya en el siguiente uso
+     */
+    void invalidar(Long eventoId);
+}
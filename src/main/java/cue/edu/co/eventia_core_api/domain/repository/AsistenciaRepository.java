@@ -1,9 +1,13 @@
 package cue.edu.co.eventia_core_api.domain.repository;
 
 import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
 import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -13,12 +17,36 @@ public interface AsistenciaRepository {
 
     Asistencia save(Asistencia asistencia);
 
+    /**
+     * Inserta la asistencia salvo que el participante ya esté registrado en el evento:
+     * la restricción única resuelve el doble registro en el mismo INSERT, sin consulta previa
+     * @return la asistencia con su ID, o vacío si ya existía un registro para el par evento-participante
+     */
+    Optional<Asistencia> insertarSiNoExiste(Asistencia asistencia);
+
+    /**
+     * Inserta todas las asistencias en un único lote JDBC y asigna sus IDs
+     */
+    List<Asistencia> saveAll(List<Asistencia> asistencias);
+
     Optional<Asistencia> findById(Long id);
 
     List<Asistencia> findByEventoId(Long eventoId);
 
+    /**
+     * Siguientes asistencias del evento por orden de ID a partir de "despuesDeId" (paginación por clave)
+     */
+    List<Asistencia> findSiguientesPorEvento(Long eventoId, long despuesDeId, int limite);
+
     List<Asistencia> findByParticipanteId(Long participanteId);
 
+    List<Long> findParticipanteIdsByEventoId(Long eventoId);
+
+    /**
+     * De los participantes indicados, devuelve los que ya tienen una asistencia en el evento
+     */
+    List<Long> findParticipanteIdsRegistrados(Long eventoId, Collection<Long> participanteIds);
+
     Optional<Asistencia> findByEventoIdAndParticipanteId(Long eventoId, Long participanteId);
 
     List<Asistencia> findByEventoIdAndEstado(Long eventoId, EstadoAsistencia estado);
@@ -27,8 +55,41 @@ public interface AsistenciaRepository {
 
     long countByEventoIdAndEstado(Long eventoId, EstadoAsistencia estado);
 
+    /**
+     * Cuenta las asistencias del evento por estado en una sola consulta
+     */
+    ConteoAsistencias contarPorEstado(Long eventoId);
+
+    /**
+     * Cuenta las asistencias por estado de varios eventos en una sola consulta
+     * Los eventos sin asistencias se incluyen con contadores en cero
+     */
+    Map<Long, ConteoAsistencias> contarPorEstado(Collection<Long> eventoIds);
+
     boolean existsByEventoIdAndParticipanteId(Long eventoId, Long participanteId);
 
+    /**
+     * Confirma en un solo UPDATE a los primeros "cantidad" participantes en espera (orden FIFO)
+     * @return asistencias promovidas
+     */
+    int promoverEnEspera(Long eventoId, int cantidad);
+
+    /**
+     * Eventos FINALIZADO con fecha de fin anterior a "terminadosAntesDe" que aún tienen asistencias CONFIRMADO
+     */
+    List<Long> findEventosFinalizadosConConfirmadas(LocalDateTime terminadosAntesDe, int limite);
+
+    /**
+     * Pasa a NO_ASISTIO hasta "limite" asistencias CONFIRMADO del evento en un solo UPDATE
+     * @return asistencias marcadas
+     */
+    int marcarNoAsistioConfirmadas(Long eventoId, int limite);
+
+    /**
+     * Cuenta los participantes en espera registrados antes que la asistencia indicada
+     */
+    long contarEnEsperaAntesDe(Long eventoId, LocalDateTime fechaRegistro, Long asistenciaId);
+
     void deleteById(Long id);
 
     void deleteByEventoIdAndParticipanteId(Long eventoId, Long participanteId);
@@ -0,0 +1,14 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+/**
+ * Puerto (interfaz) para coordinar las tareas programadas entre los nodos de la API
+ * Solo el nodo que obtiene el bloqueo ejecuta la tarea
+ */
+public interface BloqueoTareasProgramadas {
+
+    /**
+     * Intenta tomar el bloqueo de la tarea sin esperar; se libera al terminar la transacción actual
+     * @return true si este nodo tiene el bloqueo, false si otro nodo está ejecutando la tarea
+     */
+    boolean intentarAdquirir(long clave);
+}
@@ -0,0 +1,42 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Puerto (interfaz) para los contadores materializados de asistencias por evento
+ */
+public interface EstadisticasEventoRepository {
+
+    Optional<ConteoAsistencias> findByEventoId(Long eventoId);
+
+    Map<Long, ConteoAsistencias> findByEventoIds(Collection<Long> eventoIds);
+
+    /**
+     * Registra los deltas del evento en la transacción actual
+     * (p. ej. CONFIRMADO -1 y CANCELADO +1 al cancelar); las lecturas los incluyen de inmediato
+     */
+    void ajustar(Long eventoId, Map<EstadoAsistencia, Integer> deltas);
+
+    /**
+     * Suma a los contadores hasta limite deltas registrados y los descarta
+     * @return deltas compactados
+     */
+    int compactar(int limite);
+
+    /**
+     * Recalcula los contadores del evento desde la tabla de asistencias, bajo el mismo
+     * bloqueo de fila que toma la compactación
+     */
+    void reconstruir(Long eventoId);
+
+    /**
+     * IDs de eventos mayores que despuesDe, en orden, para recorrerlos por lotes
+     */
+    List<Long> findEventoIds(Long despuesDe, int limite);
+}
@@ -4,8 +4,11 @@ import cue.edu.co.eventia_core_api.domain.model.Evento;
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto (interfaz) para el repositorio de Eventos
@@ -19,10 +22,20 @@ public interface EventoRepository {
 
     List<Evento> findAll();
 
+    List<Evento> findAllById(Collection<Long> ids);
+
+    /**
+     * Siguientes eventos por orden de ID a partir de "despuesDeId" (paginación por clave)
+     */
+    List<Evento> findSiguientes(long despuesDeId, int limite);
+
     List<Evento> findByEstado(EstadoEvento estado);
 
     List<Evento> findEventosProximos(LocalDateTime desde);
 
+    /**
+     * Eventos activos, no finalizados y con cupos libres
+     */
     List<Evento> findEventosConCapacidadDisponible();
 
     void deleteById(Long id);
@@ -30,5 +43,54 @@ public interface EventoRepository {
     boolean existsById(Long id);
 
     long count();
+
+    /**
+     * Reserva un cupo de forma atómica (UPDATE condicionado en base de datos)
+     * Solo incrementa si el evento está activo, no ha finalizado y no ha alcanzado su capacidad máxima
+     * @return true si se reservó el cupo, false si el evento está agotado, finalizado o no está activo
+     */
+    boolean reservarCupo(Long eventoId);
+
+    /**
+     * Libera un cupo de forma atómica sin permitir valores negativos
+     * @return true si se liberó el cupo
+     */
+    boolean liberarCupo(Long eventoId);
+
+    /**
+     * Reserva hasta "cantidad" cupos bloqueando la fila del evento durante la transacción
+     * @return cupos efectivamente reservados (0 si el evento está agotado, finalizado o no está activo)
+     */
+    int reservarCupos(Long eventoId, int cantidad);
+
+    /**
+     * Libera "cantidad" cupos en un único UPDATE sin permitir valores negativos
+     */
+    boolean liberarCupos(Long eventoId, int cantidad);
+
+    /**
+     * Aplica en un solo lote los deltas acumulados de participantes por evento
+     * Cada evento se actualiza solo si el resultado queda entre 0 y su capacidad máxima
+     * @return IDs de los eventos cuyo delta no se aplicó
+     */
+    Set<Long> sumarParticipantes(Map<Long, Integer> deltasPorEvento);
+
+    /**
+     * Recalcula participantes_registrados a partir de las asistencias que ocupan cupo
+     * @return número de eventos corregidos
+     */
+    int reconciliarParticipantesRegistrados();
+
+    /**
+     * Igual que reconciliarParticipantesRegistrados() pero solo para los eventos indicados
+     * @return número de eventos corregidos
+     */
+    int reconciliarParticipantesRegistrados(Collection<Long> eventoIds);
+
+    /**
+     * Pasa a FINALIZADO hasta "limite" eventos ACTIVO cuya fecha de fin ya pasó, en un solo UPDATE
+     * @return IDs de los eventos finalizados
+     */
+    List<Long> finalizarTerminados(LocalDateTime ahora, int limite);
 }
 
@@ -0,0 +1,17 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+import cue.edu.co.eventia_core_api.domain.model.AsistenciaExportada;
+
+import java.util.function.Consumer;
+
+/**
+ * Puerto para recorrer asistencias fila a fila sin cargarlas completas en memoria
+ */
+public interface ExportadorAsistencias {
+
+    /**
+     * Entrega al consumidor cada asistencia del evento en orden de ID a medida que se leen
+     * Si el consumidor lanza una excepción, la lectura se detiene y se libera el cursor
+     */
+    void recorrerPorEvento(Long eventoId, Consumer<AsistenciaExportada> consumidor);
+}
@@ -0,0 +1,18 @@
+package cue.edu.co.eventia_core_api.domain.repository;
+
+import cue.edu.co.eventia_core_api.domain.service.ResultadoImportacionParticipantes;
+
+import java.io.Reader;
+
+/**
+ * Puerto para la carga masiva de participantes desde un CSV
+ * Columnas esperadas (con encabezado): nombre,apellido,email,telefono,documento,tipo_documento
+ */
+public interface ImportadorParticipantes {
+
+    /**
+     * Carga el archivo completo en una sola transacción: valida y detecta duplicados por conjunto,
+     * inserta las filas válidas y devuelve las rechazadas con su motivo
+     */
+    ResultadoImportacionParticipantes importar(Reader csv);
+}
@@ -2,6 +2,7 @@ package cue.edu.co.eventia_core_api.domain.repository;
 
 import cue.edu.co.eventia_core_api.domain.model.Participante;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,10 +21,19 @@ public interface ParticipanteRepository {
 
     List<Participante> findAll();
 
+    List<Participante> findAllById(Collection<Long> ids);
+
+    /**
+     * Siguientes participantes por orden de ID a partir de "despuesDeId" (paginación por clave)
+     */
+    List<Participante> findSiguientes(long despuesDeId, int limite);
+
     void deleteById(Long id);
 
     boolean existsById(Long id);
 
+    List<Long> findIdsExistentes(Collection<Long> ids);
+
     boolean existsByEmail(String email);
 
     boolean existsByDocumento(String documento);
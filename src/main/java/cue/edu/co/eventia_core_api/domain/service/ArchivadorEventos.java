@@ -0,0 +1,61 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.repository.ArchivoEventosRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Mueve periódicamente al archivo los eventos terminados (FINALIZADO o CANCELADO) cuya fecha
+ * de fin tenga más de eventia.archivo.antiguedad, junto con sus asistencias
+ * - Cada lote es una transacción: un fallo a mitad de camino no deja eventos a medio mover
+ * - Tras cada lote se invalidan las entradas de caché de los eventos movidos y sus listados
+ * Las lecturas de ConsultaConArchivoService siguen encontrando los eventos en el archivo.
+ */
+@Component
+@ConditionalOnProperty(name = "eventia.archivo.enabled", havingValue = "true")
+@Slf4j
+public class ArchivadorEventos {
+
+    private final ArchivoEventosRepository archivoRepository;
+    private final InvalidadorCache invalidadorCache;
+    private final Duration antiguedad;
+    private final int tamanoLote;
+
+    public ArchivadorEventos(ArchivoEventosRepository archivoRepository,
+                             InvalidadorCache invalidadorCache,
+                             @Value("${eventia.archivo.antiguedad:90d}") Duration antiguedad,
+                             @Value("${eventia.archivo.tamano-lote:200}") int tamanoLote) {
+        this.archivoRepository = archivoRepository;
+        this.invalidadorCache = invalidadorCache;
+        this.antiguedad = antiguedad;
+        this.tamanoLote = tamanoLote;
+    }
+
+    @Scheduled(cron = "${eventia.archivo.cron:0 0 4 * * *}")
+    public void archivar() {
+        long inicio = System.currentTimeMillis();
+        LocalDateTime terminadosAntesDe = LocalDateTime.now().minus(antiguedad);
+        int total = 0;
+        List<Long> archivados;
+        do {
+            archivados = archivoRepository.archivarTerminados(terminadosAntesDe, tamanoLote);
+            archivados.forEach(eventoId -> {
+                invalidadorCache.evento(eventoId);
+                invalidadorCache.asistenciasDeEvento(eventoId);
+            });
+            total += archivados.size();
+        } while (archivados.size() == tamanoLote);
+
+        if (total > 0) {
+            log.info("{} eventos terminados antes de {} archivados en {} ms",
+                    total, terminadosAntesDe, System.currentTimeMillis() - inicio);
+        }
+    }
+}
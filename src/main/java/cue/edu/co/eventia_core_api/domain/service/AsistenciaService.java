@@ -1,24 +1,46 @@
 package cue.edu.co.eventia_core_api.domain.service;
 
 import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.AsistenciaExportada;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
 import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
 import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
+import cue.edu.co.eventia_core_api.domain.model.SolicitudAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido.ResultadoReserva;
 import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ExportadorAsistencias;
 import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
+import cue.edu.co.eventia_core_api.exception.EventoAgotadoException;
 import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Servicio de dominio para la gestión de Asistencias
  * Implementa reglas de negocio como validación de cupos y evitar doble registro
+ * Réplicas de lectura: ver EventoService
  */
 @Service
 @RequiredArgsConstructor
@@ -28,13 +50,24 @@ public class AsistenciaService {
     private final AsistenciaRepository asistenciaRepository;
     private final EventoService eventoService;
     private final ParticipanteService participanteService;
+    private final AsignadorCuposDistribuido asignadorCupos;
+    private final ListaEsperaService listaEsperaService;
+    private final EstadisticasEventoRepository estadisticasRepository;
+    private final InvalidadorCache invalidadorCache;
+    private final ExportadorAsistencias exportadorAsistencias;
+
+    private static final int MAX_EVENTOS_ESTADISTICAS = 100;
 
     /**
      * Registra un participante en un evento
-     * Valida capacidad y doble registro
+     * Reserva el cupo con un UPDATE atómico sobre el evento y resuelve el doble registro en el
+     * propio INSERT (ON CONFLICT): si el participante ya estaba, la transacción se revierte y
+     * el cupo reservado se devuelve.
+     * Con el asignador distribuido habilitado, capacidad y doble registro se resuelven
+     * primero en Redis; si Redis no está disponible se usa solo la base de datos.
+     * Si el evento está agotado y la lista de espera está habilitada, la asistencia queda EN_ESPERA.
      */
     @Transactional
-    @CacheEvict(value = {"asistencias", "estadisticasEvento"}, allEntries = true)
     public Asistencia registrarAsistencia(Long eventoId, Long participanteId, String notas) {
         log.info("Registrando asistencia - Evento: {}, Participante: {}", eventoId, participanteId);
 
@@ -52,14 +85,29 @@ public class AsistenciaService {
             throw new BusinessRuleException("No se puede registrar en un evento que ya finalizó");
         }
 
-        // Validar que no exista un registro previo (evitar doble registro)
-        if (asistenciaRepository.existsByEventoIdAndParticipanteId(eventoId, participanteId)) {
+        // Pre-validación distribuida: capacidad y doble registro en un solo round trip a Redis
+        ResultadoReserva preReserva = asignadorCupos.reservar(eventoId, participanteId);
+        if (preReserva == ResultadoReserva.DUPLICADO) {
             throw new BusinessRuleException("El participante ya está registrado en este evento");
         }
-
-        // Validar capacidad disponible
-        if (!evento.tieneCapacidadDisponible()) {
-            throw new BusinessRuleException("El evento ha alcanzado su capacidad máxima");
+        boolean listaEsperaHabilitada = listaEsperaService.habilitada();
+
+        // Reservar el cupo de forma atómica (el evento en caché puede estar desactualizado)
+        // Un AGOTADO de Redis también se confirma aquí: su contador puede no reflejar liberaciones
+        // hechas mientras no respondía
+        EstadoAsistencia estado = EstadoAsistencia.CONFIRMADO;
+        if (!eventoService.incrementarParticipantes(eventoId)) {
+            if (!listaEsperaHabilitada) {
+                throw new EventoAgotadoException(eventoId);
+            }
+            if (preReserva == ResultadoReserva.RESERVADO) {
+                // Redis entregó un cupo que la base de datos ya no tenía
+                asignadorCupos.invalidar(eventoId);
+            }
+            estado = EstadoAsistencia.EN_ESPERA;
+        } else if (preReserva == ResultadoReserva.AGOTADO) {
+            // La base de datos sí tenía cupo: el estado del evento en Redis está desactualizado
+            asignadorCupos.invalidar(eventoId);
         }
 
         // Crear la asistencia
@@ -67,24 +115,139 @@ public class AsistenciaService {
                 .eventoId(eventoId)
                 .participanteId(participanteId)
                 .fechaRegistro(LocalDateTime.now())
-                .estado(EstadoAsistencia.CONFIRMADO)
+                .estado(estado)
                 .notas(notas)
                 .build();
 
-        Asistencia asistenciaGuardada = asistenciaRepository.save(asistencia);
+        // La restricción única detecta el doble registro en la misma escritura
+        Asistencia asistenciaGuardada = asistenciaRepository.insertarSiNoExiste(asistencia)
+                .orElseThrow(() -> {
+                    if (preReserva == ResultadoReserva.RESERVADO) {
+                        // Redis no tenía al participante: su estado del evento está desactualizado
+                        asignadorCupos.invalidar(eventoId);
+                    }
+                    return new BusinessRuleException("El participante ya está registrado en este evento");
+                });
 
-        // Incrementar contador de participantes en el evento
-        eventoService.incrementarParticipantes(eventoId);
+        registrarTransicion(eventoId, null, estado);
 
-        log.info("Asistencia registrada exitosamente con ID: {}", asistenciaGuardada.getId());
+        log.info("Asistencia registrada exitosamente con ID: {} ({})", asistenciaGuardada.getId(), estado);
         return asistenciaGuardada;
     }
 
+    /**
+     * Registra varias asistencias en una sola transacción
+     * - Valida eventos, participantes y registros previos con una consulta por tipo (por evento)
+     * - Reserva los cupos una sola vez por evento
+     * - Inserta todas las asistencias en un único lote JDBC
+     * Devuelve el resultado de cada solicitud en el mismo orden recibido
+     */
+    @Transactional
+    public ResultadoRegistroLote registrarAsistenciasEnLote(List<SolicitudAsistencia> solicitudes) {
+        log.info("Registrando lote de {} asistencias", solicitudes.size());
+
+        Map<Long, Evento> eventos = eventoService.obtenerEventosPorIds(
+                        solicitudes.stream().map(SolicitudAsistencia::getEventoId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Evento::getId, Function.identity()));
+        Set<Long> participantes = participanteService.obtenerIdsExistentes(
+                solicitudes.stream().map(SolicitudAsistencia::getParticipanteId).collect(Collectors.toSet()));
+
+        ResultadoRegistro[] resultados = new ResultadoRegistro[solicitudes.size()];
+
+        // Agrupar por evento las solicitudes que pasan las validaciones básicas
+        Map<Long, List<Integer>> indicesPorEvento = new LinkedHashMap<>();
+        for (int i = 0; i < solicitudes.size(); i++) {
+            SolicitudAsistencia solicitud = solicitudes.get(i);
+            String motivo = motivoRechazo(eventos.get(solicitud.getEventoId()),
+                    participantes.contains(solicitud.getParticipanteId()));
+            if (motivo != null) {
+                resultados[i] = ResultadoRegistro.fallido(i, solicitud, ResultadoRegistro.Estado.RECHAZADO, motivo);
+                continue;
+            }
+            indicesPorEvento.computeIfAbsent(solicitud.getEventoId(), id -> new ArrayList<>()).add(i);
+        }
+
+        boolean listaEsperaHabilitada = listaEsperaService.habilitada();
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Asistencia> nuevas = new ArrayList<>();
+        List<Integer> indicesNuevas = new ArrayList<>();
+
+        for (Map.Entry<Long, List<Integer>> entrada : indicesPorEvento.entrySet()) {
+            Long eventoId = entrada.getKey();
+            List<Integer> indices = entrada.getValue();
+
+            // Doble registro: contra la base de datos y dentro del mismo lote
+            Set<Long> registrados = new HashSet<>(asistenciaRepository.findParticipanteIdsRegistrados(
+                    eventoId, indices.stream().map(i -> solicitudes.get(i).getParticipanteId()).toList()));
+            List<Integer> candidatos = new ArrayList<>();
+            for (Integer indice : indices) {
+                SolicitudAsistencia solicitud = solicitudes.get(indice);
+                if (!registrados.add(solicitud.getParticipanteId())) {
+                    resultados[indice] = ResultadoRegistro.fallido(indice, solicitud, ResultadoRegistro.Estado.DUPLICADO,
+                            "El participante ya está registrado en este evento");
+                } else {
+                    candidatos.add(indice);
+                }
+            }
+            if (candidatos.isEmpty()) {
+                continue;
+            }
+
+            int cupos = eventoService.reservarCupos(eventoId, candidatos.size());
+            for (int k = 0; k < candidatos.size(); k++) {
+                int indice = candidatos.get(k);
+                SolicitudAsistencia solicitud = solicitudes.get(indice);
+                if (k >= cupos && !listaEsperaHabilitada) {
+                    resultados[indice] = ResultadoRegistro.fallido(indice, solicitud, ResultadoRegistro.Estado.AGOTADO,
+                            "El evento ha alcanzado su capacidad máxima");
+                    continue;
+                }
+                nuevas.add(Asistencia.builder()
+                        .eventoId(eventoId)
+                        .participanteId(solicitud.getParticipanteId())
+                        .fechaRegistro(ahora)
+                        .estado(k < cupos ? EstadoAsistencia.CONFIRMADO : EstadoAsistencia.EN_ESPERA)
+                        .notas(solicitud.getNotas())
+                        .build());
+                indicesNuevas.add(indice);
+            }
+
+            // Los cupos se tomaron sin pasar por Redis: se reconstruye en el siguiente uso
+            asignadorCupos.invalidar(eventoId);
+        }
+
+        List<Asistencia> guardadas;
+        try {
+            guardadas = asistenciaRepository.saveAll(nuevas);
+        } catch (DataIntegrityViolationException ex) {
+            // Un registro concurrente ganó la carrera por alguna de las parejas: se revierte el lote completo
+            throw new BusinessRuleException(
+                    "Otro registro concurrente duplicó alguna asistencia del lote, intente nuevamente", ex);
+        }
+        for (int j = 0; j < guardadas.size(); j++) {
+            resultados[indicesNuevas.get(j)] = ResultadoRegistro.registrado(indicesNuevas.get(j), guardadas.get(j));
+        }
+
+        // Un ajuste de contadores por evento para todo el lote
+        Map<Long, Map<EstadoAsistencia, Integer>> deltasPorEvento = guardadas.stream()
+                .collect(Collectors.groupingBy(Asistencia::getEventoId,
+                        Collectors.groupingBy(Asistencia::getEstado, () -> new EnumMap<>(EstadoAsistencia.class),
+                                Collectors.summingInt(a -> 1))));
+        deltasPorEvento.forEach(estadisticasRepository::ajustar);
+        invalidadorCache.asistenciasDeEventos(deltasPorEvento.keySet());
+
+        ResultadoRegistroLote resultado = ResultadoRegistroLote.de(Arrays.asList(resultados));
+        log.info("Lote registrado - Creadas: {}, En espera: {}, Duplicadas: {}, Agotadas: {}, Rechazadas: {}",
+                resultado.getCreados(), resultado.getEnEspera(), resultado.getDuplicados(),
+                resultado.getAgotados(), resultado.getRechazados());
+        return resultado;
+    }
+
     /**
      * Cancela una asistencia
      */
     @Transactional
-    @CacheEvict(value = {"asistencias", "estadisticasEvento"}, allEntries = true)
     public Asistencia cancelarAsistencia(Long asistenciaId) {
         log.info("Cancelando asistencia con ID: {}", asistenciaId);
 
@@ -94,11 +257,18 @@ public class AsistenciaService {
             throw new BusinessRuleException("La asistencia ya está cancelada");
         }
 
+        boolean liberaCupo = asistencia.ocupaCupo();
+        EstadoAsistencia estadoAnterior = asistencia.getEstado();
         asistencia.cancelar();
         Asistencia asistenciaActualizada = asistenciaRepository.save(asistencia);
+        registrarTransicion(asistencia.getEventoId(), estadoAnterior, EstadoAsistencia.CANCELADO);
 
-        // Decrementar contador de participantes en el evento
-        eventoService.decrementarParticipantes(asistencia.getEventoId());
+        // Liberar el cupo si la asistencia lo estaba ocupando
+        if (liberaCupo) {
+            eventoService.decrementarParticipantes(asistencia.getEventoId());
+            asignadorCupos.liberar(asistencia.getEventoId(), asistencia.getParticipanteId(), false);
+            listaEsperaService.promover(asistencia.getEventoId());
+        }
 
         return asistenciaActualizada;
     }
@@ -107,41 +277,71 @@ public class AsistenciaService {
      * Marca que un participante asistió al evento
      */
     @Transactional
-    @CacheEvict(value = {"asistencias", "estadisticasEvento"}, allEntries = true)
     public Asistencia marcarAsistio(Long asistenciaId) {
         log.info("Marcando asistencia como asistió: {}", asistenciaId);
 
         Asistencia asistencia = obtenerAsistenciaPorId(asistenciaId);
+        validarFueraDeEspera(asistencia);
+        EstadoAsistencia estadoAnterior = asistencia.getEstado();
         asistencia.marcarAsistio();
 
-        return asistenciaRepository.save(asistencia);
+        Asistencia asistenciaActualizada = asistenciaRepository.save(asistencia);
+        registrarTransicion(asistencia.getEventoId(), estadoAnterior, EstadoAsistencia.ASISTIO);
+        return asistenciaActualizada;
     }
 
     /**
      * Marca que un participante NO asistió al evento
      */
     @Transactional
-    @CacheEvict(value = {"asistencias", "estadisticasEvento"}, allEntries = true)
     public Asistencia marcarNoAsistio(Long asistenciaId) {
         log.info("Marcando asistencia como NO asistió: {}", asistenciaId);
 
         Asistencia asistencia = obtenerAsistenciaPorId(asistenciaId);
+        validarFueraDeEspera(asistencia);
+        EstadoAsistencia estadoAnterior = asistencia.getEstado();
         asistencia.marcarNoAsistio();
 
-        return asistenciaRepository.save(asistencia);
+        Asistencia asistenciaActualizada = asistenciaRepository.save(asistencia);
+        registrarTransicion(asistencia.getEventoId(), estadoAnterior, EstadoAsistencia.NO_ASISTIO);
+        return asistenciaActualizada;
     }
 
+    /**
+     * Obtiene la posición de una asistencia en la lista de espera de su evento
+     */
+    public long obtenerPosicionEnEspera(Long asistenciaId) {
+        return listaEsperaService.obtenerPosicion(asistenciaId);
+    }
+
+    @Transactional(readOnly = true)
     public Asistencia obtenerAsistenciaPorId(Long id) {
         return asistenciaRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Asistencia", "id", id));
     }
 
-    @Cacheable(value = "asistencias", key = "#eventoId")
-    public List<Asistencia> obtenerAsistenciasPorEvento(Long eventoId) {
-        log.debug("Obteniendo asistencias del evento: {}", eventoId);
-        return asistenciaRepository.findByEventoId(eventoId);
+    /**
+     * Obtiene una página de las asistencias del evento ordenadas por ID (paginación por clave)
+     * @param despuesDeId ID de la última asistencia de la página anterior (null para la primera)
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Asistencia> obtenerPaginaAsistenciasPorEvento(Long eventoId, Long despuesDeId, int limite) {
+        log.debug("Obteniendo página de asistencias del evento {} después de {} (límite {})",
+                eventoId, despuesDeId, limite);
+        long desde = despuesDeId != null ? despuesDeId : 0L;
+        return Pagina.de(asistenciaRepository.findSiguientesPorEvento(eventoId, desde, limite + 1),
+                limite, Asistencia::getId);
+    }
+
+    /**
+     * Recorre las asistencias del evento fila a fila para exportarlas sin materializar el listado
+     */
+    public void exportarAsistenciasPorEvento(Long eventoId, Consumer<AsistenciaExportada> consumidor) {
+        log.debug("Exportando asistencias del evento: {}", eventoId);
+        exportadorAsistencias.recorrerPorEvento(eventoId, consumidor);
     }
 
+    @Transactional(readOnly = true)
     public List<Asistencia> obtenerAsistenciasPorParticipante(Long participanteId) {
         log.debug("Obteniendo asistencias del participante: {}", participanteId);
         return asistenciaRepository.findByParticipanteId(participanteId);
@@ -149,46 +349,111 @@ public class AsistenciaService {
 
     /**
      * Obtiene estadísticas de un evento (con caché)
+     * Los contadores se leen por clave primaria de evento_estadisticas; si el evento
+     * aún no tiene fila se calculan con una sola consulta agregada
      */
-    @Cacheable(value = "estadisticasEvento", key = "#eventoId")
+    @Cacheable(value = "estadisticasEvento", key = "#eventoId", sync = true)
+    @Transactional
     public EstadisticasEvento obtenerEstadisticas(Long eventoId) {
         log.debug("Obteniendo estadísticas del evento: {}", eventoId);
 
         Evento evento = eventoService.obtenerEventoPorId(eventoId);
+        ConteoAsistencias conteo = estadisticasRepository.findByEventoId(eventoId)
+                .orElseGet(() -> asistenciaRepository.contarPorEstado(eventoId));
+        return EstadisticasEvento.de(evento, conteo);
+    }
+
+    /**
+     * Obtiene estadísticas de varios eventos con una consulta de eventos y una de conteos
+     * Los IDs que no corresponden a un evento se omiten
+     */
+    @Transactional(readOnly = true)
+    public List<EstadisticasEvento> obtenerEstadisticasDeEventos(Collection<Long> eventoIds) {
+        log.debug("Obteniendo estadísticas de {} eventos", eventoIds.size());
 
-        long totalRegistrados = asistenciaRepository.countByEventoId(eventoId);
-        long confirmados = asistenciaRepository.countByEventoIdAndEstado(eventoId, EstadoAsistencia.CONFIRMADO);
-        long cancelados = asistenciaRepository.countByEventoIdAndEstado(eventoId, EstadoAsistencia.CANCELADO);
-        long asistieron = asistenciaRepository.countByEventoIdAndEstado(eventoId, EstadoAsistencia.ASISTIO);
-        long noAsistieron = asistenciaRepository.countByEventoIdAndEstado(eventoId, EstadoAsistencia.NO_ASISTIO);
+        if (eventoIds.size() > MAX_EVENTOS_ESTADISTICAS) {
+            throw new BusinessRuleException(
+                    "No se pueden consultar más de " + MAX_EVENTOS_ESTADISTICAS + " eventos a la vez");
+        }
 
-        return EstadisticasEvento.builder()
-                .eventoId(eventoId)
-                .nombreEvento(evento.getNombre())
-                .capacidadMaxima(evento.getCapacidadMaxima())
-                .totalRegistrados((int) totalRegistrados)
-                .confirmados((int) confirmados)
-                .cancelados((int) cancelados)
-                .asistieron((int) asistieron)
-                .noAsistieron((int) noAsistieron)
-                .cuposDisponibles(evento.getCuposDisponibles())
-                .porcentajeOcupacion(evento.getPorcentajeOcupacion())
-                .build();
+        Map<Long, Evento> eventos = eventoService.obtenerEventosPorIds(eventoIds).stream()
+                .collect(Collectors.toMap(Evento::getId, Function.identity()));
+        Map<Long, ConteoAsistencias> conteos = new HashMap<>(estadisticasRepository.findByEventoIds(eventos.keySet()));
+        Set<Long> sinContadores = eventos.keySet().stream()
+                .filter(id -> !conteos.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!sinContadores.isEmpty()) {
+            conteos.putAll(asistenciaRepository.contarPorEstado(sinContadores));
+        }
+
+        return eventoIds.stream()
+                .distinct()
+                .filter(eventos::containsKey)
+                .map(id -> EstadisticasEvento.de(eventos.get(id), conteos.get(id)))
+                .collect(Collectors.toList());
     }
 
     @Transactional
-    @CacheEvict(value = {"asistencias", "estadisticasEvento"}, allEntries = true)
     public void eliminarAsistencia(Long id) {
         log.info("Eliminando asistencia con ID: {}", id);
 
         Asistencia asistencia = obtenerAsistenciaPorId(id);
 
-        // Si estaba confirmada, decrementar el contador
-        if (asistencia.getEstado() == EstadoAsistencia.CONFIRMADO) {
+        // Si ocupaba un cupo, liberarlo
+        if (asistencia.ocupaCupo()) {
             eventoService.decrementarParticipantes(asistencia.getEventoId());
+            asignadorCupos.liberar(asistencia.getEventoId(), asistencia.getParticipanteId(), true);
+        } else {
+            asignadorCupos.invalidar(asistencia.getEventoId());
         }
 
         asistenciaRepository.deleteById(id);
+        registrarTransicion(asistencia.getEventoId(), asistencia.getEstado(), null);
+
+        if (asistencia.ocupaCupo()) {
+            listaEsperaService.promover(asistencia.getEventoId());
+        }
+    }
+
+    /**
+     * Refleja en los contadores materializados el cambio de estado de una asistencia
+     * (anterior nulo = alta, nuevo nulo = eliminación) e invalida solo las entradas en caché de su evento
+     */
+    private void registrarTransicion(Long eventoId, EstadoAsistencia anterior, EstadoAsistencia nuevo) {
+        if (anterior == nuevo) {
+            return;
+        }
+        Map<EstadoAsistencia, Integer> deltas = new EnumMap<>(EstadoAsistencia.class);
+        if (anterior != null) {
+            deltas.merge(anterior, -1, Integer::sum);
+        }
+        if (nuevo != null) {
+            deltas.merge(nuevo, 1, Integer::sum);
+        }
+        estadisticasRepository.ajustar(eventoId, deltas);
+        invalidadorCache.asistenciasDeEvento(eventoId);
+    }
+
+    private String motivoRechazo(Evento evento, boolean participanteExiste) {
+        if (evento == null) {
+            return "Evento no encontrado";
+        }
+        if (!participanteExiste) {
+            return "Participante no encontrado";
+        }
+        if (!evento.estaActivo()) {
+            return "No se puede registrar en un evento que no está activo";
+        }
+        if (evento.haFinalizado()) {
+            return "No se puede registrar en un evento que ya finalizó";
+        }
+        return null;
+    }
+
+    private void validarFueraDeEspera(Asistencia asistencia) {
+        if (asistencia.estaEnEspera()) {
+            throw new BusinessRuleException("La asistencia está en lista de espera y no tiene cupo en el evento");
+        }
     }
 }
 
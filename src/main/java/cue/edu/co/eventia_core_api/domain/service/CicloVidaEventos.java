@@ -0,0 +1,130 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.BloqueoTareasProgramadas;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Avanza el ciclo de vida de los eventos sin intervención manual
+ * 1. Los eventos ACTIVO cuya fecha de fin ya pasó pasan a FINALIZADO
+ * 2. Pasado eventia.ciclo-vida.gracia-no-asistio desde el fin (margen para registrar asistencias
+ *    tardías), las asistencias que siguen CONFIRMADO pasan a NO_ASISTIO
+ * Cada lote es un UPDATE por conjunto en su propia transacción, que también ajusta los contadores
+ * de evento_estadisticas e invalida la caché solo de los eventos afectados. Un bloqueo por lote
+ * evita que dos nodos procesen a la vez; si otro nodo lo tiene, esta ejecución termina.
+ */
+@Component
+@ConditionalOnProperty(name = "eventia.ciclo-vida.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class CicloVidaEventos {
+
+    static final long CLAVE_BLOQUEO = 7_025_001L;
+
+    private final EventoRepository eventoRepository;
+    private final AsistenciaRepository asistenciaRepository;
+    private final EstadisticasEventoRepository estadisticasRepository;
+    private final BloqueoTareasProgramadas bloqueo;
+    private final InvalidadorCache invalidadorCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+    private final Duration graciaNoAsistio;
+
+    public CicloVidaEventos(EventoRepository eventoRepository,
+                            AsistenciaRepository asistenciaRepository,
+                            EstadisticasEventoRepository estadisticasRepository,
+                            BloqueoTareasProgramadas bloqueo,
+                            InvalidadorCache invalidadorCache,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${eventia.ciclo-vida.tamano-lote:500}") int tamanoLote,
+                            @Value("${eventia.ciclo-vida.gracia-no-asistio:24h}") Duration graciaNoAsistio) {
+        this.eventoRepository = eventoRepository;
+        this.asistenciaRepository = asistenciaRepository;
+        this.estadisticasRepository = estadisticasRepository;
+        this.bloqueo = bloqueo;
+        this.invalidadorCache = invalidadorCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+        this.graciaNoAsistio = graciaNoAsistio;
+    }
+
+    @Scheduled(fixedDelayString = "${eventia.ciclo-vida.intervalo-ms:60000}",
+               initialDelayString = "${eventia.ciclo-vida.intervalo-ms:60000}")
+    public void ejecutar() {
+        LocalDateTime ahora = LocalDateTime.now();
+        int finalizados = procesarPorLotes(() -> finalizarLote(ahora));
+        int noAsistieron = procesarPorLotes(() -> marcarNoAsistioLote(ahora.minus(graciaNoAsistio)));
+        if (finalizados > 0 || noAsistieron > 0) {
+            log.info("Ciclo de vida: {} eventos finalizados, {} asistencias marcadas como NO_ASISTIO",
+                    finalizados, noAsistieron);
+        }
+    }
+
+    /**
+     * Finaliza un lote de eventos terminados
+     * @return eventos finalizados, o null si otro nodo tiene el bloqueo
+     */
+    Integer finalizarLote(LocalDateTime ahora) {
+        return transactionTemplate.execute(estado -> {
+            if (!bloqueo.intentarAdquirir(CLAVE_BLOQUEO)) {
+                return null;
+            }
+            List<Long> finalizados = eventoRepository.finalizarTerminados(ahora, tamanoLote);
+            finalizados.forEach(invalidadorCache::evento);
+            return finalizados.size();
+        });
+    }
+
+    /**
+     * Marca como NO_ASISTIO hasta tamanoLote asistencias CONFIRMADO de eventos finalizados
+     * @return asistencias marcadas, o null si otro nodo tiene el bloqueo
+     */
+    Integer marcarNoAsistioLote(LocalDateTime terminadosAntesDe) {
+        return transactionTemplate.execute(estado -> {
+            if (!bloqueo.intentarAdquirir(CLAVE_BLOQUEO)) {
+                return null;
+            }
+            int restantes = tamanoLote;
+            for (Long eventoId : asistenciaRepository.findEventosFinalizadosConConfirmadas(terminadosAntesDe, tamanoLote)) {
+                if (restantes == 0) {
+                    break;
+                }
+                int marcadas = asistenciaRepository.marcarNoAsistioConfirmadas(eventoId, restantes);
+                if (marcadas > 0) {
+                    estadisticasRepository.ajustar(eventoId,
+                            Map.of(EstadoAsistencia.CONFIRMADO, -marcadas, EstadoAsistencia.NO_ASISTIO, marcadas));
+                    invalidadorCache.asistenciasDeEvento(eventoId);
+                    restantes -= marcadas;
+                }
+            }
+            return tamanoLote - restantes;
+        });
+    }
+
+    /**
+     * Repite el lote mientras salga completo (un lote incompleto significa que no quedan pendientes)
+     */
+    private int procesarPorLotes(Supplier<Integer> lote) {
+        int total = 0;
+        Integer procesados;
+        do {
+            procesados = lote.get();
+            total += procesados != null ? procesados : 0;
+        } while (procesados != null && procesados == tamanoLote);
+        return total;
+    }
+}
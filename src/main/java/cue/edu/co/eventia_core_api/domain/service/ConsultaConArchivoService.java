@@ -0,0 +1,98 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
+import cue.edu.co.eventia_core_api.domain.repository.ArchivoEventosRepository;
+import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lecturas de los endpoints que, si no encuentran el evento o la asistencia en las tablas activas,
+ * lo buscan en el archivo (ver ArchivadorEventos)
+ * - Primero se consulta el servicio habitual (con su caché); el archivo solo se lee ante un fallo
+ * - Las escrituras siguen usando EventoService y AsistenciaService: un evento archivado no se modifica
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ConsultaConArchivoService {
+
+    private final EventoService eventoService;
+    private final AsistenciaService asistenciaService;
+    private final ArchivoEventosRepository archivoRepository;
+
+    public Evento obtenerEvento(Long id) {
+        try {
+            return eventoService.obtenerEventoPorId(id);
+        } catch (ResourceNotFoundException ex) {
+            log.debug("Evento {} no está en las tablas activas, buscando en el archivo", id);
+            return archivoRepository.findEventoById(id).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Obtiene varios eventos; los que no están en las tablas activas se buscan en el archivo con una consulta
+     */
+    public List<Evento> obtenerEventosPorIds(Collection<Long> ids) {
+        List<Evento> eventos = eventoService.obtenerEventosPorIds(ids);
+        Set<Long> encontrados = eventos.stream().map(Evento::getId).collect(Collectors.toSet());
+        Set<Long> faltantes = ids.stream()
+                .filter(id -> !encontrados.contains(id))
+                .collect(Collectors.toSet());
+        if (faltantes.isEmpty()) {
+            return eventos;
+        }
+        List<Evento> todos = new ArrayList<>(eventos);
+        todos.addAll(archivoRepository.findEventosByIds(faltantes));
+        return todos;
+    }
+
+    public Asistencia obtenerAsistencia(Long id) {
+        try {
+            return asistenciaService.obtenerAsistenciaPorId(id);
+        } catch (ResourceNotFoundException ex) {
+            return archivoRepository.findAsistenciaById(id).orElseThrow(() -> ex);
+        }
+    }
+
+    /**
+     * Página de asistencias del evento; si las tablas activas no tienen ninguna, se pagina el archivo
+     * (un evento está entero en un lado o en el otro)
+     */
+    public Pagina<Asistencia> obtenerPaginaAsistenciasPorEvento(Long eventoId, Long despuesDeId, int limite) {
+        Pagina<Asistencia> pagina = asistenciaService.obtenerPaginaAsistenciasPorEvento(eventoId, despuesDeId, limite);
+        if (!pagina.getElementos().isEmpty()) {
+            return pagina;
+        }
+        long desde = despuesDeId != null ? despuesDeId : 0L;
+        return Pagina.de(archivoRepository.findAsistenciasSiguientesPorEvento(eventoId, desde, limite + 1),
+                limite, Asistencia::getId);
+    }
+
+    /**
+     * Historial completo del participante: asistencias activas seguidas de las archivadas
+     */
+    public List<Asistencia> obtenerAsistenciasPorParticipante(Long participanteId) {
+        List<Asistencia> asistencias = new ArrayList<>(asistenciaService.obtenerAsistenciasPorParticipante(participanteId));
+        asistencias.addAll(archivoRepository.findAsistenciasByParticipanteId(participanteId));
+        return asistencias;
+    }
+
+    public EstadisticasEvento obtenerEstadisticas(Long eventoId) {
+        try {
+            return asistenciaService.obtenerEstadisticas(eventoId);
+        } catch (ResourceNotFoundException ex) {
+            Evento evento = archivoRepository.findEventoById(eventoId).orElseThrow(() -> ex);
+            return EstadisticasEvento.de(evento, archivoRepository.contarPorEstado(eventoId));
+        }
+    }
+}
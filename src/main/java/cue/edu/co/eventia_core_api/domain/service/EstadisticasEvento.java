@@ -1,5 +1,7 @@
 package cue.edu.co.eventia_core_api.domain.service;
 
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,7 +23,26 @@ public class EstadisticasEvento {
     private Integer cancelados;
     private Integer asistieron;
     private Integer noAsistieron;
+    private Integer enEspera;
     private Integer cuposDisponibles;
     private Double porcentajeOcupacion;
-}
 
+    /**
+     * Estadísticas de un evento a partir de sus contadores por estado
+     */
+    public static EstadisticasEvento de(Evento evento, ConteoAsistencias conteo) {
+        return EstadisticasEvento.builder()
+                .eventoId(evento.getId())
+                .nombreEvento(evento.getNombre())
+                .capacidadMaxima(evento.getCapacidadMaxima())
+                .totalRegistrados((int) conteo.getTotal())
+                .confirmados((int) conteo.getConfirmados())
+                .cancelados((int) conteo.getCancelados())
+                .asistieron((int) conteo.getAsistieron())
+                .noAsistieron((int) conteo.getNoAsistieron())
+                .enEspera((int) conteo.getEnEspera())
+                .cuposDisponibles(evento.getCuposDisponibles())
+                .porcentajeOcupacion(evento.getPorcentajeOcupacion())
+                .build();
+    }
+}
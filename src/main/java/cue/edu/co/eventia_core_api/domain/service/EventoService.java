@@ -1,23 +1,29 @@
 package cue.edu.co.eventia_core_api.domain.service;
 
+import cue.edu.co.eventia_core_api.domain.model.CapacidadEventoAmpliada;
 import cue.edu.co.eventia_core_api.domain.model.Evento;
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
 import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
 import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
 import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Servicio de dominio para la gestión de Eventos
  * Contiene la lógica de negocio relacionada con eventos
+ * Las consultas de solo lectura pueden ir a una réplica; las que llenan cachés leen de la primaria
+ * (@Transactional sin readOnly) para no guardar en caché datos de una réplica atrasada
  */
 @Service  // Indica que esta clase es un servicio de Spring
 @RequiredArgsConstructor  // Lombok crea el constructor automáticamente
@@ -26,16 +32,23 @@ public class EventoService {
 
     // Repositorio para acceder a la base de datos de eventos
     private final EventoRepository eventoRepository;
+    // Ledger en memoria para los eventos con cupos de alta concurrencia (opcional)
+    private final LedgerCupos ledgerCupos;
+    // Estado de cupos compartido entre nodos en Redis (opcional)
+    private final AsignadorCuposDistribuido asignadorCupos;
+    // Publica eventos de dominio (p. ej. ampliación de capacidad para promover la lista de espera)
+    private final ApplicationEventPublisher eventPublisher;
+    // Invalida solo las entradas de caché afectadas (por ID y por versión de lista)
+    private final InvalidadorCache invalidadorCache;
 
     /**
      * Crear un nuevo evento
      * - Valida los datos del evento
      * - Establece valores iniciales (participantes en 0, estado ACTIVO)
      * - Guarda en la base de datos
-     * - Limpia el caché para que las consultas futuras vean el nuevo evento
+     * - Invalida las listas en caché para que las consultas futuras vean el nuevo evento
      */
     @Transactional  // Si algo falla, todo se revierte (rollback)
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos"}, allEntries = true)  // Limpia el caché
     public Evento crearEvento(Evento evento) {
         log.info("Creando nuevo evento: {}", evento.getNombre());
 
@@ -48,7 +61,11 @@ public class EventoService {
         evento.setFechaCreacion(LocalDateTime.now());
 
         // Guardar en la base de datos
-        return eventoRepository.save(evento);
+        Evento eventoGuardado = eventoRepository.save(evento);
+
+        // Solo cambian las listas de eventos: las entradas por ID de otros eventos siguen válidas
+        invalidadorCache.listasEventos();
+        return eventoGuardado;
     }
 
     /**
@@ -59,10 +76,12 @@ public class EventoService {
      * - Actualiza y guarda
      */
     @Transactional
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos"}, allEntries = true)
     public Evento actualizarEvento(Long id, Evento eventoActualizado) {
         log.info("Actualizando evento con ID: {}", id);
 
+        // Los cupos tomados en el ledger aún no volcados no están en participantes_registrados
+        ledgerCupos.volcarEvento(id);
+
         // Buscar el evento actual en la base de datos
         Evento eventoExistente = obtenerEventoPorId(id);
 
@@ -81,41 +100,70 @@ public class EventoService {
         eventoActualizado.setFechaCreacion(eventoExistente.getFechaCreacion());
         eventoActualizado.setFechaActualizacion(LocalDateTime.now());
 
-        return eventoRepository.save(eventoActualizado);
+        Evento eventoGuardado = eventoRepository.save(eventoActualizado);
+
+        // La capacidad pudo cambiar: el ledger y Redis deben recargar el evento
+        ledgerCupos.invalidar(id);
+        asignadorCupos.invalidar(id);
+        invalidadorCache.evento(id);
+
+        // Si hay nuevos cupos, la lista de espera puede avanzar dentro de esta misma transacción
+        if (eventoActualizado.getCapacidadMaxima() > eventoExistente.getCapacidadMaxima()) {
+            eventPublisher.publishEvent(new CapacidadEventoAmpliada(id));
+        }
+
+        return eventoGuardado;
     }
 
-    @Cacheable(value = "eventos", key = "#id")
+    @Cacheable(value = "eventos", key = "#id", sync = true)
+    @Transactional
     public Evento obtenerEventoPorId(Long id) {
         log.debug("Obteniendo evento por ID: {}", id);
         return eventoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Evento", "id", id));
     }
 
-    @Cacheable(value = "eventos")
-    public List<Evento> obtenerTodosLosEventos() {
-        log.debug("Obteniendo todos los eventos");
-        return eventoRepository.findAll();
+    /**
+     * Obtiene varios eventos con una sola consulta (sin caché, usado en registros por lote)
+     */
+    @Transactional(readOnly = true)
+    public List<Evento> obtenerEventosPorIds(Collection<Long> ids) {
+        log.debug("Obteniendo {} eventos por ID", ids.size());
+        return eventoRepository.findAllById(ids);
     }
 
-    @Cacheable(value = "eventosDisponibles")
+    /**
+     * Obtiene una página de eventos ordenados por ID (paginación por clave)
+     * @param despuesDeId ID del último evento de la página anterior (null para la primera)
+     */
+    @Transactional
+    public Pagina<Evento> obtenerPaginaEventos(Long despuesDeId, int limite) {
+        log.debug("Obteniendo página de eventos después de {} (límite {})", despuesDeId, limite);
+        long desde = despuesDeId != null ? despuesDeId : 0L;
+        return Pagina.de(eventoRepository.findSiguientes(desde, limite + 1), limite, Evento::getId);
+    }
+
+    @Cacheable(value = "eventosDisponibles", key = "@invalidadorCache.version('eventos')", sync = true)
+    @Transactional
     public List<Evento> obtenerEventosConCapacidadDisponible() {
         log.debug("Obteniendo eventos con capacidad disponible");
         return eventoRepository.findEventosConCapacidadDisponible();
     }
 
-    @Cacheable(value = "eventosProximos")
+    @Cacheable(value = "eventosProximos", key = "@invalidadorCache.version('eventos')", sync = true)
+    @Transactional
     public List<Evento> obtenerEventosProximos() {
         log.debug("Obteniendo eventos próximos");
         return eventoRepository.findEventosProximos(LocalDateTime.now());
     }
 
+    @Transactional(readOnly = true)
     public List<Evento> obtenerEventosPorEstado(EstadoEvento estado) {
         log.debug("Obteniendo eventos con estado: {}", estado);
         return eventoRepository.findByEstado(estado);
     }
 
     @Transactional
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos"}, allEntries = true)
     public void eliminarEvento(Long id) {
         log.info("Eliminando evento con ID: {}", id);
 
@@ -123,11 +171,15 @@ public class EventoService {
             throw new ResourceNotFoundException("Evento", "id", id);
         }
 
+        // Sin esto el ledger y Redis conservarían cupos del evento borrado y volcarían deltas sobre él
+        ledgerCupos.invalidar(id);
+        asignadorCupos.invalidar(id);
         eventoRepository.deleteById(id);
+        invalidadorCache.evento(id);
+        invalidadorCache.asistenciasDeEvento(id);
     }
 
     @Transactional
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos"}, allEntries = true)
     public Evento cambiarEstadoEvento(Long id, EstadoEvento nuevoEstado) {
         log.info("Cambiando estado del evento {} a {}", id, nuevoEstado);
 
@@ -135,13 +187,19 @@ public class EventoService {
         evento.setEstado(nuevoEstado);
         evento.setFechaActualizacion(LocalDateTime.now());
 
-        return eventoRepository.save(evento);
+        Evento eventoGuardado = eventoRepository.save(evento);
+        ledgerCupos.invalidar(id);
+        asignadorCupos.invalidar(id);
+        invalidadorCache.evento(id);
+
+        return eventoGuardado;
     }
 
     /**
      * Verifica si un evento tiene capacidad disponible (con caché)
      */
-    @Cacheable(value = "capacidadEvento", key = "#eventoId")
+    @Cacheable(value = "capacidadEvento", key = "#eventoId", sync = true)
+    @Transactional
     public boolean verificarCapacidadDisponible(Long eventoId) {
         Evento evento = obtenerEventoPorId(eventoId);
         return evento.tieneCapacidadDisponible() && evento.estaActivo();
@@ -149,28 +207,71 @@ public class EventoService {
 
     /**
      * Incrementa el contador de participantes registrados
+     * La reserva se hace con un único UPDATE condicionado, así que nunca supera la capacidad.
+     * Si el evento está gestionado por el ledger, el cupo se toma en memoria y se vuelca por lotes.
+     * @return true si se reservó el cupo, false si el evento está agotado o no está activo
      */
     @Transactional
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos", "capacidadEvento"}, allEntries = true)
-    public void incrementarParticipantes(Long eventoId) {
-        Evento evento = obtenerEventoPorId(eventoId);
-        evento.setParticipantesRegistrados(evento.getParticipantesRegistrados() + 1);
-        evento.setFechaActualizacion(LocalDateTime.now());
-        eventoRepository.save(evento);
+    public boolean incrementarParticipantes(Long eventoId) {
+        // Con el ledger el contador en base de datos cambia al volcar, y ahí se invalida el evento
+        if (ledgerCupos.gestiona(eventoId)) {
+            return ledgerCupos.reservar(eventoId);
+        }
+        boolean reservado = eventoRepository.reservarCupo(eventoId);
+        if (reservado) {
+            invalidadorCache.cuposEvento(eventoId);
+        } else {
+            log.info("No se pudo reservar cupo en el evento {}: agotado o no activo", eventoId);
+        }
+        return reservado;
+    }
+
+    /**
+     * Reserva hasta "cantidad" cupos en una sola operación (promoción de la lista de espera)
+     * @return cupos efectivamente reservados
+     */
+    @Transactional
+    public int reservarCupos(Long eventoId, int cantidad) {
+        if (ledgerCupos.gestiona(eventoId)) {
+            return ledgerCupos.reservarHasta(eventoId, cantidad);
+        }
+        int reservados = eventoRepository.reservarCupos(eventoId, cantidad);
+        if (reservados > 0) {
+            invalidadorCache.cuposEvento(eventoId);
+        }
+        return reservados;
     }
 
     /**
-     * Decrementa el contador de participantes registrados
+     * Libera "cantidad" cupos reservados que finalmente no se usaron
+     */
+    @Transactional
+    public void liberarCupos(Long eventoId, int cantidad) {
+        if (ledgerCupos.gestiona(eventoId)) {
+            for (int i = 0; i < cantidad; i++) {
+                ledgerCupos.liberar(eventoId);
+            }
+            return;
+        }
+        if (!eventoRepository.liberarCupos(eventoId, cantidad)) {
+            log.warn("El evento {} no tenía {} cupos reservados para liberar", eventoId, cantidad);
+        }
+        invalidadorCache.cuposEvento(eventoId);
+    }
+
+    /**
+     * Decrementa el contador de participantes registrados (nunca por debajo de cero)
      */
     @Transactional
-    @CacheEvict(value = {"eventos", "eventosDisponibles", "eventosProximos", "capacidadEvento"}, allEntries = true)
     public void decrementarParticipantes(Long eventoId) {
-        Evento evento = obtenerEventoPorId(eventoId);
-        if (evento.getParticipantesRegistrados() > 0) {
-            evento.setParticipantesRegistrados(evento.getParticipantesRegistrados() - 1);
-            evento.setFechaActualizacion(LocalDateTime.now());
-            eventoRepository.save(evento);
+        if (ledgerCupos.gestiona(eventoId)) {
+            ledgerCupos.liberar(eventoId);
+            return;
+        }
+        if (!eventoRepository.liberarCupo(eventoId)) {
+            log.warn("El evento {} no tenía cupos reservados para liberar", eventoId);
         }
+        invalidadorCache.cuposEvento(eventoId);
     }
 
     private void validarDatosEvento(Evento evento) {
@@ -0,0 +1,111 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Invalidación de caché por clave
+ * - Las entradas por ID (evento, participante, asistencias de un evento) se eliminan una a una
+ * - Las listas se guardan bajo una clave con un token de versión: cambiar el token las invalida
+ *   sin recorrer el keyspace y las entradas anteriores expiran por TTL
+ * - Las reservas y liberaciones de cupos no cambian la versión: las listas tienen un TTL corto
+ *   y reflejan los contadores (y qué eventos siguen disponibles) al expirar
+ * Cada invalidación se repite al confirmar la transacción, así una recarga concurrente que
+ * haya leído el estado anterior no queda en caché.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidadorCache {
+
+    public static final String VERSIONES = "versionesCache";
+    public static final String GRUPO_EVENTOS = "eventos";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Token de versión vigente de un grupo de listas (usado en las claves de @Cacheable)
+     * Se lee de la L1 del nodo; Redis solo se consulta cuando el nodo no tiene copia
+     */
+    public String version(String grupo) {
+        Cache versiones = cacheManager.getCache(VERSIONES);
+        if (versiones == null) {
+            return "0";
+        }
+        String nueva = UUID.randomUUID().toString();
+        Cache.ValueWrapper actual = versiones.putIfAbsent(grupo, nueva);
+        return actual != null && actual.get() != null ? actual.get().toString() : nueva;
+    }
+
+    /**
+     * Un evento cambió de forma que altera las listas (datos, estado, fechas o eliminación):
+     * su entrada, su capacidad y las listas de eventos
+     */
+    public void evento(Long eventoId) {
+        ejecutar(() -> {
+            evictar("eventos", eventoId);
+            evictar("capacidadEvento", eventoId);
+            evictar(VERSIONES, GRUPO_EVENTOS);
+        });
+    }
+
+    /**
+     * Cambió el contador de participantes de un evento: solo su entrada y su capacidad
+     */
+    public void cuposEvento(Long eventoId) {
+        ejecutar(() -> {
+            evictar("eventos", eventoId);
+            evictar("capacidadEvento", eventoId);
+        });
+    }
+
+    /**
+     * Se creó un evento: solo cambian las listas
+     */
+    public void listasEventos() {
+        ejecutar(() -> evictar(VERSIONES, GRUPO_EVENTOS));
+    }
+
+    /**
+     * Cambiaron las asistencias de un evento: sus estadísticas (el listado se pagina sin caché)
+     */
+    public void asistenciasDeEvento(Long eventoId) {
+        ejecutar(() -> evictar("estadisticasEvento", eventoId));
+    }
+
+    public void asistenciasDeEventos(Collection<Long> eventoIds) {
+        eventoIds.forEach(this::asistenciasDeEvento);
+    }
+
+    /**
+     * Un participante cambió: su entrada (el listado se pagina sin caché)
+     */
+    public void participante(Long participanteId) {
+        ejecutar(() -> evictar("participantes", participanteId));
+    }
+
+    private void evictar(String nombreCache, Object clave) {
+        Cache cache = cacheManager.getCache(nombreCache);
+        if (cache != null) {
+            cache.evict(clave);
+        }
+    }
+
+    private static void ejecutar(Runnable invalidacion) {
+        invalidacion.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidacion.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ledger en memoria de cupos por evento (opcional)
+ * - Reparte los cupos libres de cada evento en franjas independientes para que los
+ *   registros concurrentes no compitan por la misma fila de "eventos"
+ * - Acumula los cambios y los vuelca por lotes a participantes_registrados
+ * - Al arrancar, antes de aceptar peticiones, reconcilia los contadores de los eventos gestionados
+ *   contra COUNT(*) de asistencias, así un cierre abrupto solo pierde deltas que la tabla ya refleja
+ * - Un delta que dejaría participantes_registrados fuera de [0, capacidad] no se aplica: el evento
+ *   se reconcilia contra asistencias y su contador se recarga, sin frenar el volcado de los demás
+ *
+ * Solo es seguro con un único nodo escribiendo sobre los eventos gestionados.
+ * Se activa globalmente (eventia.cupos.ledger.enabled) o por evento (eventia.cupos.ledger.eventos).
+ */
+@Component
+@Slf4j
+public class LedgerCupos implements SmartInitializingSingleton {
+
+    private final EventoRepository eventoRepository;
+    private final InvalidadorCache invalidadorCache;
+    private final boolean habilitadoGlobal;
+    private final Set<Long> eventosHabilitados;
+    private final int numeroFranjas;
+
+    private final Map<Long, ContadorCupos> contadores = new ConcurrentHashMap<>();
+    private final Queue<Map.Entry<Long, ContadorCupos>> retirados = new ConcurrentLinkedQueue<>();
+
+    public LedgerCupos(EventoRepository eventoRepository,
+                       InvalidadorCache invalidadorCache,
+                       @Value("${eventia.cupos.ledger.enabled:false}") boolean habilitadoGlobal,
+                       @Value("${eventia.cupos.ledger.eventos:}") Set<Long> eventosHabilitados,
+                       @Value("${eventia.cupos.ledger.franjas:8}") int numeroFranjas) {
+        this.eventoRepository = eventoRepository;
+        this.invalidadorCache = invalidadorCache;
+        this.habilitadoGlobal = habilitadoGlobal;
+        this.eventosHabilitados = Set.copyOf(eventosHabilitados);
+        this.numeroFranjas = Math.max(1, numeroFranjas);
+    }
+
+    /**
+     * Indica si los cupos del evento se gestionan en memoria
+     */
+    public boolean gestiona(Long eventoId) {
+        return habilitadoGlobal || eventosHabilitados.contains(eventoId);
+    }
+
+    /**
+     * Toma un cupo sin tocar la fila del evento
+     * Si la transacción actual se revierte, el cupo se devuelve automáticamente
+     * @return true si se reservó el cupo, false si el evento está agotado
+     */
+    public boolean reservar(Long eventoId) {
+        ContadorCupos contador = obtenerContador(eventoId);
+        if (!contador.tomar()) {
+            return false;
+        }
+        alRevertir(contador::devolver);
+        return true;
+    }
+
+    /**
+     * Toma hasta "cantidad" cupos
+     * @return cupos efectivamente reservados
+     */
+    public int reservarHasta(Long eventoId, int cantidad) {
+        int reservados = 0;
+        while (reservados < cantidad && reservar(eventoId)) {
+            reservados++;
+        }
+        return reservados;
+    }
+
+    /**
+     * Devuelve un cupo al ledger
+     */
+    public void liberar(Long eventoId) {
+        ContadorCupos contador = obtenerContador(eventoId);
+        contador.devolver();
+        alRevertir(() -> {
+            if (!contador.tomar()) {
+                log.warn("No se pudo revertir la liberación de cupo del evento {}", eventoId);
+            }
+        });
+    }
+
+    /**
+     * Vuelca el delta pendiente del evento y descarta su contador
+     * Se usa cuando cambian la capacidad o el estado del evento
+     */
+    public void invalidar(Long eventoId) {
+        descartar(eventoId);
+        // Una recarga concurrente pudo leer la capacidad anterior: se descarta de nuevo al confirmar
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    descartar(eventoId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Vuelca ya el delta pendiente del evento, p. ej. antes de validar contra participantes_registrados
+     */
+    public void volcarEvento(Long eventoId) {
+        ContadorCupos contador = contadores.get(eventoId);
+        if (contador != null) {
+            volcar(Map.of(eventoId, contador));
+        }
+    }
+
+    /**
+     * Vuelca periódicamente los deltas acumulados en un único lote
+     */
+    @Scheduled(fixedDelayString = "${eventia.cupos.ledger.flush-interval-ms:1000}")
+    public void volcarPendientes() {
+        if (contadores.isEmpty() && retirados.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ContadorCupos> aVolcar = new HashMap<>(contadores);
+        Map.Entry<Long, ContadorCupos> retirado;
+        while ((retirado = retirados.poll()) != null) {
+            volcar(Map.of(retirado.getKey(), retirado.getValue()));
+        }
+        volcar(aVolcar);
+    }
+
+    /**
+     * Reconcilia participantes_registrados de los eventos gestionados contra la tabla de asistencias
+     * Se ejecuta al crear los singletons, antes de que el servidor web acepte peticiones
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!habilitadoGlobal && eventosHabilitados.isEmpty()) {
+            return;
+        }
+        int corregidos = habilitadoGlobal
+                ? eventoRepository.reconciliarParticipantesRegistrados()
+                : eventoRepository.reconciliarParticipantesRegistrados(eventosHabilitados);
+        log.info("Ledger de cupos: {} eventos reconciliados contra asistencias", corregidos);
+    }
+
+    @PreDestroy
+    public void volcarAlDetener() {
+        volcarPendientes();
+    }
+
+    /**
+     * Las escrituras y lecturas en base de datos se hacen fuera de las operaciones atómicas del mapa,
+     * que bloquean la entrada (y las que comparten su segmento) mientras se ejecutan
+     */
+    private void descartar(Long eventoId) {
+        ContadorCupos contador = contadores.remove(eventoId);
+        if (contador != null) {
+            volcar(Map.of(eventoId, contador));
+            // Un registro que aún tenga el contador retirado deja su delta para el siguiente volcado
+            retirados.add(Map.entry(eventoId, contador));
+        }
+    }
+
+    private ContadorCupos obtenerContador(Long eventoId) {
+        ContadorCupos contador = contadores.get(eventoId);
+        if (contador != null) {
+            return contador;
+        }
+        ContadorCupos cargado = cargar(eventoId);
+        ContadorCupos existente = contadores.putIfAbsent(eventoId, cargado);
+        return existente != null ? existente : cargado;
+    }
+
+    private ContadorCupos cargar(Long eventoId) {
+        Evento evento = eventoRepository.findById(eventoId).orElse(null);
+        int libres = evento != null && evento.estaActivo() ? Math.max(0, evento.getCuposDisponibles()) : 0;
+        log.debug("Ledger de cupos: evento {} cargado con {} cupos libres", eventoId, libres);
+        return new ContadorCupos(libres, numeroFranjas);
+    }
+
+    private void volcar(Map<Long, ContadorCupos> candidatos) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        candidatos.forEach((id, contador) -> {
+            long delta = contador.delta.sumThenReset();
+            if (delta != 0) {
+                deltas.put(id, (int) delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Set<Long> rechazados;
+        try {
+            rechazados = eventoRepository.sumarParticipantes(deltas);
+        } catch (RuntimeException ex) {
+            // Error de la base de datos (no de un evento concreto): se reintentará en el siguiente ciclo
+            deltas.forEach((id, delta) -> candidatos.get(id).delta.add(delta));
+            log.error("Ledger de cupos: error volcando deltas de los eventos {}, se reintentará", deltas.keySet(), ex);
+            return;
+        }
+        deltas.keySet().forEach(invalidadorCache::cuposEvento);
+        log.debug("Ledger de cupos: volcados {} eventos", deltas.size() - rechazados.size());
+        if (!rechazados.isEmpty()) {
+            reconciliarRechazados(rechazados, deltas, candidatos);
+        }
+    }
+
+    /**
+     * El contador en memoria ya no coincide con la fila (p. ej. la capacidad se redujo mientras
+     * había cupos tomados): se descarta y el evento se recalcula desde asistencias
+     */
+    private void reconciliarRechazados(Set<Long> rechazados, Map<Long, Integer> deltas,
+                                       Map<Long, ContadorCupos> candidatos) {
+        for (Long eventoId : rechazados) {
+            log.warn("Ledger de cupos: el delta {} del evento {} excede sus límites; se reconcilia contra asistencias",
+                    deltas.get(eventoId), eventoId);
+            ContadorCupos contador = candidatos.get(eventoId);
+            if (contadores.remove(eventoId, contador)) {
+                retirados.add(Map.entry(eventoId, contador));
+            }
+        }
+        try {
+            eventoRepository.reconciliarParticipantesRegistrados(rechazados);
+        } catch (RuntimeException ex) {
+            log.error("Ledger de cupos: no se pudieron reconciliar los eventos {}", rechazados, ex);
+        }
+    }
+
+    private static void alRevertir(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    accion.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Contador de cupos libres repartido en franjas (estilo LongAdder)
+     * Cada franja ocupa su propia línea de caché para evitar falso compartido
+     */
+    static final class ContadorCupos {
+
+        private static final int RELLENO = 8;
+
+        private final AtomicLongArray franjas;
+        private final int numeroFranjas;
+        private final LongAdder delta = new LongAdder();
+
+        ContadorCupos(int libres, int numeroFranjas) {
+            this.numeroFranjas = numeroFranjas;
+            this.franjas = new AtomicLongArray(numeroFranjas * RELLENO);
+            for (int i = 0; i < numeroFranjas; i++) {
+                franjas.set(i * RELLENO, libres / numeroFranjas + (i < libres % numeroFranjas ? 1 : 0));
+            }
+        }
+
+        boolean tomar() {
+            int inicio = ThreadLocalRandom.current().nextInt(numeroFranjas);
+            for (int i = 0; i < numeroFranjas; i++) {
+                int indice = ((inicio + i) % numeroFranjas) * RELLENO;
+                long libres;
+                while ((libres = franjas.get(indice)) > 0) {
+                    if (franjas.compareAndSet(indice, libres, libres - 1)) {
+                        delta.increment();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        void devolver() {
+            franjas.incrementAndGet(ThreadLocalRandom.current().nextInt(numeroFranjas) * RELLENO);
+            delta.decrement();
+        }
+
+        long libres() {
+            long total = 0;
+            for (int i = 0; i < numeroFranjas; i++) {
+                total += franjas.get(i * RELLENO);
+            }
+            return total;
+        }
+    }
+}
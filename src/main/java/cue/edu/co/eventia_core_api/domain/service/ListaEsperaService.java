@@ -0,0 +1,132 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.CapacidadEventoAmpliada;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
+import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * Servicio de dominio para la lista de espera de los eventos
+ * - Los registros sobre un evento agotado quedan EN_ESPERA en orden de llegada
+ * - Al liberarse cupos se promueve a los primeros de la fila por lotes, con un único
+ *   UPDATE por lote en lugar de una escritura por participante
+ */
+@Service
+@Slf4j
+public class ListaEsperaService {
+
+    private final AsistenciaRepository asistenciaRepository;
+    private final EventoService eventoService;
+    private final AsignadorCuposDistribuido asignadorCupos;
+    private final EstadisticasEventoRepository estadisticasRepository;
+    private final InvalidadorCache invalidadorCache;
+    private final boolean habilitada;
+    private final int lotePromocion;
+
+    public ListaEsperaService(AsistenciaRepository asistenciaRepository,
+                              EventoService eventoService,
+                              AsignadorCuposDistribuido asignadorCupos,
+                              EstadisticasEventoRepository estadisticasRepository,
+                              InvalidadorCache invalidadorCache,
+                              @Value("${eventia.lista-espera.enabled:true}") boolean habilitada,
+                              @Value("${eventia.lista-espera.lote-promocion:500}") int lotePromocion) {
+        this.asistenciaRepository = asistenciaRepository;
+        this.eventoService = eventoService;
+        this.asignadorCupos = asignadorCupos;
+        this.estadisticasRepository = estadisticasRepository;
+        this.invalidadorCache = invalidadorCache;
+        this.habilitada = habilitada;
+        this.lotePromocion = Math.max(1, lotePromocion);
+    }
+
+    /**
+     * Indica si los registros sobre eventos agotados deben quedar en espera
+     */
+    public boolean habilitada() {
+        return habilitada;
+    }
+
+    /**
+     * Promueve participantes en espera mientras haya cupos libres
+     * Cada lote reserva los cupos en el evento y confirma a los primeros de la fila
+     * @return cantidad de asistencias promovidas
+     */
+    @Transactional
+    public int promover(Long eventoId) {
+        if (!habilitada) {
+            return 0;
+        }
+
+        long pendientes = asistenciaRepository.countByEventoIdAndEstado(eventoId, EstadoAsistencia.EN_ESPERA);
+        int totalPromovidos = 0;
+
+        while (pendientes > 0) {
+            int solicitados = (int) Math.min(lotePromocion, pendientes);
+            int cupos = eventoService.reservarCupos(eventoId, solicitados);
+            if (cupos == 0) {
+                break;
+            }
+
+            int promovidos = asistenciaRepository.promoverEnEspera(eventoId, cupos);
+            if (promovidos < cupos) {
+                // Otra promoción concurrente tomó parte de la fila
+                eventoService.liberarCupos(eventoId, cupos - promovidos);
+            }
+
+            totalPromovidos += promovidos;
+            pendientes -= promovidos;
+            if (promovidos < solicitados) {
+                break;
+            }
+        }
+
+        if (totalPromovidos > 0) {
+            estadisticasRepository.ajustar(eventoId, Map.of(
+                    EstadoAsistencia.EN_ESPERA, -totalPromovidos,
+                    EstadoAsistencia.CONFIRMADO, totalPromovidos));
+            // Los promovidos ocuparon cupos sin pasar por Redis: se reconstruye en el siguiente uso
+            asignadorCupos.invalidar(eventoId);
+            invalidadorCache.asistenciasDeEvento(eventoId);
+            log.info("Lista de espera del evento {}: {} participantes promovidos", eventoId, totalPromovidos);
+        }
+        return totalPromovidos;
+    }
+
+    /**
+     * Obtiene la posición (1 = siguiente en ser promovido) de una asistencia en la lista de espera
+     * Cuenta sobre el índice (evento_id, estado, fecha_registro, id) sin cargar la lista del evento
+     */
+    @Transactional(readOnly = true)
+    public long obtenerPosicion(Long asistenciaId) {
+        Asistencia asistencia = asistenciaRepository.findById(asistenciaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Asistencia", "id", asistenciaId));
+
+        if (!asistencia.estaEnEspera()) {
+            throw new BusinessRuleException("La asistencia no está en lista de espera");
+        }
+
+        return asistenciaRepository.contarEnEsperaAntesDe(
+                asistencia.getEventoId(), asistencia.getFechaRegistro(), asistencia.getId()) + 1;
+    }
+
+    /**
+     * Al ampliar la capacidad de un evento, los nuevos cupos se asignan a la lista de espera
+     * dentro de la misma transacción de la actualización
+     */
+    @EventListener
+    @Transactional
+    public void alAmpliarCapacidad(CapacidadEventoAmpliada evento) {
+        promover(evento.eventoId());
+    }
+}
@@ -1,22 +1,28 @@
 package cue.edu.co.eventia_core_api.domain.service;
 
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
 import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.repository.ImportadorParticipantes;
 import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
 import cue.edu.co.eventia_core_api.exception.DuplicateResourceException;
 import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Reader;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Servicio de dominio para la gestión de Participantes
  * Contiene la lógica de negocio relacionada con participantes
+ * Réplicas de lectura: ver EventoService
  */
 @Service
 @RequiredArgsConstructor
@@ -24,9 +30,10 @@ import java.util.List;
 public class ParticipanteService {
 
     private final ParticipanteRepository participanteRepository;
+    private final InvalidadorCache invalidadorCache;
+    private final ImportadorParticipantes importadorParticipantes;
 
     @Transactional
-    @CacheEvict(value = "participantes", allEntries = true)
     public Participante crearParticipante(Participante participante) {
         log.info("Creando nuevo participante: {}", participante.getEmail());
 
@@ -46,7 +53,6 @@ public class ParticipanteService {
     }
 
     @Transactional
-    @CacheEvict(value = "participantes", allEntries = true)
     public Participante actualizarParticipante(Long id, Participante participanteActualizado) {
         log.info("Actualizando participante con ID: {}", id);
 
@@ -68,36 +74,81 @@ public class ParticipanteService {
         participanteActualizado.setFechaCreacion(participanteExistente.getFechaCreacion());
         participanteActualizado.setFechaActualizacion(LocalDateTime.now());
 
-        return participanteRepository.save(participanteActualizado);
+        Participante actualizado = participanteRepository.save(participanteActualizado);
+        invalidadorCache.participante(id);
+        return actualizado;
     }
 
     @Cacheable(value = "participantes", key = "#id")
+    @Transactional
     public Participante obtenerParticipantePorId(Long id) {
         log.debug("Obteniendo participante por ID: {}", id);
         return participanteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Participante", "id", id));
     }
 
+    /**
+     * Obtiene varios participantes con una sola consulta (sin caché, usado al armar listados)
+     */
+    @Transactional(readOnly = true)
+    public List<Participante> obtenerParticipantesPorIds(Collection<Long> ids) {
+        log.debug("Obteniendo {} participantes por ID", ids.size());
+        return participanteRepository.findAllById(ids);
+    }
+
+    /**
+     * De los IDs indicados, obtiene los que corresponden a participantes existentes
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> obtenerIdsExistentes(Collection<Long> ids) {
+        log.debug("Verificando existencia de {} participantes", ids.size());
+        return new HashSet<>(participanteRepository.findIdsExistentes(ids));
+    }
+
+    @Transactional(readOnly = true)
     public Participante obtenerParticipantePorEmail(String email) {
         log.debug("Obteniendo participante por email: {}", email);
         return participanteRepository.findByEmail(email)
                 .orElseThrow(() -> new ResourceNotFoundException("Participante", "email", email));
     }
 
+    @Transactional(readOnly = true)
     public Participante obtenerParticipantePorDocumento(String documento) {
         log.debug("Obteniendo participante por documento: {}", documento);
         return participanteRepository.findByDocumento(documento)
                 .orElseThrow(() -> new ResourceNotFoundException("Participante", "documento", documento));
     }
 
-    @Cacheable(value = "participantes")
-    public List<Participante> obtenerTodosLosParticipantes() {
-        log.debug("Obteniendo todos los participantes");
-        return participanteRepository.findAll();
+    /**
+     * Obtiene una página de participantes ordenados por ID (paginación por clave, sin caché:
+     * cada página es una lectura acotada por el índice de la clave primaria)
+     * @param despuesDeId ID del último participante de la página anterior (null para la primera)
+     */
+    @Transactional(readOnly = true)
+    public Pagina<Participante> obtenerPaginaParticipantes(Long despuesDeId, int limite) {
+        log.debug("Obteniendo página de participantes después de {} (límite {})", despuesDeId, limite);
+        long desde = despuesDeId != null ? despuesDeId : 0L;
+        return Pagina.de(participanteRepository.findSiguientes(desde, limite + 1), limite, Participante::getId);
+    }
+
+    /**
+     * Importa participantes desde un CSV en una sola operación por conjunto
+     * (sin comprobaciones de unicidad ni inserciones fila a fila) y mide su rendimiento
+     */
+    public ResultadoImportacionParticipantes importarParticipantes(Reader csv) {
+        long inicio = System.nanoTime();
+        ResultadoImportacionParticipantes resultado = importadorParticipantes.importar(csv);
+        long nanos = Math.max(System.nanoTime() - inicio, 1);
+
+        resultado.setDuracionMs(nanos / 1_000_000);
+        resultado.setFilasPorSegundo(resultado.getTotal() * 1_000_000_000L / nanos);
+        log.info("Importación de participantes: {} filas, {} importadas, {} rechazadas en {} ms ({} filas/s)",
+                resultado.getTotal(), resultado.getImportados(), resultado.getRechazados(),
+                resultado.getDuracionMs(), resultado.getFilasPorSegundo());
+        return resultado;
     }
 
     @Transactional
-    @CacheEvict(value = "participantes", allEntries = true)
     public void eliminarParticipante(Long id) {
         log.info("Eliminando participante con ID: {}", id);
 
@@ -106,6 +157,7 @@ public class ParticipanteService {
         }
 
         participanteRepository.deleteById(id);
+        invalidadorCache.participante(id);
     }
 }
 
@@ -0,0 +1,36 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con una fila rechazada en la importación masiva de participantes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RechazoImportacion {
+
+    public enum Motivo {
+        CAMPOS_OBLIGATORIOS,
+        LONGITUD_INVALIDA,
+        EMAIL_INVALIDO,
+        TIPO_DOCUMENTO_INVALIDO,
+        EMAIL_DUPLICADO_EN_ARCHIVO,
+        DOCUMENTO_DUPLICADO_EN_ARCHIVO,
+        EMAIL_EXISTENTE,
+        DOCUMENTO_EXISTENTE,
+        CONFLICTO_CONCURRENTE
+    }
+
+    /**
+     * Número de fila de datos en el archivo (1 = primera fila después del encabezado)
+     */
+    private Long fila;
+    private String email;
+    private String documento;
+    private Motivo motivo;
+}
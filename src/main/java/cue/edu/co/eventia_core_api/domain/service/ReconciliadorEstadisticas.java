@@ -0,0 +1,65 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Mantiene los contadores de evento_estadisticas
+ * - Compacta periódicamente los deltas registrados por las transiciones (como el volcado del ledger)
+ * - Recalcula los contadores desde la tabla de asistencias, evento a evento y cada uno en su propia
+ *   transacción, para corregir cualquier deriva (cambios hechos fuera de la API, eventos sin fila, etc.)
+ */
+@Component
+@Slf4j
+public class ReconciliadorEstadisticas {
+
+    private final EstadisticasEventoRepository estadisticasRepository;
+    private final int loteCompactacion;
+
+    public ReconciliadorEstadisticas(EstadisticasEventoRepository estadisticasRepository,
+                                     @Value("${eventia.estadisticas.lote-compactacion:1000}") int loteCompactacion) {
+        this.estadisticasRepository = estadisticasRepository;
+        this.loteCompactacion = loteCompactacion;
+    }
+
+    /**
+     * Compacta los deltas pendientes; un lote completo indica que pueden quedar más
+     * Las lecturas ya suman los deltas, así que compactar no cambia lo que ven ni invalida la caché
+     */
+    @Scheduled(fixedDelayString = "${eventia.estadisticas.intervalo-compactacion-ms:1000}")
+    public void compactar() {
+        int compactados;
+        do {
+            compactados = estadisticasRepository.compactar(loteCompactacion);
+        } while (compactados == loteCompactacion);
+    }
+
+    @Scheduled(cron = "${eventia.estadisticas.reconciliacion-cron:0 30 3 * * *}")
+    @CacheEvict(value = "estadisticasEvento", allEntries = true)
+    public void reconciliar() {
+        long inicio = System.currentTimeMillis();
+        int eventos = 0;
+        List<Long> lote = estadisticasRepository.findEventoIds(0L, loteCompactacion);
+        while (!lote.isEmpty()) {
+            lote.forEach(estadisticasRepository::reconstruir);
+            eventos += lote.size();
+            lote = estadisticasRepository.findEventoIds(lote.get(lote.size() - 1), loteCompactacion);
+        }
+        log.info("Estadísticas reconciliadas para {} eventos en {} ms", eventos, System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Recalcula los contadores de un solo evento
+     */
+    @CacheEvict(value = "estadisticasEvento", key = "#eventoId")
+    public void reconciliar(Long eventoId) {
+        estadisticasRepository.reconstruir(eventoId);
+        log.info("Estadísticas del evento {} reconciliadas", eventoId);
+    }
+}
@@ -0,0 +1,24 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen, el rendimiento y las filas rechazadas de una importación masiva de participantes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoImportacionParticipantes {
+    private Long total;
+    private Long importados;
+    private Long rechazados;
+    private Long duracionMs;
+    private Long filasPorSegundo;
+    private List<RechazoImportacion> rechazos;
+}
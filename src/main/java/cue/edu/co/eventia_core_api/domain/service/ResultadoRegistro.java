@@ -0,0 +1,54 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.SolicitudAsistencia;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO con el resultado de una solicitud dentro de un registro por lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoRegistro {
+
+    public enum Estado {
+        CREADO,
+        EN_ESPERA,
+        DUPLICADO,
+        AGOTADO,
+        RECHAZADO
+    }
+
+    private Integer indice;
+    private Long eventoId;
+    private Long participanteId;
+    private Long asistenciaId;
+    private Estado estado;
+    private String mensaje;
+
+    public static ResultadoRegistro registrado(int indice, Asistencia asistencia) {
+        return ResultadoRegistro.builder()
+                .indice(indice)
+                .eventoId(asistencia.getEventoId())
+                .participanteId(asistencia.getParticipanteId())
+                .asistenciaId(asistencia.getId())
+                .estado(asistencia.getEstado() == EstadoAsistencia.EN_ESPERA ? Estado.EN_ESPERA : Estado.CREADO)
+                .build();
+    }
+
+    public static ResultadoRegistro fallido(int indice, SolicitudAsistencia solicitud, Estado estado, String mensaje) {
+        return ResultadoRegistro.builder()
+                .indice(indice)
+                .eventoId(solicitud.getEventoId())
+                .participanteId(solicitud.getParticipanteId())
+                .estado(estado)
+                .mensaje(mensaje)
+                .build();
+    }
+}
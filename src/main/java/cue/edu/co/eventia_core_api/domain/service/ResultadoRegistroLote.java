@@ -0,0 +1,41 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO con el resumen y los resultados por solicitud de un registro por lote
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoRegistroLote {
+    private Integer total;
+    private Integer creados;
+    private Integer enEspera;
+    private Integer duplicados;
+    private Integer agotados;
+    private Integer rechazados;
+    private List<ResultadoRegistro> resultados;
+
+    public static ResultadoRegistroLote de(List<ResultadoRegistro> resultados) {
+        return ResultadoRegistroLote.builder()
+                .total(resultados.size())
+                .creados(contar(resultados, ResultadoRegistro.Estado.CREADO))
+                .enEspera(contar(resultados, ResultadoRegistro.Estado.EN_ESPERA))
+                .duplicados(contar(resultados, ResultadoRegistro.Estado.DUPLICADO))
+                .agotados(contar(resultados, ResultadoRegistro.Estado.AGOTADO))
+                .rechazados(contar(resultados, ResultadoRegistro.Estado.RECHAZADO))
+                .resultados(resultados)
+                .build();
+    }
+
+    private static int contar(List<ResultadoRegistro> resultados, ResultadoRegistro.Estado estado) {
+        return (int) resultados.stream().filter(r -> r.getEstado() == estado).count();
+    }
+}
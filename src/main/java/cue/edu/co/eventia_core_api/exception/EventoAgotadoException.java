@@ -0,0 +1,11 @@
+package cue.edu.co.eventia_core_api.exception;
+
+/**
+ * Excepción lanzada cuando un evento no tiene cupos disponibles
+ */
+public class EventoAgotadoException extends BusinessRuleException {
+
+    public EventoAgotadoException(Long eventoId) {
+        super(String.format("El evento ha alcanzado su capacidad máxima (evento: '%s')", eventoId));
+    }
+}
@@ -0,0 +1,12 @@
+package cue.edu.co.eventia_core_api.exception;
+
+/**
+ * Excepción lanzada cuando una operación no está disponible con la infraestructura configurada
+ * (por ejemplo, la importación por COPY cuando la base de datos no es PostgreSQL)
+ */
+public class OperacionNoSoportadaException extends DomainException {
+
+    public OperacionNoSoportadaException(String message) {
+        super(message);
+    }
+}
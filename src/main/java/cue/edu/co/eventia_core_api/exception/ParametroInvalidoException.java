@@ -0,0 +1,20 @@
+package cue.edu.co.eventia_core_api.exception;
+
+/**
+ * Excepción lanzada cuando un parámetro de la petición no tiene un formato válido
+ * (por ejemplo, un cursor de paginación alterado o un archivo CSV mal formado)
+ */
+public class ParametroInvalidoException extends DomainException {
+
+    public ParametroInvalidoException(String parametro, Object valor) {
+        super(String.format("Valor inválido para el parámetro '%s': '%s'", parametro, valor));
+    }
+
+    public ParametroInvalidoException(String message) {
+        super(message);
+    }
+
+    public ParametroInvalidoException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
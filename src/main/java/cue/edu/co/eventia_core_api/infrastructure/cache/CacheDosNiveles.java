@@ -0,0 +1,362 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Caché de dos niveles
+ * - L1: Caffeine en memoria, acotada por tamaño y TTL, sin viaje de red ni deserialización
+ * - L2: Redis, compartida por todos los nodos
+ * Las lecturas consultan L1 y luego L2 (promoviendo a L1). Las escrituras van a ambas y
+ * se difunden para que los demás nodos descarten su copia en L1.
+ *
+ * Con @Cacheable(sync = true):
+ * - Los fallos concurrentes sobre la misma clave esperan una única carga en el nodo (un
+ *   CompletableFuture por clave). La carga corre fuera de Caffeine: ni la consulta a la base de
+ *   datos ni la espera del lease retienen un bloqueo de L1 ni fijan el hilo virtual a su portador
+ * - Con lease, un solo nodo recalcula la clave y los demás la esperan en L2
+ * - Una entrada leída cerca de su expiración se recarga en segundo plano (refresco anticipado)
+ *   mientras todos los lectores siguen recibiendo el valor vigente
+ * Una carga durante la cual se invalidó la clave entrega su valor a quien la pidió, pero no lo
+ * guarda en ninguno de los dos niveles.
+ */
+@Slf4j
+public class CacheDosNiveles implements Cache {
+
+    private static final long PAUSA_ESPERA_LEASE_MS = 20;
+
+    private final String nombre;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Entrada> nivel1;
+    private final Cache nivel2;
+    private final Consumer<InvalidacionCache> difusor;
+    private final String nodo;
+    private final Duration refrescarTras;
+    private final LeaseCarga lease;
+    private final Duration esperaMaximaLease;
+    private final Executor ejecutorRefresco;
+    private final Map<Object, Carga> cargasEnCurso = new ConcurrentHashMap<>();
+
+    public CacheDosNiveles(String nombre,
+                           com.github.benmanes.caffeine.cache.Cache<Object, Entrada> nivel1,
+                           Cache nivel2,
+                           Consumer<InvalidacionCache> difusor,
+                           String nodo,
+                           Duration refrescarTras,
+                           LeaseCarga lease,
+                           Duration esperaMaximaLease,
+                           Executor ejecutorRefresco) {
+        this.nombre = nombre;
+        this.nivel1 = nivel1;
+        this.nivel2 = nivel2;
+        this.difusor = difusor;
+        this.nodo = nodo;
+        this.refrescarTras = refrescarTras;
+        this.lease = lease;
+        this.esperaMaximaLease = esperaMaximaLease;
+        this.ejecutorRefresco = ejecutorRefresco;
+    }
+
+    @Override
+    public String getName() {
+        return nombre;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Entrada local = nivel1.getIfPresent(key);
+        if (local != null) {
+            return new SimpleValueWrapper(local.valor);
+        }
+        ValueWrapper remoto = nivel2.get(key);
+        if (remoto != null && remoto.get() != null) {
+            nivel1.put(key, nuevaEntrada(remoto.get()));
+        }
+        return remoto;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper valor = get(key);
+        if (valor == null || valor.get() == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(valor.get())) {
+            throw new IllegalStateException("El valor en caché no es del tipo " + type.getName());
+        }
+        return (T) valor.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Entrada local = nivel1.getIfPresent(key);
+        if (local != null) {
+            if (refrescarTras != null && local.reclamarRefresco()) {
+                refrescarEnSegundoPlano(key, local, valueLoader);
+            }
+            return (T) local.valor;
+        }
+
+        Carga carga = new Carga();
+        Carga enCurso = cargasEnCurso.putIfAbsent(key, carga);
+        if (enCurso != null) {
+            // Una carga ya invalidada puede traer el valor anterior al cambio: se calcula aparte
+            return (T) (enCurso.invalidada ? cargar(key, carga, valueLoader) : enCurso.esperar());
+        }
+        try {
+            Object valor = cargar(key, carga, valueLoader);
+            carga.resultado.complete(valor);
+            return (T) valor;
+        } catch (RuntimeException ex) {
+            carga.resultado.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            cargasEnCurso.remove(key, carga);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        nivel2.put(key, value);
+        invalidarCargaEnCurso(key);
+        guardarLocal(key, value);
+        difundir(key);
+    }
+
+    /**
+     * Con copia en L1 la devuelve sin consultar Redis (así se leen los tokens de versión en cada
+     * lista); solo ante un fallo en L1 decide L2 el valor vigente para todos los nodos.
+     * La invalidación difundida descarta la copia en L1 de los demás nodos.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Entrada local = nivel1.getIfPresent(key);
+        if (local != null) {
+            return new SimpleValueWrapper(local.valor);
+        }
+        ValueWrapper existente = nivel2.putIfAbsent(key, value);
+        guardarLocal(key, existente != null ? existente.get() : value);
+        return existente;
+    }
+
+    @Override
+    public void evict(Object key) {
+        nivel2.evict(key);
+        invalidarLocal(key);
+        difundir(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean presente = nivel2.evictIfPresent(key);
+        invalidarLocal(key);
+        difundir(key);
+        return presente;
+    }
+
+    @Override
+    public void clear() {
+        nivel2.clear();
+        invalidarLocal(null);
+        difundir(null);
+    }
+
+    /**
+     * Descarta la copia en L1 y marca como obsoletas las cargas en curso de la clave
+     * (también aplica las invalidaciones recibidas de otros nodos)
+     */
+    public void invalidarLocal(Object key) {
+        if (key == null) {
+            cargasEnCurso.values().forEach(Carga::invalidar);
+            nivel1.invalidateAll();
+        } else {
+            invalidarCargaEnCurso(key);
+            nivel1.invalidate(key);
+        }
+    }
+
+    private void invalidarCargaEnCurso(Object key) {
+        Carga carga = cargasEnCurso.get(key);
+        if (carga != null) {
+            carga.invalidar();
+        }
+    }
+
+    /**
+     * Resuelve un fallo en L1: consulta L2 y, si tampoco está, calcula el valor
+     */
+    private Object cargar(Object key, Carga carga, Callable<?> valueLoader) {
+        ValueWrapper remoto = nivel2.get(key);
+        Object valor = remoto != null ? remoto.get() : cargarEnL2(key, carga, valueLoader);
+        if (valor != null && !carga.invalidada) {
+            nivel1.put(key, nuevaEntrada(valor));
+        }
+        return valor;
+    }
+
+    /**
+     * Recarga en segundo plano una entrada próxima a expirar; si falla se conserva el valor vigente
+     * y el siguiente lector lo vuelve a intentar
+     */
+    private void refrescarEnSegundoPlano(Object key, Entrada actual, Callable<?> valueLoader) {
+        Carga carga = new Carga();
+        if (cargasEnCurso.putIfAbsent(key, carga) != null) {
+            actual.refrescando.set(false);
+            return;
+        }
+        try {
+            ejecutorRefresco.execute(() -> {
+                try {
+                    Object valor = guardarEnL2(key, carga, invocar(key, valueLoader));
+                    // Solo reemplaza si nadie invalidó la entrada durante la recarga
+                    if (valor != null && !carga.invalidada) {
+                        nivel1.asMap().replace(key, actual, nuevaEntrada(valor));
+                    } else {
+                        nivel1.asMap().remove(key, actual);
+                    }
+                    carga.resultado.complete(valor);
+                } catch (RuntimeException ex) {
+                    actual.refrescando.set(false);
+                    carga.resultado.completeExceptionally(ex);
+                    log.warn("Caché {}: no se pudo refrescar la clave {}: {}", nombre, key, ex.getMessage());
+                } finally {
+                    cargasEnCurso.remove(key, carga);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            cargasEnCurso.remove(key, carga);
+            actual.refrescando.set(false);
+        }
+    }
+
+    /**
+     * Calcula una clave ausente en L2. Con lease, solo un nodo la calcula y los demás esperan
+     * a que aparezca en L2 (hasta esperaMaximaLease; después la calculan por su cuenta)
+     */
+    private Object cargarEnL2(Object key, Carga carga, Callable<?> valueLoader) {
+        if (lease == null) {
+            return guardarEnL2(key, carga, invocar(key, valueLoader));
+        }
+
+        long limite = System.nanoTime() + esperaMaximaLease.toNanos();
+        while (!lease.adquirir(nombre, key)) {
+            if (System.nanoTime() - limite > 0) {
+                log.debug("Caché {}: lease de la clave {} vencido, se calcula localmente", nombre, key);
+                return guardarEnL2(key, carga, invocar(key, valueLoader));
+            }
+            esperar();
+            ValueWrapper remoto = nivel2.get(key);
+            if (remoto != null) {
+                return remoto.get();
+            }
+        }
+        try {
+            return guardarEnL2(key, carga, invocar(key, valueLoader));
+        } finally {
+            lease.liberar(nombre, key);
+        }
+    }
+
+    private Object guardarEnL2(Object key, Carga carga, Object valor) {
+        // Una carga no cambia el dato: no hace falta difundirla
+        // Si la clave se invalidó mientras se calculaba, el valor puede ser anterior al cambio
+        if (valor != null && !carga.invalidada) {
+            nivel2.put(key, valor);
+        }
+        return valor;
+    }
+
+    private Object invocar(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    private void guardarLocal(Object key, Object value) {
+        if (value != null) {
+            nivel1.put(key, nuevaEntrada(value));
+        } else {
+            nivel1.invalidate(key);
+        }
+    }
+
+    private Entrada nuevaEntrada(Object valor) {
+        return new Entrada(valor, refrescarTras != null ? System.nanoTime() + refrescarTras.toNanos() : 0);
+    }
+
+    private void difundir(Object key) {
+        difusor.accept(new InvalidacionCache(nodo, nombre, key));
+    }
+
+    private static void esperar() {
+        try {
+            Thread.sleep(PAUSA_ESPERA_LEASE_MS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando la carga de otro nodo", ex);
+        }
+    }
+
+    /**
+     * Carga en curso de una clave: los demás lectores del nodo esperan su resultado
+     */
+    private static final class Carga {
+
+        private final CompletableFuture<Object> resultado = new CompletableFuture<>();
+        private volatile boolean invalidada;
+
+        void invalidar() {
+            invalidada = true;
+        }
+
+        Object esperar() {
+            try {
+                return resultado.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException causa) {
+                    throw causa;
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Valor en L1 con el instante a partir del cual el siguiente lector lo recarga
+     */
+    static final class Entrada {
+
+        private final Object valor;
+        private final long refrescarDesde;
+        private final AtomicBoolean refrescando = new AtomicBoolean();
+
+        Entrada(Object valor, long refrescarDesde) {
+            this.valor = valor;
+            this.refrescarDesde = refrescarDesde;
+        }
+
+        boolean reclamarRefresco() {
+            return System.nanoTime() - refrescarDesde >= 0 && refrescando.compareAndSet(false, true);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * CacheManager compuesto: cada caché combina una L1 Caffeine con la caché Redis del mismo nombre
+ * El tamaño y el TTL de L1 se configuran por caché en eventia.cache.l1
+ * Con un CircuitoRedis, la L2 de cada caché se envuelve en una CacheRedisProtegida
+ * Los refrescos anticipados corren en hilos virtuales propios, fuera del hilo del lector
+ */
+@Slf4j
+public class CacheManagerDosNiveles implements CacheManager {
+
+    private final CacheManager nivel2;
+    private final PropiedadesCacheL1 propiedades;
+    private final Consumer<InvalidacionCache> difusor;
+    private final LeaseCarga lease;
+    private final String nodo;
+    private final CircuitoRedis circuito;
+    private final Map<String, CacheDosNiveles> caches = new ConcurrentHashMap<>();
+    private final Executor ejecutorRefresco =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("cache-refresco-", 0).factory());
+
+    public CacheManagerDosNiveles(CacheManager nivel2, PropiedadesCacheL1 propiedades,
+                                  Consumer<InvalidacionCache> difusor) {
+        this(nivel2, propiedades, difusor, null, UUID.randomUUID().toString());
+    }
+
+    public CacheManagerDosNiveles(CacheManager nivel2, PropiedadesCacheL1 propiedades,
+                                  Consumer<InvalidacionCache> difusor, LeaseCarga lease, String nodo) {
+        this(nivel2, propiedades, difusor, lease, nodo, null);
+    }
+
+    public CacheManagerDosNiveles(CacheManager nivel2, PropiedadesCacheL1 propiedades,
+                                  Consumer<InvalidacionCache> difusor, LeaseCarga lease, String nodo,
+                                  CircuitoRedis circuito) {
+        this.nivel2 = nivel2;
+        this.propiedades = propiedades;
+        this.difusor = difusor;
+        this.lease = lease;
+        this.nodo = nodo;
+        this.circuito = circuito;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::crear);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Aplica en L1 una invalidación publicada por otro nodo
+     */
+    public void recibir(InvalidacionCache invalidacion) {
+        if (nodo.equals(invalidacion.nodo())) {
+            return;
+        }
+        CacheDosNiveles cache = caches.get(invalidacion.cache());
+        if (cache != null) {
+            cache.invalidarLocal(invalidacion.clave());
+        }
+    }
+
+    private CacheDosNiveles crear(String name) {
+        PropiedadesCacheL1.Nivel nivel = propiedades.para(name);
+        log.debug("Caché {}: L1 de hasta {} entradas con TTL {}", name, nivel.getTamanoMaximo(), nivel.getTtl());
+        Duration refrescarTras = propiedades.getRefrescoAnticipado() > 0
+                ? Duration.ofNanos((long) (nivel.getTtl().toNanos() * propiedades.getRefrescoAnticipado()))
+                : null;
+        Cache redis = nivel2.getCache(name);
+        return new CacheDosNiveles(name,
+                Caffeine.newBuilder()
+                        .maximumSize(nivel.getTamanoMaximo())
+                        .expireAfterWrite(nivel.getTtl())
+                        .<Object, CacheDosNiveles.Entrada>build(),
+                circuito != null ? new CacheRedisProtegida(redis, circuito) : redis,
+                difusor,
+                nodo,
+                refrescarTras,
+                lease,
+                propiedades.getLease().getTtl(),
+                ejecutorRefresco);
+    }
+}
@@ -0,0 +1,38 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager solo Redis (eventia.cache.l1.enabled=false): cada caché se envuelve en una
+ * CacheRedisProtegida, así el circuito y el timeout corto se mantienen aunque no haya L1
+ */
+public class CacheManagerRedisProtegido implements CacheManager {
+
+    private final CacheManager redis;
+    private final CircuitoRedis circuito;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CacheManagerRedisProtegido(CacheManager redis, CircuitoRedis circuito) {
+        this.redis = redis;
+        this.circuito = circuito;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, nombre -> {
+            Cache cache = redis.getCache(nombre);
+            return cache != null ? new CacheRedisProtegida(cache, circuito) : null;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
@@ -0,0 +1,208 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caché Redis (L2) protegida por el CircuitoRedis
+ * - Un error o timeout de Redis se trata como fallo de caché: la lectura devuelve null y la escritura se omite
+ * - Con el circuito abierto no se llama a Redis; la L1 de cada nodo sigue sirviendo como caché local
+ * - Los desalojos omitidos se recuerdan y se aplican en la primera operación tras la recuperación,
+ *   para que Redis no siga sirviendo datos que cambiaron mientras estaba caído
+ *   (por encima de MAXIMO_PENDIENTES se vacía la caché completa)
+ * - putIfAbsent recuerda el último valor vigente de cada clave y lo devuelve mientras Redis no responde,
+ *   así un token de versión de listas se mantiene estable en lugar de generarse uno nuevo en cada llamada
+ */
+@Slf4j
+public class CacheRedisProtegida implements Cache {
+
+    static final int MAXIMO_PENDIENTES = 10_000;
+
+    /** Resultado de putIfAbsent cuando no se pudo consultar Redis (distinto de "no existía") */
+    private static final ValueWrapper SIN_REDIS = new SimpleValueWrapper(null);
+
+    private final Cache destino;
+    private final CircuitoRedis circuito;
+    private final Timer lecturas;
+    private final Timer escrituras;
+    private final Timer desalojos;
+    private final Counter omitidas;
+    private final Counter errores;
+    private final Set<Object> desalojosPendientes = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<Object, Object> ultimosConocidos = new ConcurrentHashMap<>();
+
+    private volatile boolean vaciarPendiente;
+
+    public CacheRedisProtegida(Cache destino, CircuitoRedis circuito) {
+        this.destino = destino;
+        this.circuito = circuito;
+        this.lecturas = circuito.temporizador(destino.getName(), "get");
+        this.escrituras = circuito.temporizador(destino.getName(), "put");
+        this.desalojos = circuito.temporizador(destino.getName(), "evict");
+        this.omitidas = circuito.omitidas(destino.getName());
+        this.errores = circuito.errores(destino.getName());
+    }
+
+    @Override
+    public String getName() {
+        return destino.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return destino.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return ejecutar(lecturas, () -> destino.get(key), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return ejecutar(lecturas, () -> destino.get(key, type), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper valor = get(key);
+        if (valor != null) {
+            @SuppressWarnings("unchecked")
+            T existente = (T) valor.get();
+            return existente;
+        }
+        T cargado;
+        try {
+            cargado = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, cargado);
+        return cargado;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        ejecutar(escrituras, () -> {
+            destino.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existente = ejecutar(escrituras, () -> destino.putIfAbsent(key, value), SIN_REDIS);
+        if (existente == SIN_REDIS) {
+            // Sin Redis el vigente es el último conocido por este nodo (o el nuevo, si no hay ninguno)
+            Object conocido = value != null ? recordar(key, value, false) : null;
+            return conocido != null && conocido != value ? new SimpleValueWrapper(conocido) : null;
+        }
+        Object vigente = existente != null ? existente.get() : value;
+        if (vigente != null) {
+            recordar(key, vigente, true);
+        }
+        return existente;
+    }
+
+    @Override
+    public void evict(Object key) {
+        ultimosConocidos.remove(key);
+        if (!Boolean.TRUE.equals(ejecutar(desalojos, () -> {
+            destino.evict(key);
+            return Boolean.TRUE;
+        }, Boolean.FALSE))) {
+            recordarDesalojo(key);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        ultimosConocidos.remove(key);
+        Boolean presente = ejecutar(desalojos, () -> destino.evictIfPresent(key), null);
+        if (presente == null) {
+            recordarDesalojo(key);
+            return false;
+        }
+        return presente;
+    }
+
+    @Override
+    public void clear() {
+        ultimosConocidos.clear();
+        if (!Boolean.TRUE.equals(ejecutar(desalojos, () -> {
+            destino.clear();
+            return Boolean.TRUE;
+        }, Boolean.FALSE))) {
+            vaciarPendiente = true;
+        }
+    }
+
+    private <T> T ejecutar(Timer temporizador, Supplier<T> operacion, T siFalla) {
+        if (!circuito.permitir()) {
+            omitidas.increment();
+            return siFalla;
+        }
+        long inicio = System.nanoTime();
+        try {
+            aplicarPendientes();
+            T resultado = operacion.get();
+            circuito.exito();
+            return resultado;
+        } catch (RuntimeException ex) {
+            errores.increment();
+            circuito.fallo(ex);
+            log.debug("Caché {}: Redis no respondió: {}", destino.getName(), ex.getMessage());
+            return siFalla;
+        } finally {
+            temporizador.record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void aplicarPendientes() {
+        if (vaciarPendiente) {
+            destino.clear();
+            vaciarPendiente = false;
+            desalojosPendientes.clear();
+            log.info("Caché {}: vaciada en Redis tras la recuperación", destino.getName());
+            return;
+        }
+        for (Object clave : desalojosPendientes) {
+            destino.evict(clave);
+            desalojosPendientes.remove(clave);
+        }
+    }
+
+    /**
+     * @param reemplazar true para guardar el valor leído de Redis; false para conservar el que ya hubiera
+     * @return el valor recordado para la clave
+     */
+    private Object recordar(Object key, Object value, boolean reemplazar) {
+        if (ultimosConocidos.size() >= MAXIMO_PENDIENTES && !ultimosConocidos.containsKey(key)) {
+            return value;
+        }
+        if (reemplazar) {
+            ultimosConocidos.put(key, value);
+            return value;
+        }
+        Object conocido = ultimosConocidos.putIfAbsent(key, value);
+        return conocido != null ? conocido : value;
+    }
+
+    private void recordarDesalojo(Object key) {
+        if (desalojosPendientes.size() >= MAXIMO_PENDIENTES) {
+            vaciarPendiente = true;
+        } else {
+            desalojosPendientes.add(key);
+        }
+    }
+}
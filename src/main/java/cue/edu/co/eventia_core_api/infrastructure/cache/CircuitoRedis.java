@@ -0,0 +1,106 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuito que deja de llamar a Redis mientras no responde
+ * - CERRADO: las operaciones van a Redis; tras umbralFallos fallos seguidos se abre
+ * - ABIERTO: las operaciones se omiten (la caché responde como fallo) durante la pausa
+ * - SEMIABIERTO: una sola operación de prueba decide si se cierra o se vuelve a abrir
+ * Uno por nodo: todas las cachés comparten el mismo Redis.
+ * Métricas: eventia.cache.redis.circuito (0 cerrado, 1 semiabierto, 2 abierto),
+ * eventia.cache.redis.omitidas, eventia.cache.redis.errores y eventia.cache.redis.latencia.
+ */
+@Slf4j
+public class CircuitoRedis {
+
+    public enum Estado { CERRADO, SEMIABIERTO, ABIERTO }
+
+    private final int umbralFallos;
+    private final Duration pausa;
+    private final MeterRegistry registry;
+    private final AtomicReference<Estado> estado = new AtomicReference<>(Estado.CERRADO);
+    private final AtomicInteger fallosSeguidos = new AtomicInteger();
+
+    private volatile long reintentarDesde;
+
+    public CircuitoRedis(int umbralFallos, Duration pausa, MeterRegistry registry) {
+        this.umbralFallos = umbralFallos;
+        this.pausa = pausa;
+        this.registry = registry;
+        Gauge.builder("eventia.cache.redis.circuito", estado, e -> e.get().ordinal())
+                .description("Estado del circuito de Redis: 0 cerrado, 1 semiabierto, 2 abierto")
+                .register(registry);
+    }
+
+    /**
+     * @return true si la operación puede ir a Redis (con el circuito abierto, solo la prueba tras la pausa)
+     */
+    public boolean permitir() {
+        Estado actual = estado.get();
+        if (actual == Estado.CERRADO) {
+            return true;
+        }
+        if (actual == Estado.ABIERTO && System.currentTimeMillis() >= reintentarDesde
+                && estado.compareAndSet(Estado.ABIERTO, Estado.SEMIABIERTO)) {
+            log.info("Circuito de Redis semiabierto: probando la conexión");
+            return true;
+        }
+        return false;
+    }
+
+    public void exito() {
+        fallosSeguidos.set(0);
+        if (estado.compareAndSet(Estado.SEMIABIERTO, Estado.CERRADO)) {
+            log.info("Circuito de Redis cerrado: Redis responde de nuevo");
+        }
+    }
+
+    public void fallo(RuntimeException ex) {
+        if (estado.get() == Estado.SEMIABIERTO || fallosSeguidos.incrementAndGet() >= umbralFallos) {
+            abrir(ex);
+        }
+    }
+
+    public Estado estado() {
+        return estado.get();
+    }
+
+    public Timer temporizador(String cache, String operacion) {
+        return Timer.builder("eventia.cache.redis.latencia")
+                .description("Latencia de las operaciones de caché en Redis")
+                .tags("cache", cache, "operacion", operacion)
+                .register(registry);
+    }
+
+    public Counter omitidas(String cache) {
+        return Counter.builder("eventia.cache.redis.omitidas")
+                .description("Operaciones de caché que no fueron a Redis por el circuito abierto")
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    public Counter errores(String cache) {
+        return Counter.builder("eventia.cache.redis.errores")
+                .description("Operaciones de caché en Redis que fallaron o excedieron su timeout")
+                .tag("cache", cache)
+                .register(registry);
+    }
+
+    private void abrir(RuntimeException ex) {
+        reintentarDesde = System.currentTimeMillis() + pausa.toMillis();
+        fallosSeguidos.set(0);
+        if (estado.getAndSet(Estado.ABIERTO) != Estado.ABIERTO) {
+            log.warn("Circuito de Redis abierto durante {} ms, la caché usa solo memoria: {}",
+                    pausa.toMillis(), ex.getMessage());
+        }
+    }
+}
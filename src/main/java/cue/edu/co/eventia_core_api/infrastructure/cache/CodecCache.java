@@ -0,0 +1,184 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Codec de valores de caché en Redis
+ * - Jackson sobre Smile (JSON binario) leyendo campos, no getters: no requiere Serializable y
+ *   tolera campos agregados o eliminados en las clases Lombok
+ * - Cabecera de 3 bytes: marca, versión del formato y compresión
+ * - Los valores que superan el umbral se comprimen con GZIP
+ * Un valor con otra marca o versión (p. ej. escrito con serialización JDK) se trata como fallo de caché.
+ */
+@Slf4j
+public class CodecCache implements RedisSerializer<Object> {
+
+    static final byte MARCA = 'E';
+    static final byte VERSION = 1;
+    static final byte SIN_COMPRESION = 0;
+    static final byte GZIP = 1;
+    private static final int CABECERA = 3;
+
+    private final ObjectMapper mapper;
+    private final int umbralCompresion;
+
+    CodecCache(JsonFactory formato, int umbralCompresion) {
+        this.mapper = crearMapper(formato);
+        this.umbralCompresion = umbralCompresion;
+    }
+
+    /**
+     * Codec binario (Smile); umbralCompresion en bytes, 0 = sin compresión
+     */
+    public static CodecCache smile(int umbralCompresion) {
+        return new CodecCache(new SmileFactory(), umbralCompresion);
+    }
+
+    /**
+     * Codec JSON de texto, útil para inspeccionar valores con redis-cli
+     */
+    public static CodecCache json(int umbralCompresion) {
+        return new CodecCache(new JsonFactory(), umbralCompresion);
+    }
+
+    @Override
+    public byte[] serialize(Object valor) {
+        if (valor == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] cuerpo = mapper.writeValueAsBytes(valor);
+            boolean comprimir = umbralCompresion > 0 && cuerpo.length >= umbralCompresion;
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(cuerpo.length / (comprimir ? 4 : 1) + CABECERA);
+            salida.write(MARCA);
+            salida.write(VERSION);
+            salida.write(comprimir ? GZIP : SIN_COMPRESION);
+            if (comprimir) {
+                try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+                    gzip.write(cuerpo);
+                }
+            } else {
+                salida.write(cuerpo);
+            }
+            return salida.toByteArray();
+        } catch (IOException ex) {
+            throw new SerializationException("No se pudo serializar el valor de caché " + valor.getClass().getName(), ex);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length < CABECERA) {
+            return null;
+        }
+        if (bytes[0] != MARCA || bytes[1] != VERSION) {
+            log.debug("Valor de caché con formato desconocido (versión {}), se ignora", bytes[1]);
+            return null;
+        }
+        try (InputStream entrada = abrir(bytes)) {
+            return mapper.readValue(entrada, Object.class);
+        } catch (IOException ex) {
+            // Una clase cambió de forma de manera incompatible: se recalcula el valor
+            log.warn("No se pudo leer un valor de caché, se ignora: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    private static InputStream abrir(byte[] bytes) throws IOException {
+        InputStream cuerpo = new ByteArrayInputStream(bytes, CABECERA, bytes.length - CABECERA);
+        return bytes[2] == GZIP ? new GZIPInputStream(cuerpo) : cuerpo;
+    }
+
+    private static ObjectMapper crearMapper(JsonFactory formato) {
+        PolymorphicTypeValidator tiposPermitidos = BasicPolymorphicTypeValidator.builder()
+                .allowIfSubType("cue.edu.co.eventia_core_api.")
+                .allowIfSubType("java.util.")
+                .allowIfSubType("java.lang.")
+                .build();
+        return JsonMapper.builder(formato)
+                .findAndAddModules()
+                .visibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .visibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .setDefaultTyping(new TipadoColeccionesNormalizadas(tiposPermitidos))
+                .build();
+    }
+
+    /**
+     * Tipado por clase para valores no finales, registrando las colecciones como su
+     * implementación estándar (List.of, toList() o Collections.unmodifiable* no tienen constructor)
+     */
+    static final class TipadoColeccionesNormalizadas extends ObjectMapper.DefaultTypeResolverBuilder {
+
+        TipadoColeccionesNormalizadas(PolymorphicTypeValidator tiposPermitidos) {
+            super(ObjectMapper.DefaultTyping.NON_FINAL, tiposPermitidos);
+            init(JsonTypeInfo.Id.CLASS, null);
+            inclusion(JsonTypeInfo.As.PROPERTY);
+        }
+
+        @Override
+        protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+                                            PolymorphicTypeValidator subtypeValidator,
+                                            Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+            return new ClassNameIdResolver(baseType, config.getTypeFactory(), subtypeValidator) {
+                @Override
+                public String idFromValue(Object value) {
+                    String normalizado = normalizar(value);
+                    return normalizado != null ? normalizado : super.idFromValue(value);
+                }
+
+                @Override
+                public String idFromValueAndType(Object value, Class<?> type) {
+                    String normalizado = normalizar(value);
+                    return normalizado != null ? normalizado : super.idFromValueAndType(value, type);
+                }
+            };
+        }
+
+        private static String normalizar(Object value) {
+            if (value instanceof List) {
+                return ArrayList.class.getName();
+            }
+            if (value instanceof Set) {
+                return LinkedHashSet.class.getName();
+            }
+            if (value instanceof Map) {
+                return LinkedHashMap.class.getName();
+            }
+            return null;
+        }
+    }
+}
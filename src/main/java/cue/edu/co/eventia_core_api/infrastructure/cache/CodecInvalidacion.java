@@ -0,0 +1,65 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Codec de los mensajes de invalidación difundidos por pub/sub
+ * - JSON plano, sin serialización JDK ni tipado polimórfico: un mensaje recibido no puede
+ *   instanciar clases arbitrarias
+ * - La clave viaja como texto junto a su tipo (Long o String, los que usan las cachés de la aplicación);
+ *   una clave de otro tipo se difunde como vaciado de la caché, menos selectivo pero correcto
+ */
+@Slf4j
+public class CodecInvalidacion implements RedisSerializer<InvalidacionCache> {
+
+    static final String TIPO_LONG = "L";
+    static final String TIPO_TEXTO = "S";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Override
+    public byte[] serialize(InvalidacionCache invalidacion) {
+        if (invalidacion == null) {
+            return new byte[0];
+        }
+        Mensaje mensaje = switch (invalidacion.clave()) {
+            case null -> new Mensaje(invalidacion.nodo(), invalidacion.cache(), null, null);
+            case Long id -> new Mensaje(invalidacion.nodo(), invalidacion.cache(), id.toString(), TIPO_LONG);
+            case String texto -> new Mensaje(invalidacion.nodo(), invalidacion.cache(), texto, TIPO_TEXTO);
+            default -> new Mensaje(invalidacion.nodo(), invalidacion.cache(), null, null);
+        };
+        try {
+            return mapper.writeValueAsBytes(mensaje);
+        } catch (IOException ex) {
+            throw new SerializationException("No se pudo serializar la invalidación de " + invalidacion.cache(), ex);
+        }
+    }
+
+    @Override
+    public InvalidacionCache deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            Mensaje mensaje = mapper.readValue(bytes, Mensaje.class);
+            Object clave = mensaje.clave() == null ? null
+                    : TIPO_LONG.equals(mensaje.tipo()) ? Long.valueOf(mensaje.clave())
+                    : mensaje.clave();
+            return new InvalidacionCache(mensaje.nodo(), mensaje.cache(), clave);
+        } catch (IOException | NumberFormatException ex) {
+            log.warn("Mensaje de invalidación de caché ilegible, se ignora: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Forma del mensaje en el canal
+     */
+    record Mensaje(String nodo, String cache, String clave, String tipo) {
+    }
+}
@@ -0,0 +1,45 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * Publica las invalidaciones de L1 para los demás nodos, protegido por el CircuitoRedis
+ * - Corre en el hilo de la petición que escribe o desaloja: el publicador debe usar la conexión
+ *   de la caché (timeout corto), no la general
+ * - Con el circuito abierto la publicación se omite; los demás nodos conservan su copia en L1
+ *   como máximo hasta su TTL, igual que si la publicación fallara
+ */
+@Slf4j
+public class DifusorInvalidacion implements Consumer<InvalidacionCache> {
+
+    private final RedisTemplate<String, InvalidacionCache> publicador;
+    private final String canal;
+    private final CircuitoRedis circuito;
+
+    public DifusorInvalidacion(RedisTemplate<String, InvalidacionCache> publicador, String canal,
+                               CircuitoRedis circuito) {
+        this.publicador = publicador;
+        this.canal = canal;
+        this.circuito = circuito;
+    }
+
+    @Override
+    public void accept(InvalidacionCache invalidacion) {
+        if (!circuito.permitir()) {
+            circuito.omitidas(invalidacion.cache()).increment();
+            log.debug("Circuito de Redis abierto: no se difunde la invalidación de caché {}", invalidacion.cache());
+            return;
+        }
+        try {
+            publicador.convertAndSend(canal, invalidacion);
+            circuito.exito();
+        } catch (RuntimeException ex) {
+            circuito.errores(invalidacion.cache()).increment();
+            circuito.fallo(ex);
+            log.warn("No se pudo difundir la invalidación de caché {}: {}", invalidacion.cache(), ex.getMessage());
+        }
+    }
+}
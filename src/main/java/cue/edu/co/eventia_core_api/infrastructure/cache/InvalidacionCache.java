@@ -0,0 +1,13 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+/**
+ * Mensaje difundido por Redis pub/sub cuando un nodo modifica una entrada de caché (ver CodecInvalidacion)
+ * - nodo: identificador del emisor (ignora sus propios mensajes)
+ * - clave nula: se vació la caché completa
+ */
+public record InvalidacionCache(String nodo, String cache, Object clave) {
+
+    public boolean esVaciado() {
+        return clave == null;
+    }
+}
@@ -0,0 +1,15 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+/**
+ * Lease de corta duración que permite a un solo nodo recalcular una clave ausente
+ * mientras los demás esperan a que aparezca en L2
+ */
+public interface LeaseCarga {
+
+    /**
+     * @return true si este nodo obtuvo el lease (o si no se pudo consultar, para no bloquear la carga)
+     */
+    boolean adquirir(String cache, Object clave);
+
+    void liberar(String cache, Object clave);
+}
@@ -0,0 +1,44 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuración de la caché en memoria (L1) por nombre de caché
+ * Las cachés sin configuración propia usan los valores por defecto
+ * - ttl-redis: TTL de la caché en Redis (L2); sin valor usa spring.cache.redis.time-to-live
+ * - refresco-anticipado: fracción del TTL de L1 tras la cual el siguiente lector recarga la entrada (0 = desactivado)
+ * - lease: carga única entre nodos para las claves ausentes en Redis
+ */
+@Data
+@ConfigurationProperties(prefix = "eventia.cache.l1")
+public class PropiedadesCacheL1 {
+
+    private boolean enabled = true;
+    private String canalInvalidacion = "eventia:cache:invalidaciones";
+    private Nivel porDefecto = new Nivel();
+    private Map<String, Nivel> caches = new HashMap<>();
+    private double refrescoAnticipado = 0.8;
+    private Lease lease = new Lease();
+
+    public Nivel para(String nombreCache) {
+        return caches.getOrDefault(nombreCache, porDefecto);
+    }
+
+    @Data
+    public static class Nivel {
+        private long tamanoMaximo = 1_000;
+        private Duration ttl = Duration.ofSeconds(60);
+        private Duration ttlRedis;
+    }
+
+    @Data
+    public static class Lease {
+        private boolean enabled = false;
+        private Duration ttl = Duration.ofSeconds(5);
+    }
+}
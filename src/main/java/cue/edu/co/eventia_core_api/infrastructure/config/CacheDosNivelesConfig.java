@@ -0,0 +1,128 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import cue.edu.co.eventia_core_api.infrastructure.cache.CacheManagerDosNiveles;
+import cue.edu.co.eventia_core_api.infrastructure.cache.CacheManagerRedisProtegido;
+import cue.edu.co.eventia_core_api.infrastructure.cache.CircuitoRedis;
+import cue.edu.co.eventia_core_api.infrastructure.cache.CodecInvalidacion;
+import cue.edu.co.eventia_core_api.infrastructure.cache.DifusorInvalidacion;
+import cue.edu.co.eventia_core_api.infrastructure.cache.InvalidacionCache;
+import cue.edu.co.eventia_core_api.infrastructure.cache.LeaseCarga;
+import cue.edu.co.eventia_core_api.infrastructure.cache.PropiedadesCacheL1;
+import cue.edu.co.eventia_core_api.infrastructure.redis.ConexionRedisCache;
+import cue.edu.co.eventia_core_api.infrastructure.redis.RedisLeaseCarga;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Caché de dos niveles (Caffeine L1 + Redis L2) con invalidación entre nodos por pub/sub
+ * (mensajes JSON de CodecInvalidacion)
+ * - Reemplaza el CacheManager Redis autoconfigurado cuando spring.cache.type=redis
+ * - La L2 usa la RedisCacheConfiguration de CacheRedisConfig (spring.cache.redis.* y CodecCache),
+ *   con el TTL de eventia.cache.l1.caches.<nombre>.ttl-redis cuando se indica
+ * - Con eventia.cache.l1.enabled=false queda solo la L2, con el mismo timeout corto y circuito
+ * - Con eventia.cache.l1.lease.enabled, los fallos sobre una misma clave se resuelven con una sola carga entre nodos
+ * - La L2 usa su propia conexión con timeout corto (eventia.cache.redis.timeout) y un circuito que deja de
+ *   llamar a Redis tras varios fallos seguidos (eventia.cache.redis.circuito.*); mientras tanto sirve la L1
+ * - La publicación de invalidaciones usa esa misma conexión y circuito: con Redis caído no bloquea
+ *   la petición que escribe más allá del timeout corto
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+@EnableConfigurationProperties(PropiedadesCacheL1.class)
+public class CacheDosNivelesConfig {
+
+    @Bean
+    public ConexionRedisCache conexionRedisCache(RedisConnectionFactory connectionFactory,
+                                                 @Value("${eventia.cache.redis.timeout:250ms}") Duration timeout) {
+        return new ConexionRedisCache(connectionFactory, timeout);
+    }
+
+    @Bean
+    public CircuitoRedis circuitoRedis(MeterRegistry meterRegistry,
+                                       @Value("${eventia.cache.redis.circuito.umbral-fallos:5}") int umbralFallos,
+                                       @Value("${eventia.cache.redis.circuito.pausa:10s}") Duration pausa) {
+        return new CircuitoRedis(umbralFallos, pausa, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "eventia.cache.l1.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManagerDosNiveles cacheManager(ConexionRedisCache conexionRedisCache,
+                                               CircuitoRedis circuitoRedis,
+                                               StringRedisTemplate stringRedisTemplate,
+                                               RedisCacheConfiguration redisCacheConfiguration,
+                                               PropiedadesCacheL1 propiedades) {
+        String nodo = UUID.randomUUID().toString();
+
+        RedisTemplate<String, InvalidacionCache> publicador = new RedisTemplate<>();
+        publicador.setConnectionFactory(conexionRedisCache.factory());
+        publicador.setKeySerializer(RedisSerializer.string());
+        publicador.setValueSerializer(new CodecInvalidacion());
+        publicador.afterPropertiesSet();
+
+        LeaseCarga lease = propiedades.getLease().isEnabled()
+                ? new RedisLeaseCarga(stringRedisTemplate, propiedades.getLease().getTtl(), nodo)
+                : null;
+
+        return new CacheManagerDosNiveles(nivel2(conexionRedisCache, redisCacheConfiguration, propiedades),
+                propiedades,
+                new DifusorInvalidacion(publicador, propiedades.getCanalInvalidacion(), circuitoRedis),
+                lease, nodo, circuitoRedis);
+    }
+
+    @Bean(name = "cacheManager")
+    @ConditionalOnProperty(name = "eventia.cache.l1.enabled", havingValue = "false")
+    public CacheManagerRedisProtegido cacheManagerSoloRedis(ConexionRedisCache conexionRedisCache,
+                                                            CircuitoRedis circuitoRedis,
+                                                            RedisCacheConfiguration redisCacheConfiguration,
+                                                            PropiedadesCacheL1 propiedades) {
+        return new CacheManagerRedisProtegido(
+                nivel2(conexionRedisCache, redisCacheConfiguration, propiedades), circuitoRedis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "eventia.cache.l1.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer invalidacionCacheListener(RedisConnectionFactory connectionFactory,
+                                                                   CacheManagerDosNiveles cacheManager,
+                                                                   PropiedadesCacheL1 propiedades) {
+        CodecInvalidacion codec = new CodecInvalidacion();
+        RedisMessageListenerContainer contenedor = new RedisMessageListenerContainer();
+        contenedor.setConnectionFactory(connectionFactory);
+        contenedor.addMessageListener((mensaje, patron) -> {
+            InvalidacionCache invalidacion = codec.deserialize(mensaje.getBody());
+            if (invalidacion != null) {
+                cacheManager.recibir(invalidacion);
+            }
+        }, new ChannelTopic(propiedades.getCanalInvalidacion()));
+        return contenedor;
+    }
+
+    private static RedisCacheManager nivel2(ConexionRedisCache conexionRedisCache,
+                                            RedisCacheConfiguration redisCacheConfiguration,
+                                            PropiedadesCacheL1 propiedades) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(conexionRedisCache.factory())
+                .cacheDefaults(redisCacheConfiguration);
+        propiedades.getCaches().forEach((nombre, nivel) -> {
+            if (nivel.getTtlRedis() != null) {
+                builder.withCacheConfiguration(nombre, redisCacheConfiguration.entryTtl(nivel.getTtlRedis()));
+            }
+        });
+        RedisCacheManager nivel2 = builder.build();
+        nivel2.afterPropertiesSet();
+        return nivel2;
+    }
+}
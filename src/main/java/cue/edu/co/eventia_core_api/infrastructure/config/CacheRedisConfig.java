@@ -0,0 +1,51 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import cue.edu.co.eventia_core_api.infrastructure.cache.CodecCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+/**
+ * Configuración de los valores de la caché Redis
+ * - Reemplaza la serialización JDK por CodecCache (eventia.cache.codec.formato: smile | json)
+ * - Conserva spring.cache.redis.* (TTL, prefijos, valores nulos)
+ * La usan tanto el CacheManager autoconfigurado como la L2 de la caché de dos niveles.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis")
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheRedisConfig {
+
+    @Bean
+    public CodecCache codecCache(@Value("${eventia.cache.codec.formato:smile}") String formato,
+                                 @Value("${eventia.cache.codec.umbral-compresion:2048}") int umbralCompresion) {
+        return "json".equalsIgnoreCase(formato)
+                ? CodecCache.json(umbralCompresion)
+                : CodecCache.smile(umbralCompresion);
+    }
+
+    @Bean
+    public RedisCacheConfiguration redisCacheConfiguration(CacheProperties cacheProperties, CodecCache codecCache) {
+        CacheProperties.Redis redis = cacheProperties.getRedis();
+        RedisCacheConfiguration configuracion = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(SerializationPair.fromSerializer(codecCache));
+        if (redis.getTimeToLive() != null) {
+            configuracion = configuracion.entryTtl(redis.getTimeToLive());
+        }
+        if (redis.getKeyPrefix() != null) {
+            configuracion = configuracion.prefixCacheNameWith(redis.getKeyPrefix());
+        }
+        if (!redis.isCacheNullValues()) {
+            configuracion = configuracion.disableCachingNullValues();
+        }
+        if (!redis.isUseKeyPrefix()) {
+            configuracion = configuracion.disableKeyPrefix();
+        }
+        return configuracion;
+    }
+}
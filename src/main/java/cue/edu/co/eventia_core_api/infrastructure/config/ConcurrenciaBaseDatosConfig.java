@@ -0,0 +1,43 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Limitador de concurrencia de base de datos para el modo de hilos virtuales
+ * (spring.threads.virtual.enabled): envuelve el DataSource en un DataSourceLimitado.
+ * Solo se envuelve el bean "dataSource": con réplicas de lectura, el límite cubre primaria y réplicas a la vez.
+ * - eventia.concurrencia-bd.permisos: conexiones en uso simultáneo (por defecto, el tamaño del pool)
+ * - eventia.concurrencia-bd.espera-ms: espera máxima por un permiso antes de responder 503
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventia.concurrencia-bd.enabled", havingValue = "true")
+@Slf4j
+public class ConcurrenciaBaseDatosConfig {
+
+    @Bean
+    public static BeanPostProcessor limitadorConcurrenciaBaseDatos(Environment environment) {
+        int permisos = environment.getProperty("eventia.concurrencia-bd.permisos", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long esperaMs = environment.getProperty("eventia.concurrencia-bd.espera-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof DataSourceLimitado)) {
+                    log.info("DataSource '{}' limitado a {} conexiones simultáneas (espera máxima {} ms)",
+                            beanName, permisos, esperaMs);
+                    return new DataSourceLimitado(dataSource, permisos, esperaMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
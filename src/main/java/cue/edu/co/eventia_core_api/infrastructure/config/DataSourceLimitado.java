@@ -0,0 +1,100 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que limita cuántas conexiones pueden estar en uso a la vez con un semáforo justo
+ * Con hilos virtuales cada petición tiene su propio hilo: sin este límite miles de ellas
+ * esperarían en el pool hasta su connection-timeout. Aquí esperan en orden de llegada como
+ * máximo espera-ms y, si no hay permiso, fallan rápido (503) en lugar de agotar el pool.
+ * El permiso se devuelve al cerrar la conexión (al terminar la transacción).
+ */
+@Slf4j
+public class DataSourceLimitado extends DelegatingDataSource {
+
+    private final Semaphore permisos;
+    private final long esperaMs;
+
+    public DataSourceLimitado(DataSource destino, int permisos, long esperaMs) {
+        super(destino);
+        this.permisos = new Semaphore(permisos, true);
+        this.esperaMs = esperaMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberarAlCerrar(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            permisos.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberarAlCerrar(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            permisos.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Conexiones que pueden abrirse ahora sin esperar
+     */
+    public int disponibles() {
+        return permisos.availablePermits();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!permisos.tryAcquire(esperaMs, TimeUnit.MILLISECONDS)) {
+                log.warn("Sin conexiones disponibles tras {} ms ({} peticiones en espera)",
+                        esperaMs, permisos.getQueueLength());
+                throw new SQLTransientConnectionException(
+                        "Límite de concurrencia de base de datos alcanzado tras " + esperaMs + " ms");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrumpido esperando una conexión", ex);
+        }
+    }
+
+    private Connection liberarAlCerrar(Connection conexion) {
+        AtomicBoolean cerrada = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, metodo, argumentos) -> {
+                    if ("close".equals(metodo.getName()) && metodo.getParameterCount() == 0) {
+                        try {
+                            conexion.close();
+                        } finally {
+                            // close() puede llamarse más de una vez: el permiso se devuelve solo la primera
+                            if (cerrada.compareAndSet(false, true)) {
+                                permisos.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return metodo.invoke(conexion, argumentos);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,28 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.SecuenciasIds;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Placeholders de Flyway que no deben configurarse por propiedades
+ */
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * El INCREMENT BY de las secuencias sale del mismo valor que el allocationSize de las entidades
+     */
+    @Bean
+    public FlywayConfigurationCustomizer tamanoBloqueIds() {
+        return configuracion -> {
+            Map<String, String> placeholders = new HashMap<>(configuracion.getPlaceholders());
+            placeholders.put("id_allocation_size", String.valueOf(SecuenciasIds.TAMANO_BLOQUE));
+            configuracion.placeholders(placeholders);
+        };
+    }
+}
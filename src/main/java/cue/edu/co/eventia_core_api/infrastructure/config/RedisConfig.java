@@ -1,6 +1,9 @@
 package cue.edu.co.eventia_core_api.infrastructure.config;
 
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -9,10 +12,17 @@ import org.springframework.context.annotation.Configuration;
  * Nota:
  * - Dejamos que Spring Boot autoconfigure Redis (LettuceConnectionFactory, CacheManager, RedisTemplate, serializers, etc.).
  * - Los TTL y demás opciones básicas se controlan desde application.yml (spring.cache.redis.* y spring.data.redis.*).
+ * - Con spring.cache.type=redis, CacheDosNivelesConfig antepone una L1 en memoria a la caché Redis.
+ * - Un error de la caché se registra y se trata como fallo de caché: el método se ejecuta sin ella
+ *   (con la L1 activa, CacheRedisProtegida ya absorbe los errores de Redis antes de llegar aquí).
  * - Esto elimina errores de IDE por resoluciones de clases y mantiene el comportamiento esperado.
  */
 @Configuration
 @EnableCaching
-public class RedisConfig {
+public class RedisConfig implements CachingConfigurer {
 
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler(false);
+    }
 }
@@ -0,0 +1,77 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.replicas.DataSourceReplicas;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.replicas.PropiedadesReplicas;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Réplicas de lectura: las transacciones @Transactional(readOnly = true) usan una réplica
+ * - El DataSource principal es un LazyConnectionDataSourceProxy: la conexión real se pide al conocer
+ *   si la transacción es de solo lectura, y entonces se toma de DataSourceReplicas en vez de la primaria
+ * - Cada réplica tiene su propio pool (eventia.replicas.nodos[].tamano-pool); la primaria usa spring.datasource.hikari.*
+ * - Réplicas atrasadas más de eventia.replicas.lag-maximo o caídas: la lectura va a la primaria
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventia.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(PropiedadesReplicas.class)
+@Slf4j
+public class ReplicasConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimaria(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primaria = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primaria.setPoolName("primaria");
+        return primaria;
+    }
+
+    @Bean
+    public DataSourceReplicas dataSourceReplicas(HikariDataSource dataSourcePrimaria,
+                                                 DataSourceProperties dataSourceProperties,
+                                                 PropiedadesReplicas propiedades) {
+        List<DataSourceReplicas.Replica> replicas = propiedades.getNodos().stream()
+                .map(nodo -> new DataSourceReplicas.Replica(nodo.getNombre(), poolReplica(nodo, dataSourceProperties)))
+                .toList();
+        log.info("Lecturas de solo lectura repartidas entre {} réplica(s) (atraso máximo {} ms)",
+                replicas.size(), propiedades.getLagMaximo().toMillis());
+        return new DataSourceReplicas(dataSourcePrimaria, replicas,
+                propiedades.getLagMaximo().toMillis(), propiedades.getConsultaLag());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource dataSourcePrimaria, DataSourceReplicas dataSourceReplicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(dataSourcePrimaria);
+        proxy.setReadOnlyDataSource(dataSourceReplicas);
+        return proxy;
+    }
+
+    private HikariDataSource poolReplica(PropiedadesReplicas.Nodo nodo, DataSourceProperties primaria) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-" + nodo.getNombre());
+        pool.setJdbcUrl(nodo.getUrl());
+        pool.setUsername(nodo.getUsername() != null ? nodo.getUsername() : primaria.determineUsername());
+        pool.setPassword(nodo.getPassword() != null ? nodo.getPassword() : primaria.determinePassword());
+        pool.setDriverClassName(primaria.determineDriverClassName());
+        pool.setMaximumPoolSize(nodo.getTamanoPool());
+        pool.setMinimumIdle(Math.min(2, nodo.getTamanoPool()));
+        pool.setReadOnly(true);
+        // Una réplica caída no debe impedir el arranque: el monitor la deja fuera hasta que responda
+        pool.setInitializationFailTimeout(-1);
+        return pool;
+    }
+}
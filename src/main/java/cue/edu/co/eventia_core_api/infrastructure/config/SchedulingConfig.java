@@ -0,0 +1,13 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita las tareas programadas (volcado del ledger de cupos, etc.)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
@@ -0,0 +1,157 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.repository.ArchivoEventosRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.AsistenciaArchivadaEntity;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.EventoArchivadoEntity;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaAsistenciaArchivadaRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaEventoArchivadoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador que implementa el puerto ArchivoEventosRepository
+ * - El archivado es un movimiento por conjuntos (INSERT ... SELECT y DELETE por lista de IDs) en una transacción
+ * - Las lecturas usan las entidades inmutables del archivo
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchivoEventosRepositoryAdapter implements ArchivoEventosRepository {
+
+    // FOR UPDATE: si dos nodos archivan a la vez, el segundo espera y descarta las filas ya movidas
+    private static final String CANDIDATOS =
+            "SELECT id FROM eventos WHERE estado IN ('FINALIZADO', 'CANCELADO') AND fecha_fin < :antesDe " +
+            "ORDER BY fecha_fin, id LIMIT :limite FOR UPDATE";
+
+    private static final String ARCHIVAR_EVENTOS =
+            "INSERT INTO eventos_archivados (id, nombre, descripcion, fecha_inicio, fecha_fin, ubicacion, " +
+            "capacidad_maxima, participantes_registrados, estado, fecha_creacion, fecha_actualizacion, fecha_archivado) " +
+            "SELECT id, nombre, descripcion, fecha_inicio, fecha_fin, ubicacion, capacidad_maxima, " +
+            "participantes_registrados, estado, fecha_creacion, fecha_actualizacion, :ahora " +
+            "FROM eventos WHERE id IN (:ids)";
+
+    private static final String ARCHIVAR_ASISTENCIAS =
+            "INSERT INTO asistencias_archivadas (id, evento_id, participante_id, fecha_registro, estado, notas, " +
+            "fecha_actualizacion) " +
+            "SELECT id, evento_id, participante_id, fecha_registro, estado, notas, fecha_actualizacion " +
+            "FROM asistencias WHERE evento_id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JpaEventoArchivadoRepository jpaEventoArchivadoRepository;
+    private final JpaAsistenciaArchivadaRepository jpaAsistenciaArchivadaRepository;
+
+    @Override
+    @Transactional
+    public List<Long> archivarTerminados(LocalDateTime terminadosAntesDe, int limite) {
+        List<Long> ids = jdbcTemplate.queryForList(CANDIDATOS,
+                Map.of("antesDe", terminadosAntesDe, "limite", limite), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource parametros = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("ahora", LocalDateTime.now());
+        jdbcTemplate.update(ARCHIVAR_EVENTOS, parametros);
+        jdbcTemplate.update(ARCHIVAR_ASISTENCIAS, parametros);
+        jdbcTemplate.update("DELETE FROM asistencias WHERE evento_id IN (:ids)", parametros);
+        jdbcTemplate.update("DELETE FROM evento_estadisticas_deltas WHERE evento_id IN (:ids)", parametros);
+        jdbcTemplate.update("DELETE FROM evento_estadisticas WHERE evento_id IN (:ids)", parametros);
+        jdbcTemplate.update("DELETE FROM eventos WHERE id IN (:ids)", parametros);
+        return ids;
+    }
+
+    @Override
+    public Optional<Evento> findEventoById(Long id) {
+        return jpaEventoArchivadoRepository.findById(id)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<Evento> findEventosByIds(Collection<Long> ids) {
+        return jpaEventoArchivadoRepository.findAllById(ids).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Asistencia> findAsistenciaById(Long id) {
+        return jpaAsistenciaArchivadaRepository.findById(id)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public List<Asistencia> findAsistenciasSiguientesPorEvento(Long eventoId, long despuesDeId, int limite) {
+        return jpaAsistenciaArchivadaRepository
+                .findByEventoIdAndIdGreaterThanOrderByIdAsc(eventoId, despuesDeId, Limit.of(limite)).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Asistencia> findAsistenciasByParticipanteId(Long participanteId) {
+        return jpaAsistenciaArchivadaRepository.findByParticipanteId(participanteId).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public ConteoAsistencias contarPorEstado(Long eventoId) {
+        return jpaAsistenciaArchivadaRepository.contarPorEstado(eventoId).stream()
+                .findFirst()
+                .map(fila -> ConteoAsistencias.builder()
+                        .eventoId(eventoId)
+                        .total(valor(fila.getTotal()))
+                        .confirmados(valor(fila.getConfirmados()))
+                        .cancelados(valor(fila.getCancelados()))
+                        .asistieron(valor(fila.getAsistieron()))
+                        .noAsistieron(valor(fila.getNoAsistieron()))
+                        .enEspera(valor(fila.getEnEspera()))
+                        .build())
+                .orElseGet(() -> ConteoAsistencias.vacio(eventoId));
+    }
+
+    private Evento toDomain(EventoArchivadoEntity entity) {
+        return Evento.builder()
+                .id(entity.getId())
+                .nombre(entity.getNombre())
+                .descripcion(entity.getDescripcion())
+                .fechaInicio(entity.getFechaInicio())
+                .fechaFin(entity.getFechaFin())
+                .ubicacion(entity.getUbicacion())
+                .capacidadMaxima(entity.getCapacidadMaxima())
+                .participantesRegistrados(entity.getParticipantesRegistrados())
+                .estado(entity.getEstado())
+                .fechaCreacion(entity.getFechaCreacion())
+                .fechaActualizacion(entity.getFechaActualizacion())
+                .build();
+    }
+
+    private Asistencia toDomain(AsistenciaArchivadaEntity entity) {
+        return Asistencia.builder()
+                .id(entity.getId())
+                .eventoId(entity.getEventoId())
+                .participanteId(entity.getParticipanteId())
+                .fechaRegistro(entity.getFechaRegistro())
+                .estado(entity.getEstado())
+                .notas(entity.getNotas())
+                .fechaActualizacion(entity.getFechaActualizacion())
+                .build();
+    }
+
+    private static long valor(Long valor) {
+        return valor != null ? valor : 0L;
+    }
+}
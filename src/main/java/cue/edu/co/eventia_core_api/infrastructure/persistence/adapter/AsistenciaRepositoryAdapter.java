@@ -1,16 +1,29 @@
 package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
 
 import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
 import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
 import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.AsistenciaEntity;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.mapper.AsistenciaEntityMapper;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaAsistenciaRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaAsistenciaRepository.ConteoPorEstado;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -23,15 +36,69 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepository {
 
     private final JpaAsistenciaRepository jpaAsistenciaRepository;
     private final AsistenciaEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public Asistencia save(Asistencia asistencia) {
         AsistenciaEntity entity = mapper.toEntity(asistencia);
-        AsistenciaEntity savedEntity = jpaAsistenciaRepository.save(entity);
+        // Con IDs por secuencia el INSERT se difiere: el flush expone aquí la violación de unicidad
+        AsistenciaEntity savedEntity = jpaAsistenciaRepository.saveAndFlush(entity);
         return mapper.toDomain(savedEntity);
     }
 
+    /**
+     * INSERT ... ON CONFLICT (evento_id, participante_id) DO NOTHING RETURNING id: un solo round trip
+     * sin carrera entre la comprobación y la escritura. El ID lo asigna el generador de la entidad,
+     * así sale del bloque pooled-lo en memoria igual que en save() y no consume un bloque por fila.
+     * Si la asistencia ya existía el ID generado se descarta.
+     */
+    @Override
+    @Transactional
+    public Optional<Asistencia> insertarSiNoExiste(Asistencia asistencia) {
+        LocalDateTime ahora = LocalDateTime.now();
+        if (asistencia.getFechaRegistro() == null) {
+            asistencia.setFechaRegistro(ahora);
+        }
+        // Igual que @UpdateTimestamp al persistir la entidad
+        asistencia.setFechaActualizacion(ahora);
+        // El INSERT va por JDBC: las escrituras JPA pendientes (evento, participante) deben estar en la base
+        entityManager.flush();
+        List<Long> ids = jdbcTemplate.queryForList(
+                "INSERT INTO asistencias (id, evento_id, participante_id, fecha_registro, estado, notas, fecha_actualizacion) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+                "ON CONFLICT (evento_id, participante_id) DO NOTHING RETURNING id",
+                Long.class,
+                generarId(),
+                asistencia.getEventoId(),
+                asistencia.getParticipanteId(),
+                Timestamp.valueOf(asistencia.getFechaRegistro()),
+                asistencia.getEstado().name(),
+                asistencia.getNotas(),
+                Timestamp.valueOf(asistencia.getFechaActualizacion()));
+        if (ids.isEmpty()) {
+            return Optional.empty();
+        }
+        asistencia.setId(ids.get(0));
+        return Optional.of(asistencia);
+    }
+
+    /**
+     * Con IDs por secuencia (pooled-lo) Hibernate agrupa las inserciones según hibernate.jdbc.batch_size
+     */
+    @Override
+    @Transactional
+    public List<Asistencia> saveAll(List<Asistencia> asistencias) {
+        List<AsistenciaEntity> entities = asistencias.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList());
+        List<AsistenciaEntity> savedEntities = jpaAsistenciaRepository.saveAllAndFlush(entities);
+        return savedEntities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Asistencia> findById(Long id) {
         return jpaAsistenciaRepository.findById(id)
@@ -45,6 +112,13 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Asistencia> findSiguientesPorEvento(Long eventoId, long despuesDeId, int limite) {
+        return jpaAsistenciaRepository.findSiguientesPorEvento(eventoId, despuesDeId, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Asistencia> findByParticipanteId(Long participanteId) {
         return jpaAsistenciaRepository.findByParticipanteId(participanteId).stream()
@@ -52,6 +126,16 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Long> findParticipanteIdsByEventoId(Long eventoId) {
+        return jpaAsistenciaRepository.findParticipanteIdsByEventoId(eventoId);
+    }
+
+    @Override
+    public List<Long> findParticipanteIdsRegistrados(Long eventoId, Collection<Long> participanteIds) {
+        return jpaAsistenciaRepository.findParticipanteIdsRegistrados(eventoId, participanteIds);
+    }
+
     @Override
     public Optional<Asistencia> findByEventoIdAndParticipanteId(Long eventoId, Long participanteId) {
         return jpaAsistenciaRepository.findByEventoIdAndParticipanteId(eventoId, participanteId)
@@ -75,11 +159,59 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepository {
         return jpaAsistenciaRepository.countByEventoIdAndEstado(eventoId, estado);
     }
 
+    @Override
+    public ConteoAsistencias contarPorEstado(Long eventoId) {
+        return contarPorEstado(List.of(eventoId)).get(eventoId);
+    }
+
+    @Override
+    public Map<Long, ConteoAsistencias> contarPorEstado(Collection<Long> eventoIds) {
+        Map<Long, ConteoAsistencias> conteos = new LinkedHashMap<>();
+        eventoIds.forEach(id -> conteos.put(id, ConteoAsistencias.vacio(id)));
+        if (eventoIds.isEmpty()) {
+            return conteos;
+        }
+        for (ConteoPorEstado fila : jpaAsistenciaRepository.contarPorEstado(eventoIds)) {
+            conteos.put(fila.getEventoId(), ConteoAsistencias.builder()
+                    .eventoId(fila.getEventoId())
+                    .total(valor(fila.getTotal()))
+                    .confirmados(valor(fila.getConfirmados()))
+                    .cancelados(valor(fila.getCancelados()))
+                    .asistieron(valor(fila.getAsistieron()))
+                    .noAsistieron(valor(fila.getNoAsistieron()))
+                    .enEspera(valor(fila.getEnEspera()))
+                    .build());
+        }
+        return conteos;
+    }
+
     @Override
     public boolean existsByEventoIdAndParticipanteId(Long eventoId, Long participanteId) {
         return jpaAsistenciaRepository.existsByEventoIdAndParticipanteId(eventoId, participanteId);
     }
 
+    @Override
+    @Transactional
+    public int promoverEnEspera(Long eventoId, int cantidad) {
+        return jpaAsistenciaRepository.promoverEnEspera(eventoId, cantidad, LocalDateTime.now());
+    }
+
+    @Override
+    public List<Long> findEventosFinalizadosConConfirmadas(LocalDateTime terminadosAntesDe, int limite) {
+        return jpaAsistenciaRepository.findEventosFinalizadosConConfirmadas(terminadosAntesDe, limite);
+    }
+
+    @Override
+    @Transactional
+    public int marcarNoAsistioConfirmadas(Long eventoId, int limite) {
+        return jpaAsistenciaRepository.marcarNoAsistioConfirmadas(eventoId, limite, LocalDateTime.now());
+    }
+
+    @Override
+    public long contarEnEsperaAntesDe(Long eventoId, LocalDateTime fechaRegistro, Long asistenciaId) {
+        return jpaAsistenciaRepository.contarEnEsperaAntesDe(eventoId, fechaRegistro, asistenciaId);
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -91,5 +223,16 @@ public class AsistenciaRepositoryAdapter implements AsistenciaRepository {
     public void deleteByEventoIdAndParticipanteId(Long eventoId, Long participanteId) {
         jpaAsistenciaRepository.deleteByEventoIdAndParticipanteId(eventoId, participanteId);
     }
-}
 
+    private static long valor(Long contador) {
+        return contador != null ? contador : 0L;
+    }
+
+    private Long generarId() {
+        SharedSessionContractImplementor sesion = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generador = (BeforeExecutionGenerator) sesion.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(AsistenciaEntity.class)
+                .getGenerator();
+        return (Long) generador.generate(sesion, null, null, EventType.INSERT);
+    }
+}
@@ -0,0 +1,113 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaEventoEstadisticasRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaEventoEstadisticasRepository.Contadores;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador que implementa el puerto EstadisticasEventoRepository usando JPA
+ * Las transiciones se registran como deltas en evento_estadisticas_deltas (solo INSERT, sin fila
+ * caliente por evento) y compactar() los suma por lotes a evento_estadisticas
+ */
+@Component
+@RequiredArgsConstructor
+public class EstadisticasEventoRepositoryAdapter implements EstadisticasEventoRepository {
+
+    private final JpaEventoEstadisticasRepository jpaEventoEstadisticasRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<ConteoAsistencias> findByEventoId(Long eventoId) {
+        return jpaEventoEstadisticasRepository.findContadores(List.of(eventoId)).stream()
+                .findFirst()
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Map<Long, ConteoAsistencias> findByEventoIds(Collection<Long> eventoIds) {
+        if (eventoIds.isEmpty()) {
+            return Map.of();
+        }
+        return jpaEventoEstadisticasRepository.findContadores(eventoIds).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toMap(ConteoAsistencias::getEventoId, Function.identity()));
+    }
+
+    @Override
+    @Transactional
+    public void ajustar(Long eventoId, Map<EstadoAsistencia, Integer> deltas) {
+        jpaEventoEstadisticasRepository.registrarDelta(eventoId,
+                deltas.getOrDefault(EstadoAsistencia.CONFIRMADO, 0),
+                deltas.getOrDefault(EstadoAsistencia.CANCELADO, 0),
+                deltas.getOrDefault(EstadoAsistencia.ASISTIO, 0),
+                deltas.getOrDefault(EstadoAsistencia.NO_ASISTIO, 0),
+                deltas.getOrDefault(EstadoAsistencia.EN_ESPERA, 0),
+                LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int compactar(int limite) {
+        List<Long> ids = jpaEventoEstadisticasRepository.bloquearDeltas(limite);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime ahora = LocalDateTime.now();
+        // Ordenados por evento para que dos compactaciones concurrentes bloqueen las filas en el mismo orden
+        List<Contadores> sumas = jpaEventoEstadisticasRepository.sumarDeltas(ids);
+        jpaEventoEstadisticasRepository.inicializar(sumas.stream().map(Contadores::getEventoId).toList(), ahora);
+        List<Object[]> parametros = sumas.stream()
+                .map(suma -> new Object[]{suma.getConfirmados(), suma.getCancelados(), suma.getAsistieron(),
+                        suma.getNoAsistieron(), suma.getEnEspera(), ahora, suma.getEventoId()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(
+                "UPDATE evento_estadisticas SET confirmados = confirmados + ?, cancelados = cancelados + ?, " +
+                "asistieron = asistieron + ?, no_asistieron = no_asistieron + ?, en_espera = en_espera + ?, " +
+                "fecha_actualizacion = ? WHERE evento_id = ?",
+                parametros);
+        jpaEventoEstadisticasRepository.borrarDeltas(ids);
+        return ids.size();
+    }
+
+    @Override
+    @Transactional
+    public void reconstruir(Long eventoId) {
+        LocalDateTime ahora = LocalDateTime.now();
+        jpaEventoEstadisticasRepository.inicializar(List.of(eventoId), ahora);
+        // Con la fila bloqueada ninguna compactación puede mover deltas a la fila a mitad del recálculo
+        jpaEventoEstadisticasRepository.bloquear(eventoId);
+        jpaEventoEstadisticasRepository.reconstruir(eventoId, ahora);
+    }
+
+    @Override
+    public List<Long> findEventoIds(Long despuesDe, int limite) {
+        return jpaEventoEstadisticasRepository.findEventoIds(despuesDe, limite);
+    }
+
+    private ConteoAsistencias toDomain(Contadores contadores) {
+        return ConteoAsistencias.builder()
+                .eventoId(contadores.getEventoId())
+                .confirmados(contadores.getConfirmados())
+                .cancelados(contadores.getCancelados())
+                .asistieron(contadores.getAsistieron())
+                .noAsistieron(contadores.getNoAsistieron())
+                .enEspera(contadores.getEnEspera())
+                .total(contadores.getConfirmados() + contadores.getCancelados() + contadores.getAsistieron()
+                        + contadores.getNoAsistieron() + contadores.getEnEspera())
+                .build();
+    }
+}
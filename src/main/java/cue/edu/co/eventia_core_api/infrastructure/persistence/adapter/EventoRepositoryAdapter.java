@@ -7,11 +7,19 @@ import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.EventoEntit
 import cue.edu.co.eventia_core_api.infrastructure.persistence.mapper.EventoEntityMapper;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaEventoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +31,7 @@ public class EventoRepositoryAdapter implements EventoRepository {
 
     private final JpaEventoRepository jpaEventoRepository;
     private final EventoEntityMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Evento save(Evento evento) {
@@ -44,6 +53,20 @@ public class EventoRepositoryAdapter implements EventoRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Evento> findAllById(Collection<Long> ids) {
+        return jpaEventoRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Evento> findSiguientes(long despuesDeId, int limite) {
+        return jpaEventoRepository.findByIdGreaterThanOrderByIdAsc(despuesDeId, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Evento> findByEstado(EstadoEvento estado) {
         return jpaEventoRepository.findByEstado(estado).stream()
@@ -60,7 +83,7 @@ public class EventoRepositoryAdapter implements EventoRepository {
 
     @Override
     public List<Evento> findEventosConCapacidadDisponible() {
-        return jpaEventoRepository.findEventosConCapacidadDisponible().stream()
+        return jpaEventoRepository.findEventosConCapacidadDisponible(LocalDateTime.now()).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -79,5 +102,83 @@ public class EventoRepositoryAdapter implements EventoRepository {
     public long count() {
         return jpaEventoRepository.count();
     }
+
+    @Override
+    @Transactional
+    public boolean reservarCupo(Long eventoId) {
+        return jpaEventoRepository.reservarCupo(eventoId, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean liberarCupo(Long eventoId) {
+        return jpaEventoRepository.liberarCupo(eventoId, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int reservarCupos(Long eventoId, int cantidad) {
+        // El SELECT ... FOR UPDATE serializa las reservas masivas sobre la misma fila
+        int disponibles = jpaEventoRepository.bloquearCuposDisponibles(eventoId, LocalDateTime.now()).orElse(0);
+        int otorgados = Math.min(cantidad, disponibles);
+        if (otorgados <= 0) {
+            return 0;
+        }
+        return jpaEventoRepository.sumarCupos(eventoId, otorgados, LocalDateTime.now()) == 1 ? otorgados : 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean liberarCupos(Long eventoId, int cantidad) {
+        return jpaEventoRepository.restarCupos(eventoId, cantidad, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Set<Long> sumarParticipantes(Map<Long, Integer> deltasPorEvento) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Map.Entry<Long, Integer>> deltas = List.copyOf(deltasPorEvento.entrySet());
+        List<Object[]> parametros = deltas.stream()
+                .map(delta -> new Object[]{delta.getValue(), ahora, delta.getKey(), delta.getValue()})
+                .collect(Collectors.toList());
+        // La condición evita violar chk_participantes_validos: un evento fuera de rango no aborta el lote
+        int[] filas = jdbcTemplate.batchUpdate(
+                "UPDATE eventos SET participantes_registrados = participantes_registrados + ?, " +
+                "fecha_actualizacion = ? WHERE id = ? " +
+                "AND participantes_registrados + ? BETWEEN 0 AND capacidad_maxima",
+                parametros);
+        Set<Long> rechazados = new HashSet<>();
+        for (int i = 0; i < filas.length; i++) {
+            if (filas[i] == 0) {
+                rechazados.add(deltas.get(i).getKey());
+            }
+        }
+        return rechazados;
+    }
+
+    @Override
+    @Transactional
+    public int reconciliarParticipantesRegistrados() {
+        return jpaEventoRepository.reconciliarParticipantesRegistrados();
+    }
+
+    @Override
+    @Transactional
+    public int reconciliarParticipantesRegistrados(Collection<Long> eventoIds) {
+        if (eventoIds.isEmpty()) {
+            return 0;
+        }
+        return jpaEventoRepository.reconciliarParticipantesRegistrados(eventoIds);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> finalizarTerminados(LocalDateTime ahora, int limite) {
+        List<Long> ids = jpaEventoRepository.bloquearActivosTerminados(ahora, limite);
+        if (!ids.isEmpty()) {
+            jpaEventoRepository.finalizar(ids, ahora);
+        }
+        return ids;
+    }
 }
 
@@ -0,0 +1,38 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.repository.BloqueoTareasProgramadas;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Adaptador que implementa el puerto BloqueoTareasProgramadas con bloqueos consultivos de PostgreSQL
+ * (pg_try_advisory_xact_lock). Otras bases de datos (H2 en las pruebas) no se comparten entre
+ * nodos, así que el bloqueo se concede siempre.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcBloqueoTareasProgramadas implements BloqueoTareasProgramadas {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean intentarAdquirir(long clave) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion -> {
+            if (!conexion.isWrapperFor(PGConnection.class)) {
+                return true;
+            }
+            try (var sentencia = conexion.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+                sentencia.setLong(1, clave);
+                try (var resultado = sentencia.executeQuery()) {
+                    return resultado.next() && resultado.getBoolean(1);
+                }
+            }
+        }));
+    }
+}
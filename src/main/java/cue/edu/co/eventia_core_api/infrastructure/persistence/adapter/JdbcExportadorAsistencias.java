@@ -0,0 +1,67 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.AsistenciaExportada;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.ExportadorAsistencias;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * Adaptador que implementa el puerto ExportadorAsistencias con un cursor JDBC de solo avance
+ * - Sin entidades ni contexto de persistencia: cada fila se mapea y se entrega al consumidor
+ * - El fetch size limita las filas en memoria; PostgreSQL solo lo respeta con autocommit
+ *   desactivado, por eso la lectura va dentro de una transacción de solo lectura
+ */
+@Component
+public class JdbcExportadorAsistencias implements ExportadorAsistencias {
+
+    private static final String CONSULTA =
+            "SELECT a.id, a.participante_id, p.nombre, p.apellido, p.email, p.documento, " +
+            "a.estado, a.fecha_registro, a.notas " +
+            "FROM asistencias a JOIN participantes p ON p.id = a.participante_id " +
+            "WHERE a.evento_id = ? ORDER BY a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcExportadorAsistencias(JdbcTemplate jdbcTemplate,
+                                     @Value("${eventia.exportacion.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void recorrerPorEvento(Long eventoId, Consumer<AsistenciaExportada> consumidor) {
+        jdbcTemplate.query(conexion -> {
+            PreparedStatement sentencia = conexion.prepareStatement(
+                    CONSULTA, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            sentencia.setFetchSize(fetchSize);
+            sentencia.setLong(1, eventoId);
+            return sentencia;
+        }, (RowCallbackHandler) fila -> consumidor.accept(mapear(fila)));
+    }
+
+    private static AsistenciaExportada mapear(ResultSet fila) throws SQLException {
+        Timestamp fechaRegistro = fila.getTimestamp("fecha_registro");
+        return AsistenciaExportada.builder()
+                .asistenciaId(fila.getLong("id"))
+                .participanteId(fila.getLong("participante_id"))
+                .nombreParticipante(fila.getString("nombre") + " " + fila.getString("apellido"))
+                .email(fila.getString("email"))
+                .documento(fila.getString("documento"))
+                .estado(EstadoAsistencia.valueOf(fila.getString("estado")))
+                .fechaRegistro(fechaRegistro != null ? fechaRegistro.toLocalDateTime() : null)
+                .notas(fila.getString("notas"))
+                .build();
+    }
+}
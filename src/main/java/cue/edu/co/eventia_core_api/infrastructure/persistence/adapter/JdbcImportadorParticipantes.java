@@ -0,0 +1,175 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.ImportadorParticipantes;
+import cue.edu.co.eventia_core_api.domain.service.RechazoImportacion;
+import cue.edu.co.eventia_core_api.domain.service.ResultadoImportacionParticipantes;
+import cue.edu.co.eventia_core_api.exception.OperacionNoSoportadaException;
+import cue.edu.co.eventia_core_api.exception.ParametroInvalidoException;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.SecuenciasIds;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador que implementa el puerto ImportadorParticipantes sobre una tabla temporal de staging
+ * 1. El CSV se vuelca a la tabla temporal con COPY FROM STDIN (requiere PostgreSQL)
+ * 2. Las validaciones y los duplicados (contra el archivo y contra participantes) se marcan
+ *    con un UPDATE por regla, sin consultas por fila
+ * 3. Las filas válidas se insertan con un INSERT ... SELECT ... ON CONFLICT DO NOTHING: si otra
+ *    transacción insertó el mismo email o documento entre medias, la fila se reporta como conflicto
+ * Los IDs salen de participantes_id_seq por bloques (pooled-lo): un nextval por cada
+ * SecuenciasIds.TAMANO_BLOQUE filas válidas, y cada fila toma inicio del bloque + posición.
+ * Así nunca se solapan con los IDs que asigna Hibernate ni se gasta un bloque por fila.
+ */
+@Component
+@Slf4j
+public class JdbcImportadorParticipantes implements ImportadorParticipantes {
+
+    private static final String TABLA = "participantes_importacion";
+    private static final String COLUMNAS = "nombre, apellido, email, telefono, documento, tipo_documento";
+    private static final String COLUMNAS_VALIDAS =
+            "v.nombre, v.apellido, v.email, v.telefono, v.documento, v.tipo_documento";
+
+    /**
+     * Reserva los bloques necesarios (la CTE con nextval se evalúa una vez por bloque) y numera
+     * las filas válidas en orden de archivo para repartirlas entre ellos
+     */
+    private static final String INSERTAR_VALIDAS =
+            "WITH bloques AS (" +
+            "SELECT n, nextval('participantes_id_seq') AS inicio FROM generate_series(0, ? - 1) AS n), " +
+            "validas AS (" +
+            "SELECT i.*, ROW_NUMBER() OVER (ORDER BY i.fila) - 1 AS orden FROM " + TABLA + " i WHERE i.motivo IS NULL) " +
+            "INSERT INTO participantes (id, " + COLUMNAS + ", fecha_creacion) " +
+            "SELECT b.inicio + v.orden % " + SecuenciasIds.TAMANO_BLOQUE + ", " + COLUMNAS_VALIDAS + ", ? " +
+            "FROM validas v JOIN bloques b ON b.n = v.orden / " + SecuenciasIds.TAMANO_BLOQUE + " " +
+            "ORDER BY v.fila " +
+            "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcImportadorParticipantes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public ResultadoImportacionParticipantes importar(Reader csv) {
+        // Se comprueba antes de crear la tabla temporal, cuyo DDL también es propio de PostgreSQL
+        if (!Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) conexion -> conexion.isWrapperFor(PGConnection.class)))) {
+            throw new OperacionNoSoportadaException("La importación de participantes requiere PostgreSQL (COPY)");
+        }
+        prepararStaging();
+        long total = cargar(csv);
+        log.debug("{} filas cargadas en {}", total, TABLA);
+
+        normalizar();
+        marcar(RechazoImportacion.Motivo.CAMPOS_OBLIGATORIOS,
+                "nombre IS NULL OR nombre = '' OR apellido IS NULL OR apellido = '' OR email IS NULL OR email = '' " +
+                "OR documento IS NULL OR documento = '' OR tipo_documento IS NULL OR tipo_documento = ''");
+        marcar(RechazoImportacion.Motivo.LONGITUD_INVALIDA,
+                "LENGTH(nombre) NOT BETWEEN 2 AND 100 OR LENGTH(apellido) NOT BETWEEN 2 AND 100 " +
+                "OR LENGTH(email) > 150 OR LENGTH(documento) NOT BETWEEN 5 AND 50 OR LENGTH(telefono) > 20");
+        marcar(RechazoImportacion.Motivo.EMAIL_INVALIDO, "email NOT LIKE '%_@_%._%'");
+        marcar(RechazoImportacion.Motivo.TIPO_DOCUMENTO_INVALIDO,
+                "tipo_documento NOT IN (" + Arrays.stream(TipoDocumento.values())
+                        .map(tipo -> "'" + tipo.name() + "'")
+                        .collect(Collectors.joining(", ")) + ")");
+        // La primera aparición válida se conserva; las siguientes se rechazan
+        marcar(RechazoImportacion.Motivo.EMAIL_DUPLICADO_EN_ARCHIVO,
+                "EXISTS (SELECT 1 FROM " + TABLA + " o WHERE o.email = i.email AND o.fila < i.fila AND o.motivo IS NULL)");
+        marcar(RechazoImportacion.Motivo.DOCUMENTO_DUPLICADO_EN_ARCHIVO,
+                "EXISTS (SELECT 1 FROM " + TABLA + " o WHERE o.documento = i.documento AND o.fila < i.fila AND o.motivo IS NULL)");
+        marcar(RechazoImportacion.Motivo.EMAIL_EXISTENTE,
+                "EXISTS (SELECT 1 FROM participantes p WHERE p.email = i.email)");
+        marcar(RechazoImportacion.Motivo.DOCUMENTO_EXISTENTE,
+                "EXISTS (SELECT 1 FROM participantes p WHERE p.documento = i.documento)");
+
+        long validas = contarValidas();
+        long bloques = (validas + SecuenciasIds.TAMANO_BLOQUE - 1) / SecuenciasIds.TAMANO_BLOQUE;
+        long importados = validas == 0 ? 0
+                : jdbcTemplate.update(INSERTAR_VALIDAS, bloques, Timestamp.valueOf(LocalDateTime.now()));
+        if (importados < validas) {
+            marcar(RechazoImportacion.Motivo.CONFLICTO_CONCURRENTE,
+                    "NOT EXISTS (SELECT 1 FROM participantes p WHERE p.email = i.email AND p.documento = i.documento)");
+        }
+
+        List<RechazoImportacion> rechazos = jdbcTemplate.query(
+                "SELECT fila, email, documento, motivo FROM " + TABLA + " WHERE motivo IS NOT NULL ORDER BY fila",
+                (fila, numero) -> RechazoImportacion.builder()
+                        .fila(fila.getLong("fila"))
+                        .email(fila.getString("email"))
+                        .documento(fila.getString("documento"))
+                        .motivo(RechazoImportacion.Motivo.valueOf(fila.getString("motivo")))
+                        .build());
+        // Reinicia también la numeración de filas para la siguiente importación en esta sesión
+        jdbcTemplate.execute("TRUNCATE " + TABLA + " RESTART IDENTITY");
+
+        return ResultadoImportacionParticipantes.builder()
+                .total(total)
+                .importados(importados)
+                .rechazados((long) rechazos.size())
+                .rechazos(rechazos)
+                .build();
+    }
+
+    /**
+     * La tabla temporal vive en la sesión (conexión del pool) y se reutiliza vaciándola
+     */
+    private void prepararStaging() {
+        jdbcTemplate.execute("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + TABLA + " (" +
+                "fila BIGINT GENERATED ALWAYS AS IDENTITY, " +
+                "nombre TEXT, apellido TEXT, email TEXT, telefono TEXT, documento TEXT, tipo_documento TEXT, " +
+                "motivo VARCHAR(40))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_importacion_email ON " + TABLA + " (email)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_importacion_documento ON " + TABLA + " (documento)");
+        jdbcTemplate.execute("TRUNCATE TABLE " + TABLA + " RESTART IDENTITY");
+    }
+
+    private long cargar(Reader csv) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) conexion -> {
+            try {
+                return conexion.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                        "COPY " + TABLA + " (" + COLUMNAS + ") FROM STDIN WITH (FORMAT csv, HEADER true)", csv);
+            } catch (SQLException ex) {
+                // Errores de formato del archivo (columnas de más o de menos, comillas sin cerrar)
+                throw new ParametroInvalidoException("CSV de participantes inválido: " + ex.getMessage(), ex);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void normalizar() {
+        jdbcTemplate.update("UPDATE " + TABLA + " SET nombre = TRIM(nombre), apellido = TRIM(apellido), " +
+                "email = TRIM(email), telefono = NULLIF(TRIM(telefono), ''), documento = TRIM(documento), " +
+                "tipo_documento = UPPER(TRIM(tipo_documento))");
+    }
+
+    private void marcar(RechazoImportacion.Motivo motivo, String condicion) {
+        int filas = jdbcTemplate.update("UPDATE " + TABLA + " i SET motivo = ? WHERE motivo IS NULL AND (" + condicion + ")",
+                motivo.name());
+        if (filas > 0) {
+            log.debug("{} filas rechazadas por {}", filas, motivo);
+        }
+    }
+
+    private long contarValidas() {
+        Long validas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + TABLA + " WHERE motivo IS NULL", Long.class);
+        return validas != null ? validas : 0;
+    }
+}
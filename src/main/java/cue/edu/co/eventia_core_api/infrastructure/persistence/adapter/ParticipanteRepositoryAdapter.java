@@ -6,8 +6,10 @@ import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.Participant
 import cue.edu.co.eventia_core_api.infrastructure.persistence.mapper.ParticipanteEntityMapper;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaParticipanteRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -54,6 +56,20 @@ public class ParticipanteRepositoryAdapter implements ParticipanteRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Participante> findAllById(Collection<Long> ids) {
+        return jpaParticipanteRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Participante> findSiguientes(long despuesDeId, int limite) {
+        return jpaParticipanteRepository.findByIdGreaterThanOrderByIdAsc(despuesDeId, Limit.of(limite)).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaParticipanteRepository.deleteById(id);
@@ -64,6 +80,11 @@ public class ParticipanteRepositoryAdapter implements ParticipanteRepository {
         return jpaParticipanteRepository.existsById(id);
     }
 
+    @Override
+    public List<Long> findIdsExistentes(Collection<Long> ids) {
+        return jpaParticipanteRepository.findIdsExistentes(ids);
+    }
+
     @Override
     public boolean existsByEmail(String email) {
         return jpaParticipanteRepository.existsByEmail(email);
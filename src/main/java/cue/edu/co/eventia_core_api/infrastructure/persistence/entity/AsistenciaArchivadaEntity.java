@@ -0,0 +1,49 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.entity;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA (solo lectura) para una asistencia de un evento archivado
+ */
+@Entity
+@Immutable
+@Table(name = "asistencias_archivadas", indexes = {
+    @Index(name = "idx_asistencia_archivada_evento_id", columnList = "evento_id, id"),
+    @Index(name = "idx_asistencia_archivada_participante", columnList = "participante_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsistenciaArchivadaEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "evento_id", nullable = false)
+    private Long eventoId;
+
+    @Column(name = "participante_id", nullable = false)
+    private Long participanteId;
+
+    @Column(name = "fecha_registro", nullable = false)
+    private LocalDateTime fechaRegistro;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoAsistencia estado;
+
+    @Column(columnDefinition = "TEXT")
+    private String notas;
+
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+}
@@ -22,9 +22,10 @@ import java.time.LocalDateTime;
                          columnNames = {"evento_id", "participante_id"})
     },
     indexes = {
-        @Index(name = "idx_asistencia_evento", columnList = "evento_id"),
+        @Index(name = "idx_asistencia_evento_id", columnList = "evento_id, id"),
         @Index(name = "idx_asistencia_participante", columnList = "participante_id"),
-        @Index(name = "idx_asistencia_estado", columnList = "estado")
+        @Index(name = "idx_asistencia_estado", columnList = "estado"),
+        @Index(name = "idx_asistencia_lista_espera", columnList = "evento_id, estado, fecha_registro, id")
     }
 )
 @Data
@@ -34,7 +35,9 @@ import java.time.LocalDateTime;
 public class AsistenciaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asistencias_seq")
+    @SequenceGenerator(name = "asistencias_seq", sequenceName = "asistencias_id_seq",
+                       allocationSize = SecuenciasIds.TAMANO_BLOQUE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
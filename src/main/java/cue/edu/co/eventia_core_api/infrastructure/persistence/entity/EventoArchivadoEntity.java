@@ -0,0 +1,62 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.entity;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA (solo lectura) para un evento archivado
+ * Las filas las inserta el archivador con INSERT ... SELECT desde eventos
+ */
+@Entity
+@Immutable
+@Table(name = "eventos_archivados")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoArchivadoEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String nombre;
+
+    @Column(columnDefinition = "TEXT")
+    private String descripcion;
+
+    @Column(name = "fecha_inicio", nullable = false)
+    private LocalDateTime fechaInicio;
+
+    @Column(name = "fecha_fin", nullable = false)
+    private LocalDateTime fechaFin;
+
+    @Column(nullable = false, length = 300)
+    private String ubicacion;
+
+    @Column(name = "capacidad_maxima", nullable = false)
+    private Integer capacidadMaxima;
+
+    @Column(name = "participantes_registrados", nullable = false)
+    private Integer participantesRegistrados;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EstadoEvento estado;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+
+    @Column(name = "fecha_archivado", nullable = false)
+    private LocalDateTime fechaArchivado;
+}
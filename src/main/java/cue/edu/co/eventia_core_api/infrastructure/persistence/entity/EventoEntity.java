@@ -28,7 +28,9 @@ import java.util.Set;
 public class EventoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "eventos_seq")
+    @SequenceGenerator(name = "eventos_seq", sequenceName = "eventos_id_seq",
+                       allocationSize = SecuenciasIds.TAMANO_BLOQUE)
     private Long id;
 
     @Column(nullable = false, length = 200)
@@ -49,7 +51,8 @@ public class EventoEntity {
     @Column(name = "capacidad_maxima", nullable = false)
     private Integer capacidadMaxima;
 
-    @Column(name = "participantes_registrados", nullable = false)
+    // Solo lo modifican los UPDATE atómicos de reserva/liberación de cupos
+    @Column(name = "participantes_registrados", nullable = false, updatable = false)
     @Builder.Default
     private Integer participantesRegistrados = 0;
 
@@ -0,0 +1,49 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para un delta de evento_estadisticas pendiente de compactar
+ * Cada transición inserta una fila; la compactación las suma a EventoEstadisticasEntity y las borra
+ */
+@Entity
+@Table(name = "evento_estadisticas_deltas", indexes = {
+        @Index(name = "idx_estadisticas_deltas_evento", columnList = "evento_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoEstadisticasDeltaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "evento_id", nullable = false)
+    private Long eventoId;
+
+    @Column(nullable = false)
+    private Integer confirmados;
+
+    @Column(nullable = false)
+    private Integer cancelados;
+
+    @Column(nullable = false)
+    private Integer asistieron;
+
+    @Column(name = "no_asistieron", nullable = false)
+    private Integer noAsistieron;
+
+    @Column(name = "en_espera", nullable = false)
+    private Integer enEspera;
+
+    @Column(name = "fecha_registro", nullable = false)
+    private LocalDateTime fechaRegistro;
+}
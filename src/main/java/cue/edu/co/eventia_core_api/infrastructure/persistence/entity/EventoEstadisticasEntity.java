@@ -0,0 +1,44 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidad JPA para los contadores de asistencias por evento (modelo de lectura)
+ * Se mantiene compactando los deltas de EventoEstadisticasDeltaEntity y se reconstruye desde asistencias
+ */
+@Entity
+@Table(name = "evento_estadisticas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoEstadisticasEntity {
+
+    @Id
+    @Column(name = "evento_id")
+    private Long eventoId;
+
+    @Column(nullable = false)
+    private Integer confirmados;
+
+    @Column(nullable = false)
+    private Integer cancelados;
+
+    @Column(nullable = false)
+    private Integer asistieron;
+
+    @Column(name = "no_asistieron", nullable = false)
+    private Integer noAsistieron;
+
+    @Column(name = "en_espera", nullable = false)
+    private Integer enEspera;
+
+    @Column(name = "fecha_actualizacion")
+    private LocalDateTime fechaActualizacion;
+}
@@ -34,7 +34,9 @@ import java.util.Set;
 public class ParticipanteEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participantes_seq")
+    @SequenceGenerator(name = "participantes_seq", sequenceName = "participantes_id_seq",
+                       allocationSize = SecuenciasIds.TAMANO_BLOQUE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,16 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.entity;
+
+/**
+ * Tamaño de bloque de las secuencias de IDs (optimizador pooled-lo)
+ * Es a la vez el allocationSize de los @SequenceGenerator de las entidades y el INCREMENT BY
+ * que V4 aplica a las secuencias (FlywayConfig lo pasa como placeholder). Si no coinciden,
+ * Hibernate asigna IDs repetidos. Cambiarlo en una base ya migrada requiere además una
+ * migración nueva que altere el INCREMENT BY de las secuencias.
+ */
+public final class SecuenciasIds {
+
+    public static final int TAMANO_BLOQUE = 50;
+
+    private SecuenciasIds() {
+    }
+}
@@ -0,0 +1,109 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.particionado;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Mueve en línea las asistencias a la tabla particionada que crea V7, un lote por ejecución
+ * 1. Primera ejecución: instala el disparador que replica las escrituras y fija el id máximo a copiar
+ * 2. Cada ejecución copia hasta tamanoLote filas por id (FOR SHARE: una fila que se borra o
+ *    actualiza mientras tanto espera al lote, y el disparador aplica el cambio sobre la copia)
+ * 3. Sin filas pendientes: intercambia las tablas
+ * El avance se guarda en migracion_asistencias, así la copia continúa tras un reinicio; un bloqueo
+ * consultivo evita que dos nodos copien a la vez. Solo PostgreSQL.
+ */
+@Component
+@ConditionalOnProperty(name = "eventia.particionado.asistencias.enabled", havingValue = "true")
+@Slf4j
+public class MigradorAsistenciasParticionadas {
+
+    static final long CLAVE_BLOQUEO = 7_023_001L;
+
+    private static final String COPIAR_LOTE =
+            "WITH lote AS (" +
+            "  SELECT id, evento_id, participante_id, fecha_registro, estado, notas, fecha_actualizacion " +
+            "  FROM asistencias WHERE id > ? AND id <= ? ORDER BY id LIMIT ? FOR SHARE), " +
+            "copiadas AS (" +
+            "  INSERT INTO asistencias_particionada " +
+            "  (id, evento_id, participante_id, fecha_registro, estado, notas, fecha_actualizacion) " +
+            "  SELECT * FROM lote ON CONFLICT DO NOTHING) " +
+            "SELECT MAX(id) FROM lote";
+
+    enum Estado { EN_CURSO, COMPLETADA }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanoLote;
+    private final Duration lockTimeout;
+    private volatile boolean completada;
+
+    public MigradorAsistenciasParticionadas(JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${eventia.particionado.asistencias.tamano-lote:5000}") int tamanoLote,
+                                            @Value("${eventia.particionado.asistencias.lock-timeout:2s}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanoLote = tamanoLote;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${eventia.particionado.asistencias.intervalo-ms:200}")
+    public void migrarSiguienteLote() {
+        if (completada) {
+            return;
+        }
+        try {
+            completada = transactionTemplate.execute(estado -> avanzar()) == Estado.COMPLETADA;
+        } catch (DataAccessException ex) {
+            // Normalmente, lock_timeout al iniciar o intercambiar con tráfico alto: se reintenta en la siguiente ejecución
+            log.warn("Migración de asistencias a la tabla particionada pospuesta: {}", ex.getMessage());
+        }
+    }
+
+    Estado avanzar() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CLAVE_BLOQUEO))) {
+            return Estado.EN_CURSO;
+        }
+        Map<String, Object> progreso = jdbcTemplate.queryForMap(
+                "SELECT ultimo_id, hasta_id, fecha_fin FROM migracion_asistencias WHERE id = 1");
+        if (progreso.get("fecha_fin") != null) {
+            return Estado.COMPLETADA;
+        }
+        if (progreso.get("hasta_id") == null) {
+            limitarEsperaDeBloqueo();
+            jdbcTemplate.execute("SELECT iniciar_migracion_asistencias()");
+            log.info("Migración de asistencias a la tabla particionada iniciada");
+            return Estado.EN_CURSO;
+        }
+
+        long ultimoId = ((Number) progreso.get("ultimo_id")).longValue();
+        long hastaId = ((Number) progreso.get("hasta_id")).longValue();
+        Long copiadoHasta = jdbcTemplate.queryForObject(COPIAR_LOTE, Long.class, ultimoId, hastaId, tamanoLote);
+        if (copiadoHasta != null) {
+            jdbcTemplate.update("UPDATE migracion_asistencias SET ultimo_id = ? WHERE id = 1", copiadoHasta);
+            log.debug("Asistencias copiadas hasta el id {} de {}", copiadoHasta, hastaId);
+            return Estado.EN_CURSO;
+        }
+
+        limitarEsperaDeBloqueo();
+        jdbcTemplate.execute("SELECT intercambiar_asistencias_particionada()");
+        log.info("Migración de asistencias completada: la tabla particionada reemplaza a asistencias "
+                + "(la anterior queda como asistencias_heredada)");
+        return Estado.COMPLETADA;
+    }
+
+    private void limitarEsperaDeBloqueo() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+    }
+}
@@ -0,0 +1,25 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.replicas;
+
+/**
+ * Marca, para el hilo de la petición, que sus lecturas deben ir a la primaria
+ * (el cliente escribió hace poco y una réplica podría no tener aún su cambio)
+ */
+public final class ContextoLectura {
+
+    private static final ThreadLocal<Boolean> PRIMARIA_FORZADA = new ThreadLocal<>();
+
+    private ContextoLectura() {
+    }
+
+    public static void forzarPrimaria() {
+        PRIMARIA_FORZADA.set(Boolean.TRUE);
+    }
+
+    public static boolean primariaForzada() {
+        return Boolean.TRUE.equals(PRIMARIA_FORZADA.get());
+    }
+
+    public static void limpiar() {
+        PRIMARIA_FORZADA.remove();
+    }
+}
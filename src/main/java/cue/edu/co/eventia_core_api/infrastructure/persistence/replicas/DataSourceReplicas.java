@@ -0,0 +1,147 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.replicas;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource de las transacciones de solo lectura: reparte las conexiones entre las réplicas
+ * - Solo usa réplicas con atraso medido menor o igual a lagMaximoMs (en turno rotatorio)
+ * - Si ninguna cumple, si una falla al conectar o si la petición acaba de escribir, usa la primaria
+ * El atraso lo mide medirLag() periódicamente; hasta la primera medición todas las lecturas van a la primaria.
+ */
+@Slf4j
+public class DataSourceReplicas extends AbstractDataSource implements DisposableBean {
+
+    private static final long SIN_MEDIR = Long.MAX_VALUE;
+
+    private final DataSource primaria;
+    private final List<Replica> replicas;
+    private final long lagMaximoMs;
+    private final String consultaLag;
+    private final AtomicInteger turno = new AtomicInteger();
+
+    public DataSourceReplicas(DataSource primaria, List<Replica> replicas, long lagMaximoMs, String consultaLag) {
+        this.primaria = primaria;
+        this.replicas = List.copyOf(replicas);
+        this.lagMaximoMs = lagMaximoMs;
+        this.consultaLag = consultaLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ContextoLectura.primariaForzada()) {
+            return primaria.getConnection();
+        }
+        Replica replica = elegir();
+        if (replica == null) {
+            return primaria.getConnection();
+        }
+        try {
+            return replica.dataSource().getConnection();
+        } catch (SQLException ex) {
+            replica.lagMs = SIN_MEDIR;
+            log.warn("Réplica {} no disponible, lectura enviada a la primaria: {}", replica.nombre(), ex.getMessage());
+            return primaria.getConnection();
+        }
+    }
+
+    /**
+     * Las réplicas usan las credenciales de su propio pool: con credenciales explícitas se conecta a la primaria
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primaria.getConnection(username, password);
+    }
+
+    /**
+     * Mide el atraso de cada réplica; una réplica que no responde queda fuera hasta la siguiente medición
+     */
+    public void medirLag() {
+        for (Replica replica : replicas) {
+            long anterior = replica.lagMs;
+            try (Connection conexion = replica.dataSource().getConnection();
+                 Statement consulta = conexion.createStatement()) {
+                consulta.setQueryTimeout(1);
+                try (ResultSet resultado = consulta.executeQuery(consultaLag)) {
+                    replica.lagMs = resultado.next() ? resultado.getLong(1) : SIN_MEDIR;
+                }
+            } catch (SQLException ex) {
+                replica.lagMs = SIN_MEDIR;
+                if (anterior != SIN_MEDIR) {
+                    log.warn("No se pudo medir el atraso de la réplica {}: {}", replica.nombre(), ex.getMessage());
+                }
+            }
+            boolean eraUtil = anterior <= lagMaximoMs;
+            boolean esUtil = replica.lagMs <= lagMaximoMs;
+            if (eraUtil != esUtil) {
+                log.info("Réplica {} {} (atraso: {} ms, máximo: {} ms)", replica.nombre(),
+                        esUtil ? "recibe lecturas" : "descartada para lecturas",
+                        replica.lagMs == SIN_MEDIR ? "desconocido" : replica.lagMs, lagMaximoMs);
+            }
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable cerrable) {
+                cerrable.close();
+            }
+        }
+    }
+
+    private Replica elegir() {
+        int total = replicas.size();
+        if (total == 0) {
+            return null;
+        }
+        int inicio = Math.floorMod(turno.getAndIncrement(), total);
+        for (int i = 0; i < total; i++) {
+            Replica replica = replicas.get((inicio + i) % total);
+            if (replica.lagMs <= lagMaximoMs) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Réplica con su pool y el último atraso medido
+     */
+    public static final class Replica {
+
+        private final String nombre;
+        private final DataSource dataSource;
+        private volatile long lagMs = SIN_MEDIR;
+
+        public Replica(String nombre, DataSource dataSource) {
+            this.nombre = nombre;
+            this.dataSource = dataSource;
+        }
+
+        public String nombre() {
+            return nombre;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public long lagMs() {
+            return lagMs;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.replicas;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mide periódicamente el atraso de las réplicas de lectura
+ */
+@Component
+@ConditionalOnProperty(name = "eventia.replicas.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class MonitorReplicas {
+
+    private final DataSourceReplicas dataSourceReplicas;
+
+    @Scheduled(fixedDelayString = "${eventia.replicas.intervalo-monitoreo-ms:2000}")
+    public void medir() {
+        dataSourceReplicas.medirLag();
+    }
+}
@@ -0,0 +1,43 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.replicas;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuración de las réplicas de lectura de PostgreSQL
+ * - nodos: réplicas con su propio pool (usuario y contraseña por defecto, los de spring.datasource)
+ * - lag-maximo: una réplica más atrasada que esto deja de recibir lecturas hasta ponerse al día
+ * - lectura-propia: tras una escritura, las lecturas del mismo cliente van a la primaria durante este tiempo
+ * - consulta-lag: devuelve el atraso de la réplica en milisegundos
+ */
+@Data
+@ConfigurationProperties(prefix = "eventia.replicas")
+public class PropiedadesReplicas {
+
+    private static final String CONSULTA_LAG_POSTGRES = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END""";
+
+    private boolean enabled = false;
+    private List<Nodo> nodos = new ArrayList<>();
+    private Duration lagMaximo = Duration.ofSeconds(5);
+    private Duration lecturaPropia = Duration.ofSeconds(5);
+    private String cookieLecturaPropia = "eventia_escritura";
+    private String consultaLag = CONSULTA_LAG_POSTGRES;
+
+    @Data
+    public static class Nodo {
+        private String nombre;
+        private String url;
+        private String username;
+        private String password;
+        private int tamanoPool = 10;
+    }
+}
@@ -0,0 +1,32 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
+
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.AsistenciaArchivadaEntity;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.repository.JpaAsistenciaRepository.ConteoPorEstado;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio JPA para AsistenciaArchivadaEntity
+ */
+@Repository
+public interface JpaAsistenciaArchivadaRepository extends JpaRepository<AsistenciaArchivadaEntity, Long> {
+
+    List<AsistenciaArchivadaEntity> findByEventoIdAndIdGreaterThanOrderByIdAsc(Long eventoId, Long despuesDeId,
+                                                                              Limit limite);
+
+    List<AsistenciaArchivadaEntity> findByParticipanteId(Long participanteId);
+
+    @Query("SELECT a.eventoId AS eventoId, COUNT(a) AS total, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.CONFIRMADO THEN 1 ELSE 0 END) AS confirmados, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.CANCELADO THEN 1 ELSE 0 END) AS cancelados, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.ASISTIO THEN 1 ELSE 0 END) AS asistieron, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.NO_ASISTIO THEN 1 ELSE 0 END) AS noAsistieron, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.EN_ESPERA THEN 1 ELSE 0 END) AS enEspera " +
+           "FROM AsistenciaArchivadaEntity a WHERE a.eventoId = :eventoId GROUP BY a.eventoId")
+    List<ConteoPorEstado> contarPorEstado(@Param("eventoId") Long eventoId);
+}
@@ -2,11 +2,15 @@ package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
 
 import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.AsistenciaEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,9 +23,24 @@ public interface JpaAsistenciaRepository extends JpaRepository<AsistenciaEntity,
     @Query("SELECT a FROM AsistenciaEntity a WHERE a.evento.id = :eventoId")
     List<AsistenciaEntity> findByEventoId(@Param("eventoId") Long eventoId);
 
+    @Query("SELECT a FROM AsistenciaEntity a WHERE a.evento.id = :eventoId AND a.id > :despuesDeId ORDER BY a.id ASC")
+    List<AsistenciaEntity> findSiguientesPorEvento(@Param("eventoId") Long eventoId,
+                                                   @Param("despuesDeId") Long despuesDeId,
+                                                   Limit limite);
+
     @Query("SELECT a FROM AsistenciaEntity a WHERE a.participante.id = :participanteId")
     List<AsistenciaEntity> findByParticipanteId(@Param("participanteId") Long participanteId);
 
+    @Query("SELECT a.participante.id FROM AsistenciaEntity a WHERE a.evento.id = :eventoId")
+    List<Long> findParticipanteIdsByEventoId(@Param("eventoId") Long eventoId);
+
+    @Query("SELECT a.participante.id FROM AsistenciaEntity a " +
+           "WHERE a.evento.id = :eventoId AND a.participante.id IN :participanteIds")
+    List<Long> findParticipanteIdsRegistrados(
+        @Param("eventoId") Long eventoId,
+        @Param("participanteIds") Collection<Long> participanteIds
+    );
+
     @Query("SELECT a FROM AsistenciaEntity a WHERE a.evento.id = :eventoId AND a.participante.id = :participanteId")
     Optional<AsistenciaEntity> findByEventoIdAndParticipanteId(
         @Param("eventoId") Long eventoId,
@@ -43,16 +62,92 @@ public interface JpaAsistenciaRepository extends JpaRepository<AsistenciaEntity,
         @Param("estado") EstadoAsistencia estado
     );
 
+    /**
+     * Agregación condicional: todos los contadores de cada evento en un solo recorrido
+     */
+    @Query("SELECT a.evento.id AS eventoId, COUNT(a) AS total, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.CONFIRMADO THEN 1 ELSE 0 END) AS confirmados, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.CANCELADO THEN 1 ELSE 0 END) AS cancelados, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.ASISTIO THEN 1 ELSE 0 END) AS asistieron, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.NO_ASISTIO THEN 1 ELSE 0 END) AS noAsistieron, " +
+           "SUM(CASE WHEN a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.EN_ESPERA THEN 1 ELSE 0 END) AS enEspera " +
+           "FROM AsistenciaEntity a WHERE a.evento.id IN :eventoIds GROUP BY a.evento.id")
+    List<ConteoPorEstado> contarPorEstado(@Param("eventoIds") Collection<Long> eventoIds);
+
     @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END FROM AsistenciaEntity a WHERE a.evento.id = :eventoId AND a.participante.id = :participanteId")
     boolean existsByEventoIdAndParticipanteId(
         @Param("eventoId") Long eventoId,
         @Param("participanteId") Long participanteId
     );
 
+    /**
+     * La condición sobre el estado se reevalúa en la fila, así dos promociones concurrentes
+     * nunca confirman dos veces al mismo participante
+     * El filtro por evento_id en el UPDATE limita la búsqueda por id a la partición del evento
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE asistencias SET estado = 'CONFIRMADO', fecha_actualizacion = :ahora " +
+                   "WHERE evento_id = :eventoId AND estado = 'EN_ESPERA' AND id IN (" +
+                   "  SELECT id FROM asistencias WHERE evento_id = :eventoId AND estado = 'EN_ESPERA' " +
+                   "  ORDER BY fecha_registro, id LIMIT :cantidad)",
+           nativeQuery = true)
+    int promoverEnEspera(
+        @Param("eventoId") Long eventoId,
+        @Param("cantidad") int cantidad,
+        @Param("ahora") LocalDateTime ahora
+    );
+
+    @Query(value = "SELECT e.id FROM eventos e " +
+                   "WHERE e.estado = 'FINALIZADO' AND e.fecha_fin <= :terminadosAntesDe " +
+                   "AND EXISTS (SELECT 1 FROM asistencias a WHERE a.evento_id = e.id AND a.estado = 'CONFIRMADO') " +
+                   "ORDER BY e.fecha_fin, e.id LIMIT :limite",
+           nativeQuery = true)
+    List<Long> findEventosFinalizadosConConfirmadas(
+        @Param("terminadosAntesDe") LocalDateTime terminadosAntesDe,
+        @Param("limite") int limite
+    );
+
+    /**
+     * Como en promoverEnEspera, la condición sobre el estado se reevalúa en la fila: una asistencia
+     * marcada como ASISTIO mientras tanto no se sobrescribe
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE asistencias SET estado = 'NO_ASISTIO', fecha_actualizacion = :ahora " +
+                   "WHERE evento_id = :eventoId AND estado = 'CONFIRMADO' AND id IN (" +
+                   "  SELECT id FROM asistencias WHERE evento_id = :eventoId AND estado = 'CONFIRMADO' " +
+                   "  ORDER BY id LIMIT :limite)",
+           nativeQuery = true)
+    int marcarNoAsistioConfirmadas(
+        @Param("eventoId") Long eventoId,
+        @Param("limite") int limite,
+        @Param("ahora") LocalDateTime ahora
+    );
+
+    @Query("SELECT COUNT(a) FROM AsistenciaEntity a WHERE a.evento.id = :eventoId " +
+           "AND a.estado = cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia.EN_ESPERA " +
+           "AND (a.fechaRegistro < :fechaRegistro OR (a.fechaRegistro = :fechaRegistro AND a.id < :id))")
+    long contarEnEsperaAntesDe(
+        @Param("eventoId") Long eventoId,
+        @Param("fechaRegistro") LocalDateTime fechaRegistro,
+        @Param("id") Long id
+    );
+
     @Query("DELETE FROM AsistenciaEntity a WHERE a.evento.id = :eventoId AND a.participante.id = :participanteId")
     void deleteByEventoIdAndParticipanteId(
         @Param("eventoId") Long eventoId,
         @Param("participanteId") Long participanteId
     );
-}
 
+    /**
+     * Proyección de la agregación por estado
+     */
+    interface ConteoPorEstado {
+        Long getEventoId();
+        Long getTotal();
+        Long getConfirmados();
+        Long getCancelados();
+        Long getAsistieron();
+        Long getNoAsistieron();
+        Long getEnEspera();
+    }
+}
@@ -0,0 +1,12 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
+
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.EventoArchivadoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio JPA para EventoArchivadoEntity
+ */
+@Repository
+public interface JpaEventoArchivadoRepository extends JpaRepository<EventoArchivadoEntity, Long> {
+}
@@ -0,0 +1,127 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
+
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.EventoEstadisticasEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio JPA para EventoEstadisticasEntity y su diario de deltas (evento_estadisticas_deltas)
+ */
+@Repository
+public interface JpaEventoEstadisticasRepository extends JpaRepository<EventoEstadisticasEntity, Long> {
+
+    /**
+     * Contadores de los eventos con fila: la fila más los deltas aún no compactados
+     */
+    @Query(value = "SELECT s.evento_id AS eventoId, " +
+                   "s.confirmados + COALESCE(d.confirmados, 0) AS confirmados, " +
+                   "s.cancelados + COALESCE(d.cancelados, 0) AS cancelados, " +
+                   "s.asistieron + COALESCE(d.asistieron, 0) AS asistieron, " +
+                   "s.no_asistieron + COALESCE(d.no_asistieron, 0) AS noAsistieron, " +
+                   "s.en_espera + COALESCE(d.en_espera, 0) AS enEspera " +
+                   "FROM evento_estadisticas s " +
+                   "LEFT JOIN (SELECT evento_id, SUM(confirmados) AS confirmados, SUM(cancelados) AS cancelados, " +
+                   "SUM(asistieron) AS asistieron, SUM(no_asistieron) AS no_asistieron, SUM(en_espera) AS en_espera " +
+                   "FROM evento_estadisticas_deltas WHERE evento_id IN (:eventoIds) GROUP BY evento_id) d " +
+                   "ON d.evento_id = s.evento_id " +
+                   "WHERE s.evento_id IN (:eventoIds)",
+           nativeQuery = true)
+    List<Contadores> findContadores(@Param("eventoIds") Collection<Long> eventoIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO evento_estadisticas_deltas " +
+                   "(evento_id, confirmados, cancelados, asistieron, no_asistieron, en_espera, fecha_registro) " +
+                   "VALUES (:eventoId, :confirmados, :cancelados, :asistieron, :noAsistieron, :enEspera, :ahora)",
+           nativeQuery = true)
+    int registrarDelta(@Param("eventoId") Long eventoId,
+                       @Param("confirmados") int confirmados,
+                       @Param("cancelados") int cancelados,
+                       @Param("asistieron") int asistieron,
+                       @Param("noAsistieron") int noAsistieron,
+                       @Param("enEspera") int enEspera,
+                       @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Bloquea los deltas más antiguos; SKIP LOCKED reparte la compactación entre nodos sin sumar dos veces
+     */
+    @Query(value = "SELECT id FROM evento_estadisticas_deltas ORDER BY id LIMIT :limite FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> bloquearDeltas(@Param("limite") int limite);
+
+    @Query(value = "SELECT evento_id AS eventoId, SUM(confirmados) AS confirmados, SUM(cancelados) AS cancelados, " +
+                   "SUM(asistieron) AS asistieron, SUM(no_asistieron) AS noAsistieron, SUM(en_espera) AS enEspera " +
+                   "FROM evento_estadisticas_deltas WHERE id IN (:ids) " +
+                   "GROUP BY evento_id ORDER BY evento_id",
+           nativeQuery = true)
+    List<Contadores> sumarDeltas(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM evento_estadisticas_deltas WHERE id IN (:ids)", nativeQuery = true)
+    int borrarDeltas(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Crea en cero las filas que falten de los eventos indicados (omite los eventos ya eliminados);
+     * ON CONFLICT evita abortar la transacción ante una creación concurrente
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO evento_estadisticas " +
+                   "(evento_id, confirmados, cancelados, asistieron, no_asistieron, en_espera, fecha_actualizacion) " +
+                   "SELECT e.id, 0, 0, 0, 0, 0, :ahora FROM eventos e WHERE e.id IN (:eventoIds) " +
+                   "ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int inicializar(@Param("eventoIds") Collection<Long> eventoIds, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Bloquea la fila del evento: la compactación la actualiza bajo el mismo bloqueo
+     */
+    @Query(value = "SELECT evento_id FROM evento_estadisticas WHERE evento_id = :eventoId FOR UPDATE",
+           nativeQuery = true)
+    List<Long> bloquear(@Param("eventoId") Long eventoId);
+
+    /**
+     * Recalcula los contadores desde la tabla base (cada subconsulta usa el índice de lista de espera)
+     * descontando los deltas aún no compactados, que se sumarán a la fila al compactarlos
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE evento_estadisticas s SET " +
+                   "confirmados = (SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = s.evento_id AND a.estado = 'CONFIRMADO') " +
+                   "- (SELECT COALESCE(SUM(d.confirmados), 0) FROM evento_estadisticas_deltas d WHERE d.evento_id = s.evento_id), " +
+                   "cancelados = (SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = s.evento_id AND a.estado = 'CANCELADO') " +
+                   "- (SELECT COALESCE(SUM(d.cancelados), 0) FROM evento_estadisticas_deltas d WHERE d.evento_id = s.evento_id), " +
+                   "asistieron = (SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = s.evento_id AND a.estado = 'ASISTIO') " +
+                   "- (SELECT COALESCE(SUM(d.asistieron), 0) FROM evento_estadisticas_deltas d WHERE d.evento_id = s.evento_id), " +
+                   "no_asistieron = (SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = s.evento_id AND a.estado = 'NO_ASISTIO') " +
+                   "- (SELECT COALESCE(SUM(d.no_asistieron), 0) FROM evento_estadisticas_deltas d WHERE d.evento_id = s.evento_id), " +
+                   "en_espera = (SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = s.evento_id AND a.estado = 'EN_ESPERA') " +
+                   "- (SELECT COALESCE(SUM(d.en_espera), 0) FROM evento_estadisticas_deltas d WHERE d.evento_id = s.evento_id), " +
+                   "fecha_actualizacion = :ahora " +
+                   "WHERE s.evento_id = :eventoId",
+           nativeQuery = true)
+    int reconstruir(@Param("eventoId") Long eventoId, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * IDs de eventos por keyset, para reconstruir los contadores evento a evento
+     */
+    @Query(value = "SELECT e.id FROM eventos e WHERE e.id > :despuesDe ORDER BY e.id LIMIT :limite",
+           nativeQuery = true)
+    List<Long> findEventoIds(@Param("despuesDe") Long despuesDe, @Param("limite") int limite);
+
+    /**
+     * Proyección de los contadores de un evento
+     */
+    interface Contadores {
+        Long getEventoId();
+        Long getConfirmados();
+        Long getCancelados();
+        Long getAsistieron();
+        Long getNoAsistieron();
+        Long getEnEspera();
+    }
+}
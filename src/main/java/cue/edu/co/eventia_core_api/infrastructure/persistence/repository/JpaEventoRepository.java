@@ -2,13 +2,17 @@ package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
 
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
 import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.EventoEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositorio JPA para EventoEntity
@@ -18,10 +22,77 @@ public interface JpaEventoRepository extends JpaRepository<EventoEntity, Long> {
 
     List<EventoEntity> findByEstado(EstadoEvento estado);
 
+    List<EventoEntity> findByIdGreaterThanOrderByIdAsc(Long despuesDeId, Limit limite);
+
     @Query("SELECT e FROM EventoEntity e WHERE e.fechaInicio >= :desde ORDER BY e.fechaInicio ASC")
     List<EventoEntity> findEventosProximos(@Param("desde") LocalDateTime desde);
 
-    @Query("SELECT e FROM EventoEntity e WHERE e.participantesRegistrados < e.capacidadMaxima AND e.estado = 'ACTIVO'")
-    List<EventoEntity> findEventosConCapacidadDisponible();
+    @Query("SELECT e FROM EventoEntity e WHERE e.participantesRegistrados < e.capacidadMaxima " +
+           "AND e.estado = 'ACTIVO' AND e.fechaFin > :ahora")
+    List<EventoEntity> findEventosConCapacidadDisponible(@Param("ahora") LocalDateTime ahora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventoEntity e SET e.participantesRegistrados = e.participantesRegistrados + 1, " +
+           "e.fechaActualizacion = :ahora " +
+           "WHERE e.id = :id AND e.estado = 'ACTIVO' AND e.fechaFin > :ahora " +
+           "AND e.participantesRegistrados < e.capacidadMaxima")
+    int reservarCupo(@Param("id") Long id, @Param("ahora") LocalDateTime ahora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventoEntity e SET e.participantesRegistrados = e.participantesRegistrados - 1, " +
+           "e.fechaActualizacion = :ahora " +
+           "WHERE e.id = :id AND e.participantesRegistrados > 0")
+    int liberarCupo(@Param("id") Long id, @Param("ahora") LocalDateTime ahora);
+
+    @Query(value = "SELECT capacidad_maxima - participantes_registrados FROM eventos " +
+                   "WHERE id = :id AND estado = 'ACTIVO' AND fecha_fin > :ahora FOR UPDATE",
+           nativeQuery = true)
+    Optional<Integer> bloquearCuposDisponibles(@Param("id") Long id, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Eventos ACTIVO cuya fecha de fin ya pasó (índice parcial de V9)
+     * SKIP LOCKED: un evento bloqueado por una reserva en curso se finaliza en la siguiente ejecución
+     */
+    @Query(value = "SELECT id FROM eventos WHERE estado = 'ACTIVO' AND fecha_fin <= :ahora " +
+                   "ORDER BY fecha_fin, id LIMIT :limite FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> bloquearActivosTerminados(@Param("ahora") LocalDateTime ahora, @Param("limite") int limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventoEntity e SET e.estado = 'FINALIZADO', e.fechaActualizacion = :ahora " +
+           "WHERE e.id IN :ids AND e.estado = 'ACTIVO'")
+    int finalizar(@Param("ids") Collection<Long> ids, @Param("ahora") LocalDateTime ahora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventoEntity e SET e.participantesRegistrados = e.participantesRegistrados + :cantidad, " +
+           "e.fechaActualizacion = :ahora " +
+           "WHERE e.id = :id AND e.participantesRegistrados + :cantidad <= e.capacidadMaxima")
+    int sumarCupos(@Param("id") Long id, @Param("cantidad") int cantidad, @Param("ahora") LocalDateTime ahora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EventoEntity e SET e.participantesRegistrados = e.participantesRegistrados - :cantidad, " +
+           "e.fechaActualizacion = :ahora " +
+           "WHERE e.id = :id AND e.participantesRegistrados >= :cantidad")
+    int restarCupos(@Param("id") Long id, @Param("cantidad") int cantidad, @Param("ahora") LocalDateTime ahora);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE eventos e SET participantes_registrados = LEAST(e.capacidad_maxima, " +
+                   "(SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = e.id " +
+                   "AND a.estado IN ('CONFIRMADO', 'ASISTIO', 'NO_ASISTIO'))) " +
+                   "WHERE e.participantes_registrados <> LEAST(e.capacidad_maxima, " +
+                   "(SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = e.id " +
+                   "AND a.estado IN ('CONFIRMADO', 'ASISTIO', 'NO_ASISTIO')))",
+           nativeQuery = true)
+    int reconciliarParticipantesRegistrados();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE eventos e SET participantes_registrados = LEAST(e.capacidad_maxima, " +
+                   "(SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = e.id " +
+                   "AND a.estado IN ('CONFIRMADO', 'ASISTIO', 'NO_ASISTIO'))) " +
+                   "WHERE e.id IN (:eventoIds) AND e.participantes_registrados <> LEAST(e.capacidad_maxima, " +
+                   "(SELECT COUNT(*) FROM asistencias a WHERE a.evento_id = e.id " +
+                   "AND a.estado IN ('CONFIRMADO', 'ASISTIO', 'NO_ASISTIO')))",
+           nativeQuery = true)
+    int reconciliarParticipantesRegistrados(@Param("eventoIds") Collection<Long> eventoIds);
 }
 
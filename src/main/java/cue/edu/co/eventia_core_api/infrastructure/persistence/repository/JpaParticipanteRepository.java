@@ -1,9 +1,14 @@
 package cue.edu.co.eventia_core_api.infrastructure.persistence.repository;
 
 import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.ParticipanteEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,8 +21,13 @@ public interface JpaParticipanteRepository extends JpaRepository<ParticipanteEnt
 
     Optional<ParticipanteEntity> findByDocumento(String documento);
 
+    List<ParticipanteEntity> findByIdGreaterThanOrderByIdAsc(Long despuesDeId, Limit limite);
+
     boolean existsByEmail(String email);
 
     boolean existsByDocumento(String documento);
+
+    @Query("SELECT p.id FROM ParticipanteEntity p WHERE p.id IN :ids")
+    List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
 }
 
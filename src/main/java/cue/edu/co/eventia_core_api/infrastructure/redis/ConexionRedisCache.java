@@ -0,0 +1,63 @@
+package cue.edu.co.eventia_core_api.infrastructure.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+/**
+ * Conexión a Redis exclusiva de la caché, con un timeout de comando mucho más corto que el general
+ * Una lectura de caché lenta cuesta más que ir a la base de datos: se corta en cuanto excede el
+ * timeout y cuenta como fallo para el CircuitoRedis. También publica las invalidaciones de L1.
+ * Los scripts de cupos, la idempotencia y la suscripción a las invalidaciones siguen usando la
+ * conexión general (spring.data.redis.timeout).
+ * Copia destino y SSL de la conexión general; con otro cliente distinto de Lettuce la reutiliza tal cual.
+ */
+@Slf4j
+public class ConexionRedisCache implements DisposableBean {
+
+    private final RedisConnectionFactory factory;
+    private final LettuceConnectionFactory propia;
+
+    public ConexionRedisCache(RedisConnectionFactory general, Duration timeout) {
+        if (!(general instanceof LettuceConnectionFactory lettuce)) {
+            log.warn("La caché usa la conexión general de Redis: el timeout por operación requiere Lettuce");
+            this.factory = general;
+            this.propia = null;
+            return;
+        }
+
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder cliente = LettuceClientConfiguration.builder()
+                .commandTimeout(timeout)
+                .shutdownTimeout(Duration.ZERO);
+        if (lettuce.isUseSsl()) {
+            cliente.useSsl();
+        }
+
+        if (lettuce.getClusterConfiguration() != null) {
+            propia = new LettuceConnectionFactory(lettuce.getClusterConfiguration(), cliente.build());
+        } else if (lettuce.getSentinelConfiguration() != null) {
+            propia = new LettuceConnectionFactory(lettuce.getSentinelConfiguration(), cliente.build());
+        } else {
+            propia = new LettuceConnectionFactory(lettuce.getStandaloneConfiguration(), cliente.build());
+        }
+        propia.afterPropertiesSet();
+        propia.start();
+        this.factory = propia;
+        log.info("Caché Redis con timeout de {} ms por operación", timeout.toMillis());
+    }
+
+    public RedisConnectionFactory factory() {
+        return factory;
+    }
+
+    @Override
+    public void destroy() {
+        if (propia != null) {
+            propia.destroy();
+        }
+    }
+}
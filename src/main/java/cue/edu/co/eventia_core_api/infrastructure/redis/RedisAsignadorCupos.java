@@ -0,0 +1,245 @@
+package cue.edu.co.eventia_core_api.infrastructure.redis;
+
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptador que implementa el puerto AsignadorCuposDistribuido con scripts Lua en Redis
+ * - Un solo round trip resuelve capacidad y doble registro para todos los nodos
+ * - El estado de cada evento se reconstruye desde la base de datos cuando no existe o expira
+ * - Si Redis falla, responde NO_DISPONIBLE durante una pausa y la API usa el camino de base de datos
+ * - Las liberaciones e invalidaciones omitidas durante la pausa se recuerdan por evento y, al volver
+ *   Redis, se borra el estado de esos eventos para que se reconstruya desde la base de datos
+ *   (por encima de MAXIMO_PENDIENTES se descartan y queda solo la confirmación en base de datos)
+ */
+@Component
+@Slf4j
+public class RedisAsignadorCupos implements AsignadorCuposDistribuido {
+
+    private static final long RESERVADO = 1;
+    private static final long AGOTADO = 0;
+    private static final long DUPLICADO = -1;
+    private static final long NO_INICIALIZADO = -2;
+
+    static final int MAXIMO_PENDIENTES = 10_000;
+
+    private static final RedisScript<Long> SCRIPT_RESERVAR = script("reservar_cupo.lua");
+    private static final RedisScript<Long> SCRIPT_LIBERAR = script("liberar_cupo.lua");
+    private static final RedisScript<Long> SCRIPT_RECONSTRUIR = script("reconstruir_cupos.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventoRepository eventoRepository;
+    private final AsistenciaRepository asistenciaRepository;
+    private final boolean habilitado;
+    private final long ttlSegundos;
+    private final long pausaTrasFalloMs;
+    private final Set<Long> invalidacionesPendientes = ConcurrentHashMap.newKeySet();
+
+    private volatile long pausadoHasta;
+
+    public RedisAsignadorCupos(StringRedisTemplate redisTemplate,
+                               EventoRepository eventoRepository,
+                               AsistenciaRepository asistenciaRepository,
+                               @Value("${eventia.cupos.redis.enabled:false}") boolean habilitado,
+                               @Value("${eventia.cupos.redis.ttl:3600}") long ttlSegundos,
+                               @Value("${eventia.cupos.redis.pausa-tras-fallo-ms:5000}") long pausaTrasFalloMs) {
+        this.redisTemplate = redisTemplate;
+        this.eventoRepository = eventoRepository;
+        this.asistenciaRepository = asistenciaRepository;
+        this.habilitado = habilitado;
+        this.ttlSegundos = ttlSegundos;
+        this.pausaTrasFalloMs = pausaTrasFalloMs;
+    }
+
+    @Override
+    public ResultadoReserva reservar(Long eventoId, Long participanteId) {
+        if (!disponible()) {
+            return ResultadoReserva.NO_DISPONIBLE;
+        }
+
+        try {
+            aplicarPendientes();
+            Long resultado = ejecutar(SCRIPT_RESERVAR, eventoId, String.valueOf(participanteId));
+            if (resultado != null && resultado == NO_INICIALIZADO) {
+                reconstruir(eventoId);
+                resultado = ejecutar(SCRIPT_RESERVAR, eventoId, String.valueOf(participanteId));
+            }
+
+            if (resultado == null) {
+                return ResultadoReserva.NO_DISPONIBLE;
+            }
+            if (resultado == RESERVADO) {
+                alRevertir(() -> compensar(eventoId, participanteId));
+                return ResultadoReserva.RESERVADO;
+            }
+            if (resultado == AGOTADO) {
+                return ResultadoReserva.AGOTADO;
+            }
+            if (resultado == DUPLICADO) {
+                return ResultadoReserva.DUPLICADO;
+            }
+            return ResultadoReserva.NO_DISPONIBLE;
+        } catch (DataAccessException ex) {
+            pausar(ex);
+            return ResultadoReserva.NO_DISPONIBLE;
+        }
+    }
+
+    @Override
+    public void liberar(Long eventoId, Long participanteId, boolean retirarParticipante) {
+        if (!disponible()) {
+            recordarInvalidacion(eventoId);
+            return;
+        }
+        alConfirmar(() -> {
+            try {
+                ejecutar(SCRIPT_LIBERAR, eventoId, String.valueOf(participanteId), retirarParticipante ? "1" : "0");
+            } catch (DataAccessException ex) {
+                // Sin la liberación el evento quedaría con menos cupos: se reconstruye en el siguiente uso
+                invalidar(eventoId);
+                pausar(ex);
+            }
+        });
+    }
+
+    @Override
+    public void reconstruir(Long eventoId) {
+        if (!disponible()) {
+            return;
+        }
+
+        Evento evento = eventoRepository.findById(eventoId).orElse(null);
+        if (evento == null) {
+            invalidar(eventoId);
+            return;
+        }
+
+        int libres = evento.estaActivo() ? Math.max(0, evento.getCuposDisponibles()) : 0;
+        List<Long> participantes = asistenciaRepository.findParticipanteIdsByEventoId(eventoId);
+
+        List<String> argumentos = new ArrayList<>(participantes.size() + 2);
+        argumentos.add(String.valueOf(ttlSegundos));
+        argumentos.add(String.valueOf(libres));
+        participantes.forEach(id -> argumentos.add(String.valueOf(id)));
+
+        redisTemplate.execute(SCRIPT_RECONSTRUIR, claves(eventoId), argumentos.toArray());
+        log.info("Cupos de evento {} reconstruidos en Redis: {} libres, {} participantes",
+                eventoId, libres, participantes.size());
+    }
+
+    @Override
+    public void invalidar(Long eventoId) {
+        if (!disponible()) {
+            recordarInvalidacion(eventoId);
+            return;
+        }
+        try {
+            redisTemplate.delete(claves(eventoId));
+        } catch (DataAccessException ex) {
+            recordarInvalidacion(eventoId);
+            pausar(ex);
+        }
+    }
+
+    /**
+     * Borra el estado de los eventos cuyas liberaciones o invalidaciones se omitieron durante la pausa
+     */
+    private void aplicarPendientes() {
+        for (Long eventoId : invalidacionesPendientes) {
+            redisTemplate.delete(claves(eventoId));
+            invalidacionesPendientes.remove(eventoId);
+        }
+    }
+
+    private void recordarInvalidacion(Long eventoId) {
+        if (!habilitado) {
+            return;
+        }
+        if (invalidacionesPendientes.size() < MAXIMO_PENDIENTES) {
+            invalidacionesPendientes.add(eventoId);
+        } else {
+            log.warn("Demasiadas invalidaciones de cupos pendientes: el evento {} se confirmará en la base de datos hasta que expire",
+                    eventoId);
+        }
+    }
+
+    private void compensar(Long eventoId, Long participanteId) {
+        try {
+            ejecutar(SCRIPT_LIBERAR, eventoId, String.valueOf(participanteId), "1");
+        } catch (DataAccessException ex) {
+            invalidar(eventoId);
+            pausar(ex);
+        }
+    }
+
+    private Long ejecutar(RedisScript<Long> script, Long eventoId, Object... argumentos) {
+        return redisTemplate.execute(script, claves(eventoId), argumentos);
+    }
+
+    private boolean disponible() {
+        return habilitado && System.currentTimeMillis() >= pausadoHasta;
+    }
+
+    private void pausar(DataAccessException ex) {
+        pausadoHasta = System.currentTimeMillis() + pausaTrasFalloMs;
+        log.warn("Redis no disponible para asignar cupos, usando la base de datos durante {} ms: {}",
+                pausaTrasFalloMs, ex.getMessage());
+    }
+
+    private static List<String> claves(Long eventoId) {
+        // El hash tag {id} mantiene ambas claves en el mismo slot en Redis Cluster
+        String prefijo = "eventia:cupos:{" + eventoId + "}";
+        return List.of(prefijo + ":libres", prefijo + ":participantes");
+    }
+
+    private static RedisScript<Long> script(String nombre) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/redis/" + nombre));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static void alRevertir(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    accion.run();
+                }
+            }
+        });
+    }
+
+    private static void alConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package cue.edu.co.eventia_core_api.infrastructure.redis;
+
+import cue.edu.co.eventia_core_api.infrastructure.cache.LeaseCarga;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+/**
+ * Lease de carga con SET NX PX: expira solo si el nodo que lo tomó se detiene durante la carga
+ */
+@Slf4j
+public class RedisLeaseCarga implements LeaseCarga {
+
+    private static final String PREFIJO = "eventia:cache:lease:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration duracion;
+    private final String nodo;
+
+    public RedisLeaseCarga(StringRedisTemplate redisTemplate, Duration duracion, String nodo) {
+        this.redisTemplate = redisTemplate;
+        this.duracion = duracion;
+        this.nodo = nodo;
+    }
+
+    @Override
+    public boolean adquirir(String cache, Object clave) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(clave(cache, clave), nodo, duracion));
+        } catch (DataAccessException ex) {
+            log.warn("No se pudo tomar el lease de carga de {}::{}: {}", cache, clave, ex.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void liberar(String cache, Object clave) {
+        try {
+            redisTemplate.delete(clave(cache, clave));
+        } catch (DataAccessException ex) {
+            // Expira por TTL
+            log.debug("No se pudo liberar el lease de carga de {}::{}", cache, clave);
+        }
+    }
+
+    private static String clave(String cache, Object clave) {
+        return PREFIJO + cache + "::" + clave;
+    }
+}
@@ -0,0 +1,106 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caché de cuerpos HTTP ya codificados para endpoints de lectura muy consultados
+ * - La clave incluye la versión de los datos: una escritura cambia la versión y las respuestas
+ *   anteriores dejan de usarse sin invalidarlas una a una (expiran por TTL)
+ * - Guarda el JSON y, por encima de un tamaño mínimo, su versión GZIP precomputada
+ * - El ETag fuerte permite a Spring responder 304 Not Modified sin cuerpo
+ * Es local a cada nodo: la versión se comparte por la caché de versiones.
+ */
+@Component
+@Slf4j
+public class CacheRespuestas {
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RespuestaCodificada> respuestas;
+    private final int gzipMinimo;
+
+    public CacheRespuestas(ObjectMapper objectMapper,
+                           @Value("${eventia.cache.respuestas.tamano-maximo:200}") long tamanoMaximo,
+                           @Value("${eventia.cache.respuestas.ttl:10s}") Duration ttl,
+                           @Value("${eventia.cache.respuestas.gzip-minimo:1024}") int gzipMinimo) {
+        this.objectMapper = objectMapper;
+        this.respuestas = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(ttl)
+                .build();
+        this.gzipMinimo = gzipMinimo;
+    }
+
+    /**
+     * Obtiene la respuesta codificada para el endpoint y la versión indicados, calculándola una sola vez
+     */
+    public RespuestaCodificada obtener(String endpoint, String version, Supplier<?> cuerpo) {
+        return respuestas.get(endpoint + ":" + version, clave -> codificar(clave, cuerpo.get()));
+    }
+
+    /**
+     * Construye la respuesta 200 con el cuerpo en bytes (GZIP si el cliente lo acepta)
+     * Si el cliente ya tiene la versión (If-None-Match), Spring la convierte en 304
+     */
+    public ResponseEntity<byte[]> responder(RespuestaCodificada respuesta, String acceptEncoding) {
+        boolean gzip = respuesta.tieneGzip() && acceptEncoding != null && acceptEncoding.contains("gzip");
+        // Cada codificación es una representación distinta: su ETag fuerte también
+        String etag = gzip ? respuesta.etag().substring(0, respuesta.etag().length() - 1) + "-gzip\"" : respuesta.etag();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(gzip ? respuesta.gzip() : respuesta.json());
+    }
+
+    private RespuestaCodificada codificar(String clave, Object cuerpo) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cuerpo);
+            byte[] gzip = json.length >= gzipMinimo ? comprimir(json) : null;
+            log.debug("Respuesta {} codificada: {} bytes (gzip: {})", clave, json.length, gzip != null ? gzip.length : "-");
+            return new RespuestaCodificada(json, gzip, etag(json));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar la respuesta " + clave, ex);
+        }
+    }
+
+    private static byte[] comprimir(byte[] json) {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return salida.toByteArray();
+    }
+
+    private static String etag(byte[] json) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
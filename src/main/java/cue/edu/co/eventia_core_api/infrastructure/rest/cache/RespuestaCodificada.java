@@ -0,0 +1,11 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.cache;
+
+/**
+ * Cuerpo de respuesta ya serializado a JSON, con su versión GZIP (si compensa) y su ETag fuerte
+ */
+public record RespuestaCodificada(byte[] json, byte[] gzip, String etag) {
+
+    public boolean tieneGzip() {
+        return gzip != null;
+    }
+}
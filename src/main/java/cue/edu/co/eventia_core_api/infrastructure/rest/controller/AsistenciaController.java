@@ -1,16 +1,25 @@
 package cue.edu.co.eventia_core_api.infrastructure.rest.controller;
 
 import cue.edu.co.eventia_core_api.application.dto.AsistenciaResponse;
+import cue.edu.co.eventia_core_api.application.dto.PaginaResponse;
+import cue.edu.co.eventia_core_api.application.dto.PosicionEsperaResponse;
 import cue.edu.co.eventia_core_api.application.dto.RegistrarAsistenciaRequest;
+import cue.edu.co.eventia_core_api.application.dto.RegistrarAsistenciasLoteRequest;
 import cue.edu.co.eventia_core_api.application.mapper.AsistenciaMapper;
 import cue.edu.co.eventia_core_api.domain.service.AsistenciaService;
+import cue.edu.co.eventia_core_api.domain.service.ConsultaConArchivoService;
 import cue.edu.co.eventia_core_api.domain.service.EstadisticasEvento;
+import cue.edu.co.eventia_core_api.domain.service.ResultadoRegistroLote;
+import cue.edu.co.eventia_core_api.infrastructure.rest.exportacion.ExportacionAsistencias;
+import cue.edu.co.eventia_core_api.infrastructure.rest.exportacion.FormatoExportacion;
+import cue.edu.co.eventia_core_api.infrastructure.rest.paginacion.CursorPaginacion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,7 +33,11 @@ import java.util.List;
 public class AsistenciaController {
 
     private final AsistenciaService asistenciaService;
+    // Lecturas con respaldo en el archivo de eventos terminados
+    private final ConsultaConArchivoService consultaConArchivo;
     private final AsistenciaMapper asistenciaMapper;
+    private final CursorPaginacion cursorPaginacion;
+    private final ExportacionAsistencias exportacionAsistencias;
 
     @PostMapping
     public ResponseEntity<AsistenciaResponse> registrarAsistencia(
@@ -39,19 +52,50 @@ public class AsistenciaController {
                 .body(asistenciaMapper.toResponse(asistencia));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<ResultadoRegistroLote> registrarAsistenciasEnLote(
+            @Valid @RequestBody RegistrarAsistenciasLoteRequest request) {
+        log.info("POST /api/v1/asistencias/batch - Registrando lote de {} asistencias",
+                request.getAsistencias().size());
+        var resultado = asistenciaService.registrarAsistenciasEnLote(asistenciaMapper.toSolicitudes(request));
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<AsistenciaResponse> obtenerAsistenciaPorId(@PathVariable Long id) {
         log.info("GET /api/v1/asistencias/{} - Obteniendo asistencia por ID", id);
-        var asistencia = asistenciaService.obtenerAsistenciaPorId(id);
+        var asistencia = consultaConArchivo.obtenerAsistencia(id);
         return ResponseEntity.ok(asistenciaMapper.toResponse(asistencia));
     }
 
+    @GetMapping("/{id}/posicion-espera")
+    public ResponseEntity<PosicionEsperaResponse> obtenerPosicionEnEspera(@PathVariable Long id) {
+        log.info("GET /api/v1/asistencias/{}/posicion-espera - Obteniendo posición en lista de espera", id);
+        long posicion = asistenciaService.obtenerPosicionEnEspera(id);
+        return ResponseEntity.ok(PosicionEsperaResponse.builder()
+                .asistenciaId(id)
+                .posicion(posicion)
+                .build());
+    }
+
     @GetMapping("/evento/{eventoId}")
-    public ResponseEntity<List<AsistenciaResponse>> obtenerAsistenciasPorEvento(
-            @PathVariable Long eventoId) {
-        log.info("GET /api/v1/asistencias/evento/{} - Obteniendo asistencias por evento", eventoId);
-        var asistencias = asistenciaService.obtenerAsistenciasPorEvento(eventoId);
-        return ResponseEntity.ok(asistenciaMapper.toResponseList(asistencias));
+    public ResponseEntity<PaginaResponse<AsistenciaResponse>> obtenerAsistenciasPorEvento(
+            @PathVariable Long eventoId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/asistencias/evento/{} - Obteniendo página de asistencias por evento", eventoId);
+        int limite = cursorPaginacion.limite(limit);
+        var pagina = consultaConArchivo.obtenerPaginaAsistenciasPorEvento(
+                eventoId, cursorPaginacion.despuesDe(after), limite);
+        return ResponseEntity.ok(cursorPaginacion.respuesta(pagina, limite, asistenciaMapper::toResponseList));
+    }
+
+    @GetMapping("/evento/{eventoId}/export")
+    public ResponseEntity<StreamingResponseBody> exportarAsistenciasPorEvento(
+            @PathVariable Long eventoId,
+            @RequestParam(defaultValue = "csv") String format) {
+        log.info("GET /api/v1/asistencias/evento/{}/export - Exportando asistencias en {}", eventoId, format);
+        return exportacionAsistencias.exportar(eventoId, FormatoExportacion.de(format));
     }
 
     @GetMapping("/participante/{participanteId}")
@@ -59,14 +103,22 @@ public class AsistenciaController {
             @PathVariable Long participanteId) {
         log.info("GET /api/v1/asistencias/participante/{} - Obteniendo asistencias por participante",
                 participanteId);
-        var asistencias = asistenciaService.obtenerAsistenciasPorParticipante(participanteId);
+        var asistencias = consultaConArchivo.obtenerAsistenciasPorParticipante(participanteId);
         return ResponseEntity.ok(asistenciaMapper.toResponseList(asistencias));
     }
 
     @GetMapping("/evento/{eventoId}/estadisticas")
     public ResponseEntity<EstadisticasEvento> obtenerEstadisticas(@PathVariable Long eventoId) {
         log.info("GET /api/v1/asistencias/evento/{}/estadisticas - Obteniendo estadísticas", eventoId);
-        var estadisticas = asistenciaService.obtenerEstadisticas(eventoId);
+        var estadisticas = consultaConArchivo.obtenerEstadisticas(eventoId);
+        return ResponseEntity.ok(estadisticas);
+    }
+
+    @GetMapping("/estadisticas")
+    public ResponseEntity<List<EstadisticasEvento>> obtenerEstadisticasDeEventos(
+            @RequestParam List<Long> eventoIds) {
+        log.info("GET /api/v1/asistencias/estadisticas - Obteniendo estadísticas de {} eventos", eventoIds.size());
+        var estadisticas = asistenciaService.obtenerEstadisticasDeEventos(eventoIds);
         return ResponseEntity.ok(estadisticas);
     }
 
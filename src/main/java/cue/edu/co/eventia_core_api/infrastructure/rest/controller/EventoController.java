@@ -4,15 +4,22 @@ import cue.edu.co.eventia_core_api.application.dto.CrearEventoRequest;
 import cue.edu.co.eventia_core_api.application.dto.EventoResponse;
 import cue.edu.co.eventia_core_api.application.mapper.EventoMapper;
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.service.ConsultaConArchivoService;
 import cue.edu.co.eventia_core_api.domain.service.EventoService;
+import cue.edu.co.eventia_core_api.domain.service.InvalidadorCache;
+import cue.edu.co.eventia_core_api.infrastructure.rest.cache.CacheRespuestas;
+import cue.edu.co.eventia_core_api.infrastructure.rest.paginacion.CursorPaginacion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Controlador REST para la gestión de Eventos
@@ -26,8 +33,15 @@ public class EventoController {
 
     // Servicio que contiene la lógica de negocio
     private final EventoService eventoService;
+    // Lectura por ID con respaldo en el archivo de eventos terminados
+    private final ConsultaConArchivoService consultaConArchivo;
     // Mapper para convertir entre objetos de dominio y DTOs
     private final EventoMapper eventoMapper;
+    // Cuerpos JSON ya codificados de los listados, por versión de los eventos
+    private final CacheRespuestas cacheRespuestas;
+    private final InvalidadorCache invalidadorCache;
+    // Cursor y límites de los listados paginados
+    private final CursorPaginacion cursorPaginacion;
 
     /**
      * Endpoint: POST /api/v1/eventos
@@ -48,39 +62,48 @@ public class EventoController {
     }
 
     /**
-     * Endpoint: GET /api/v1/eventos
-     * Obtiene la lista de todos los eventos
-     * @return 200 OK con lista de eventos
+     * Endpoint: GET /api/v1/eventos?after=&limit=
+     * Obtiene una página de eventos ordenados por ID
+     * @param after Cursor opaco devuelto en la página anterior (ausente para la primera)
+     * @param limit Tamaño de página (por defecto y máximo en eventia.pagination)
+     * @return 200 OK con la página y el cursor siguiente (304 Not Modified si el ETag coincide)
      */
     @GetMapping
-    public ResponseEntity<List<EventoResponse>> obtenerTodosLosEventos() {
-        log.info("GET /api/v1/eventos - Obteniendo todos los eventos");
-
-        // 1. Llamar al servicio para obtener todos los eventos
-        var eventos = eventoService.obtenerTodosLosEventos();
-        // 2. Convertir lista de eventos a DTOs y retornar
-        return ResponseEntity.ok(eventoMapper.toResponseList(eventos));
+    public ResponseEntity<byte[]> obtenerEventos(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("GET /api/v1/eventos - Obteniendo página de eventos");
+
+        // 1. Validar el cursor y acotar el límite antes de usarlos en la clave de la caché
+        Long despuesDe = cursorPaginacion.despuesDe(after);
+        int limite = cursorPaginacion.limite(limit);
+        // 2. Buscar el JSON ya codificado de esta página para la versión actual de los eventos
+        // 3. Si no existe, consultar la página, convertir a DTOs y serializar una sola vez
+        return cacheado("todos:" + despuesDe + ":" + limite, () -> cursorPaginacion.respuesta(
+                eventoService.obtenerPaginaEventos(despuesDe, limite), limite, eventoMapper::toResponseList),
+                acceptEncoding);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<EventoResponse> obtenerEventoPorId(@PathVariable Long id) {
         log.info("GET /api/v1/eventos/{} - Obteniendo evento por ID", id);
-        var evento = eventoService.obtenerEventoPorId(id);
+        var evento = consultaConArchivo.obtenerEvento(id);
         return ResponseEntity.ok(eventoMapper.toResponse(evento));
     }
 
     @GetMapping("/disponibles")
-    public ResponseEntity<List<EventoResponse>> obtenerEventosDisponibles() {
+    public ResponseEntity<byte[]> obtenerEventosDisponibles(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("GET /api/v1/eventos/disponibles - Obteniendo eventos con capacidad");
-        var eventos = eventoService.obtenerEventosConCapacidadDisponible();
-        return ResponseEntity.ok(eventoMapper.toResponseList(eventos));
+        return listadoCacheado("disponibles", eventoService::obtenerEventosConCapacidadDisponible, acceptEncoding);
     }
 
     @GetMapping("/proximos")
-    public ResponseEntity<List<EventoResponse>> obtenerEventosProximos() {
+    public ResponseEntity<byte[]> obtenerEventosProximos(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         log.info("GET /api/v1/eventos/proximos - Obteniendo eventos próximos");
-        var eventos = eventoService.obtenerEventosProximos();
-        return ResponseEntity.ok(eventoMapper.toResponseList(eventos));
+        return listadoCacheado("proximos", eventoService::obtenerEventosProximos, acceptEncoding);
     }
 
     @GetMapping("/estado/{estado}")
@@ -122,5 +145,14 @@ public class EventoController {
         boolean disponible = eventoService.verificarCapacidadDisponible(id);
         return ResponseEntity.ok(disponible);
     }
-}
 
+    private ResponseEntity<byte[]> listadoCacheado(String listado, Supplier<List<Evento>> consulta, String acceptEncoding) {
+        return cacheado(listado, () -> eventoMapper.toResponseList(consulta.get()), acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> cacheado(String clave, Supplier<?> cuerpo, String acceptEncoding) {
+        var respuesta = cacheRespuestas.obtener("eventos:" + clave,
+                invalidadorCache.version(InvalidadorCache.GRUPO_EVENTOS), cuerpo);
+        return cacheRespuestas.responder(respuesta, acceptEncoding);
+    }
+}
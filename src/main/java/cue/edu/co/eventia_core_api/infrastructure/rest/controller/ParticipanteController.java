@@ -1,9 +1,12 @@
 package cue.edu.co.eventia_core_api.infrastructure.rest.controller;
 
 import cue.edu.co.eventia_core_api.application.dto.CrearParticipanteRequest;
+import cue.edu.co.eventia_core_api.application.dto.PaginaResponse;
 import cue.edu.co.eventia_core_api.application.dto.ParticipanteResponse;
 import cue.edu.co.eventia_core_api.application.mapper.ParticipanteMapper;
 import cue.edu.co.eventia_core_api.domain.service.ParticipanteService;
+import cue.edu.co.eventia_core_api.domain.service.ResultadoImportacionParticipantes;
+import cue.edu.co.eventia_core_api.infrastructure.rest.paginacion.CursorPaginacion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +14,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Controlador REST para la gestión de Participantes
@@ -24,6 +30,7 @@ public class ParticipanteController {
 
     private final ParticipanteService participanteService;
     private final ParticipanteMapper participanteMapper;
+    private final CursorPaginacion cursorPaginacion;
 
     @PostMapping
     public ResponseEntity<ParticipanteResponse> crearParticipante(
@@ -35,11 +42,26 @@ public class ParticipanteController {
                 .body(participanteMapper.toResponse(participanteCreado));
     }
 
+    /**
+     * Importación masiva: el cuerpo es el CSV (text/csv, UTF-8) con encabezado
+     * nombre,apellido,email,telefono,documento,tipo_documento
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ResultadoImportacionParticipantes> importarParticipantes(InputStream csv) {
+        log.info("POST /api/v1/participantes/import - Importando participantes desde CSV");
+        var resultado = participanteService.importarParticipantes(
+                new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        return ResponseEntity.ok(resultado);
+    }
+
     @GetMapping
-    public ResponseEntity<List<ParticipanteResponse>> obtenerTodosLosParticipantes() {
-        log.info("GET /api/v1/participantes - Obteniendo todos los participantes");
-        var participantes = participanteService.obtenerTodosLosParticipantes();
-        return ResponseEntity.ok(participanteMapper.toResponseList(participantes));
+    public ResponseEntity<PaginaResponse<ParticipanteResponse>> obtenerParticipantes(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        log.info("GET /api/v1/participantes - Obteniendo página de participantes");
+        int limite = cursorPaginacion.limite(limit);
+        var pagina = participanteService.obtenerPaginaParticipantes(cursorPaginacion.despuesDe(after), limite);
+        return ResponseEntity.ok(cursorPaginacion.respuesta(pagina, limite, participanteMapper::toResponseList));
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,134 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.exportacion;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import cue.edu.co.eventia_core_api.domain.model.AsistenciaExportada;
+import cue.edu.co.eventia_core_api.domain.service.AsistenciaService;
+import cue.edu.co.eventia_core_api.domain.service.EventoService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exportación de las asistencias de un evento escrita directamente en la respuesta HTTP
+ * - Las filas llegan de un cursor JDBC y se escriben a medida que se leen: la memoria
+ *   usada no depende del tamaño del evento
+ * - Si el cliente corta la descarga, la escritura falla, la consulta se aborta y se libera
+ *   la conexión sin propagar el error como fallo del servidor
+ */
+@Component
+@Slf4j
+public class ExportacionAsistencias {
+
+    private static final int TAMANO_BUFFER = 64 * 1024;
+    private static final String ENCABEZADO_CSV =
+            "asistencia_id,participante_id,nombre_participante,email,documento,estado,fecha_registro,notas";
+
+    private final AsistenciaService asistenciaService;
+    private final EventoService eventoService;
+    private final ObjectWriter escritorJson;
+
+    public ExportacionAsistencias(AsistenciaService asistenciaService,
+                                  EventoService eventoService,
+                                  ObjectMapper objectMapper) {
+        this.asistenciaService = asistenciaService;
+        this.eventoService = eventoService;
+        this.escritorJson = objectMapper.writerFor(AsistenciaExportada.class);
+    }
+
+    /**
+     * Valida el evento antes de empezar la respuesta (404 normal si no existe)
+     * y devuelve el cuerpo que se escribe de forma asíncrona
+     */
+    public ResponseEntity<StreamingResponseBody> exportar(Long eventoId, FormatoExportacion formato) {
+        eventoService.obtenerEventoPorId(eventoId);
+
+        String archivo = "asistencias-evento-" + eventoId + "." + formato.getExtension();
+        StreamingResponseBody cuerpo = salida -> escribir(eventoId, formato, salida);
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(archivo).build().toString())
+                .body(cuerpo);
+    }
+
+    private void escribir(Long eventoId, FormatoExportacion formato, OutputStream salida) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), TAMANO_BUFFER);
+        AtomicLong filas = new AtomicLong();
+        try {
+            if (formato == FormatoExportacion.CSV) {
+                writer.write(ENCABEZADO_CSV);
+                writer.write('\n');
+            }
+            asistenciaService.exportarAsistenciasPorEvento(eventoId, asistencia -> {
+                try {
+                    escribirFila(writer, formato, asistencia);
+                    filas.incrementAndGet();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            writer.flush();
+            log.info("Exportadas {} asistencias del evento {} en {}", filas.get(), eventoId, formato);
+        } catch (IOException | UncheckedIOException ex) {
+            // Conexión cerrada por el cliente: no hay a quién responder el error
+            log.info("Exportación de asistencias del evento {} interrumpida tras {} filas: {}",
+                    eventoId, filas.get(), ex.getMessage());
+        }
+    }
+
+    private void escribirFila(Writer writer, FormatoExportacion formato, AsistenciaExportada asistencia)
+            throws IOException {
+        if (formato == FormatoExportacion.NDJSON) {
+            writer.write(escritorJson.writeValueAsString(asistencia));
+        } else {
+            writer.write(String.valueOf(asistencia.getAsistenciaId()));
+            writer.write(',');
+            writer.write(String.valueOf(asistencia.getParticipanteId()));
+            writer.write(',');
+            writer.write(csv(asistencia.getNombreParticipante()));
+            writer.write(',');
+            writer.write(csv(asistencia.getEmail()));
+            writer.write(',');
+            writer.write(csv(asistencia.getDocumento()));
+            writer.write(',');
+            writer.write(asistencia.getEstado().name());
+            writer.write(',');
+            writer.write(asistencia.getFechaRegistro() != null ? asistencia.getFechaRegistro().toString() : "");
+            writer.write(',');
+            writer.write(csv(asistencia.getNotas()));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Escapa un campo CSV (RFC 4180): entre comillas si contiene separadores, comillas o saltos de línea
+     * Un campo que empieza como una fórmula (=, +, -, @, tabulador o retorno) se antepone con ' para que
+     * la hoja de cálculo lo muestre como texto en lugar de evaluarlo (nombre, email y notas los escribe
+     * el participante)
+     */
+    static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (!valor.isEmpty() && "=+-@\t\r".indexOf(valor.charAt(0)) >= 0) {
+            valor = "'" + valor;
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,31 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.exportacion;
+
+import cue.edu.co.eventia_core_api.exception.ParametroInvalidoException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatos de exportación de listados (?format=csv|ndjson)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum FormatoExportacion {
+
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static FormatoExportacion de(String valor) {
+        for (FormatoExportacion formato : values()) {
+            if (formato.extension.equalsIgnoreCase(valor)) {
+                return formato;
+            }
+        }
+        throw new ParametroInvalidoException("format", valor);
+    }
+}
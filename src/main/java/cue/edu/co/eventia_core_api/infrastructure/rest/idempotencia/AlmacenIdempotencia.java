@@ -0,0 +1,256 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Almacén de respuestas de escrituras con Idempotency-Key
+ * - L1 en memoria acotada por tamaño y TTL; L2 en Redis para que el reintento pueda llegar a otro nodo
+ * - Una sola petición por clave se ejecuta a la vez: en el nodo, con un futuro por clave;
+ *   entre nodos, con un lease SET NX PX que expira si el nodo se detiene a mitad de la escritura;
+ *   el lease guarda un token por petición y solo lo borra su dueño
+ * - Si Redis falla, funciona solo en memoria durante una pausa
+ */
+@Component
+@Slf4j
+public class AlmacenIdempotencia {
+
+    private static final String PREFIJO = "eventia:idempotencia:";
+    private static final String SUFIJO_EN_CURSO = ":en-curso";
+    private static final RedisScript<Long> SCRIPT_LIBERAR_LEASE = script("liberar_lease_idempotencia.lua");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RespuestaGuardada> respuestas;
+    private final ConcurrentMap<String, CompletableFuture<RespuestaGuardada>> enCurso = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, String> leases = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Duration lease;
+    private final Duration espera;
+    private final long intervaloSondeoMs;
+    private final boolean redisHabilitado;
+    private final long pausaTrasFalloMs;
+    private final String nodo = UUID.randomUUID().toString();
+
+    private volatile long pausadoHasta;
+
+    public AlmacenIdempotencia(StringRedisTemplate redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${eventia.idempotencia.tamano-maximo:10000}") long tamanoMaximo,
+                               @Value("${eventia.idempotencia.ttl:24h}") Duration ttl,
+                               @Value("${eventia.idempotencia.lease:30s}") Duration lease,
+                               @Value("${eventia.idempotencia.espera:10s}") Duration espera,
+                               @Value("${eventia.idempotencia.intervalo-sondeo-ms:50}") long intervaloSondeoMs,
+                               @Value("${eventia.idempotencia.redis.enabled:false}") boolean redisHabilitado,
+                               @Value("${eventia.idempotencia.redis.pausa-tras-fallo-ms:5000}") long pausaTrasFalloMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.respuestas = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(ttl)
+                .build();
+        this.ttl = ttl;
+        this.lease = lease;
+        this.espera = espera;
+        this.intervaloSondeoMs = intervaloSondeoMs;
+        this.redisHabilitado = redisHabilitado;
+        this.pausaTrasFalloMs = pausaTrasFalloMs;
+    }
+
+    /**
+     * Busca la respuesta ya guardada para la clave (memoria y después Redis)
+     */
+    public Optional<RespuestaGuardada> buscar(String clave) {
+        RespuestaGuardada local = respuestas.getIfPresent(clave);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        return leerRedis(clave);
+    }
+
+    /**
+     * Intenta convertir esta petición en la original de la clave
+     * @return true si debe ejecutarse; false si otra petición con la misma clave está en curso
+     */
+    public boolean iniciar(String clave) {
+        CompletableFuture<RespuestaGuardada> propio = new CompletableFuture<>();
+        if (enCurso.putIfAbsent(clave, propio) != null) {
+            return false;
+        }
+        if (!redisDisponible()) {
+            return true;
+        }
+        String token = nodo + ":" + UUID.randomUUID();
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(PREFIJO + clave + SUFIJO_EN_CURSO, token, lease))) {
+                leases.put(clave, token);
+                return true;
+            }
+        } catch (DataAccessException ex) {
+            pausar(ex);
+            return true;
+        }
+        // La original está en otro nodo: los duplicados de este nodo también la esperan en Redis
+        enCurso.remove(clave, propio);
+        propio.complete(null);
+        return false;
+    }
+
+    /**
+     * Espera a que termine la petición original de la clave
+     * @return su respuesta, o vacío si no terminó a tiempo o terminó sin guardar respuesta
+     */
+    public Optional<RespuestaGuardada> esperar(String clave) {
+        long limite = System.currentTimeMillis() + espera.toMillis();
+        CompletableFuture<RespuestaGuardada> local = enCurso.get(clave);
+        if (local != null) {
+            try {
+                RespuestaGuardada respuesta = local.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+                if (respuesta != null) {
+                    return Optional.of(respuesta);
+                }
+                // Sin respuesta local: la original falló o está en otro nodo
+            } catch (TimeoutException | ExecutionException ex) {
+                return Optional.empty();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+        // La original pudo terminar entre iniciar() y esperar()
+        RespuestaGuardada guardada = respuestas.getIfPresent(clave);
+        if (guardada != null) {
+            return Optional.of(guardada);
+        }
+        return sondearRedis(clave, limite);
+    }
+
+    /**
+     * Libera la clave y despierta a los duplicados en espera
+     * @param respuesta respuesta a guardar, o null si la petición falló y puede reintentarse
+     */
+    public void finalizar(String clave, RespuestaGuardada respuesta) {
+        try {
+            if (respuesta != null) {
+                respuestas.put(clave, respuesta);
+                escribirRedis(clave, respuesta);
+            }
+        } finally {
+            // Aunque falle la escritura, la clave no puede quedar bloqueada hasta que expire el lease
+            liberarLease(clave);
+            CompletableFuture<RespuestaGuardada> propio = enCurso.remove(clave);
+            if (propio != null) {
+                propio.complete(respuesta);
+            }
+        }
+    }
+
+    private Optional<RespuestaGuardada> sondearRedis(String clave, long limite) {
+        if (!redisDisponible()) {
+            return Optional.empty();
+        }
+        try {
+            while (System.currentTimeMillis() < limite) {
+                Optional<RespuestaGuardada> respuesta = leerRedis(clave);
+                if (respuesta.isPresent()) {
+                    return respuesta;
+                }
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(PREFIJO + clave + SUFIJO_EN_CURSO))) {
+                    // La original terminó sin guardar respuesta (o se guardó justo ahora)
+                    return leerRedis(clave);
+                }
+                Thread.sleep(intervaloSondeoMs);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException ex) {
+            pausar(ex);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<RespuestaGuardada> leerRedis(String clave) {
+        if (!redisDisponible()) {
+            return Optional.empty();
+        }
+        try {
+            String valor = redisTemplate.opsForValue().get(PREFIJO + clave);
+            if (valor == null) {
+                return Optional.empty();
+            }
+            RespuestaGuardada respuesta = objectMapper.readValue(valor, RespuestaGuardada.class);
+            respuestas.put(clave, respuesta);
+            return Optional.of(respuesta);
+        } catch (DataAccessException ex) {
+            pausar(ex);
+            return Optional.empty();
+        } catch (JsonProcessingException ex) {
+            log.warn("Respuesta idempotente ilegible en Redis para la clave {}: {}", clave, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void escribirRedis(String clave, RespuestaGuardada respuesta) {
+        if (!redisDisponible()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(PREFIJO + clave, objectMapper.writeValueAsString(respuesta), ttl);
+        } catch (DataAccessException ex) {
+            pausar(ex);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("No se pudo serializar la respuesta idempotente " + clave, ex);
+        }
+    }
+
+    private void liberarLease(String clave) {
+        String token = leases.remove(clave);
+        if (token == null || !redisDisponible()) {
+            return;
+        }
+        try {
+            redisTemplate.execute(SCRIPT_LIBERAR_LEASE, List.of(PREFIJO + clave + SUFIJO_EN_CURSO), token);
+        } catch (DataAccessException ex) {
+            // Expira por TTL
+            log.debug("No se pudo liberar el lease de idempotencia de {}", clave);
+        }
+    }
+
+    private boolean redisDisponible() {
+        return redisHabilitado && System.currentTimeMillis() >= pausadoHasta;
+    }
+
+    private static RedisScript<Long> script(String nombre) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/redis/" + nombre));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private void pausar(DataAccessException ex) {
+        pausadoHasta = System.currentTimeMillis() + pausaTrasFalloMs;
+        log.warn("Redis no disponible para idempotencia, usando solo memoria durante {} ms: {}",
+                pausaTrasFalloMs, ex.getMessage());
+    }
+}
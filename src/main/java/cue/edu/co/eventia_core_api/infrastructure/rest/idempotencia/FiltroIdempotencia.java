@@ -0,0 +1,233 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventia_core_api.infrastructure.rest.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Reintentos seguros de escrituras con la cabecera Idempotency-Key
+ * - La primera respuesta (salvo 5xx, que pueden reintentarse) se guarda y los reintentos
+ *   se responden desde el almacén sin ejecutar validaciones ni tocar la base de datos
+ * - Un duplicado concurrente espera a la petición original y recibe su misma respuesta
+ * - La misma clave con otro cuerpo se rechaza con 422
+ * - El cuerpo se lee en memoria para la huella, así que por encima de
+ *   eventia.idempotencia.tamano-maximo-cuerpo se rechaza con 413 sin llegar a leerlo entero
+ * Solo aplica a los POST de eventia.idempotencia.rutas que envían la cabecera.
+ */
+@Component
+@Slf4j
+public class FiltroIdempotencia extends OncePerRequestFilter {
+
+    public static final String CABECERA = "Idempotency-Key";
+    public static final String CABECERA_REPRODUCIDA = "Idempotent-Replayed";
+
+    private static final int LONGITUD_MAXIMA_CLAVE = 255;
+
+    private final AlmacenIdempotencia almacen;
+    private final ObjectMapper objectMapper;
+    private final Set<String> rutas;
+    private final int tamanoMaximoCuerpo;
+
+    public FiltroIdempotencia(AlmacenIdempotencia almacen,
+                              ObjectMapper objectMapper,
+                              @Value("${eventia.idempotencia.rutas:/api/v1/asistencias,/api/v1/participantes}") Set<String> rutas,
+                              @Value("${eventia.idempotencia.tamano-maximo-cuerpo:1MB}") DataSize tamanoMaximoCuerpo) {
+        this.almacen = almacen;
+        this.objectMapper = objectMapper;
+        this.rutas = rutas;
+        // Un byte menos que el máximo de un arreglo para poder leer uno de más y detectar el exceso
+        this.tamanoMaximoCuerpo = (int) Math.min(tamanoMaximoCuerpo.toBytes(), Integer.MAX_VALUE - 9);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod())
+                || !rutas.contains(request.getRequestURI())
+                || request.getHeader(CABECERA) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String valor = request.getHeader(CABECERA);
+        if (valor.isBlank() || valor.length() > LONGITUD_MAXIMA_CLAVE) {
+            responderError(request, response, HttpStatus.BAD_REQUEST,
+                    "La cabecera " + CABECERA + " debe tener entre 1 y " + LONGITUD_MAXIMA_CLAVE + " caracteres");
+            return;
+        }
+
+        if (request.getContentLengthLong() > tamanoMaximoCuerpo) {
+            responderCuerpoDemasiadoGrande(request, response);
+            return;
+        }
+        // Sin Content-Length (chunked) la lectura se corta un byte después del máximo
+        byte[] cuerpo = request.getInputStream().readNBytes(tamanoMaximoCuerpo + 1);
+        if (cuerpo.length > tamanoMaximoCuerpo) {
+            responderCuerpoDemasiadoGrande(request, response);
+            return;
+        }
+        String huella = huella(cuerpo);
+        String clave = request.getRequestURI() + ":" + valor;
+
+        Optional<RespuestaGuardada> guardada = almacen.buscar(clave);
+        if (guardada.isEmpty()) {
+            if (almacen.iniciar(clave)) {
+                // La original pudo terminar entre buscar() e iniciar(): entonces se reproduce su respuesta
+                guardada = almacen.buscar(clave);
+                if (guardada.isPresent()) {
+                    almacen.finalizar(clave, null);
+                }
+            } else {
+                log.debug("Petición con {} {} en curso, esperando a la original", CABECERA, valor);
+                guardada = almacen.esperar(clave);
+                if (guardada.isEmpty()) {
+                    responderError(request, response, HttpStatus.CONFLICT,
+                            "Hay una petición en curso con la misma " + CABECERA + "; reintente más tarde");
+                    return;
+                }
+            }
+        }
+        if (guardada.isPresent()) {
+            reproducir(request, response, guardada.get(), huella);
+            return;
+        }
+
+        ContentCachingResponseWrapper capturada = new ContentCachingResponseWrapper(response);
+        RespuestaGuardada respuesta = null;
+        try {
+            chain.doFilter(new PeticionConCuerpo(request, cuerpo), capturada);
+            if (capturada.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                respuesta = new RespuestaGuardada(capturada.getStatus(), capturada.getContentType(),
+                        capturada.getContentAsByteArray(), huella);
+            }
+        } finally {
+            almacen.finalizar(clave, respuesta);
+            capturada.copyBodyToResponse();
+        }
+    }
+
+    private void reproducir(HttpServletRequest request, HttpServletResponse response,
+                            RespuestaGuardada guardada, String huella) throws IOException {
+        if (!guardada.huella().equals(huella)) {
+            responderError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "La " + CABECERA + " ya se usó con un cuerpo de petición distinto");
+            return;
+        }
+        log.debug("Reproduciendo respuesta {} de {} {}", guardada.status(), request.getRequestURI(), request.getHeader(CABECERA));
+        response.setStatus(guardada.status());
+        if (guardada.contentType() != null) {
+            response.setContentType(guardada.contentType());
+        }
+        response.setHeader(CABECERA_REPRODUCIDA, "true");
+        response.setContentLength(guardada.cuerpo().length);
+        response.getOutputStream().write(guardada.cuerpo());
+    }
+
+    private void responderCuerpoDemasiadoGrande(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        responderError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                "El cuerpo de una petición con " + CABECERA + " no puede superar " + tamanoMaximoCuerpo + " bytes");
+    }
+
+    private void responderError(HttpServletRequest request, HttpServletResponse response,
+                                HttpStatus status, String mensaje) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(mensaje)
+                .path(request.getRequestURI())
+                .build();
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static String huella(byte[] cuerpo) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(MessageDigest.getInstance("SHA-256").digest(cuerpo));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Petición cuyo cuerpo ya se leyó para calcular la huella: se entrega de nuevo desde memoria
+     */
+    private static final class PeticionConCuerpo extends HttpServletRequestWrapper {
+
+        private final byte[] cuerpo;
+
+        PeticionConCuerpo(HttpServletRequest request, byte[] cuerpo) {
+            super(request);
+            this.cuerpo = cuerpo;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream entrada = new ByteArrayInputStream(cuerpo);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return entrada.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return entrada.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return entrada.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String charset = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(cuerpo),
+                    charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+/**
+ * Respuesta de una escritura con Idempotency-Key, guardada para reproducirla en los reintentos
+ * La huella identifica el cuerpo de la petición original: la misma clave con otro cuerpo se rechaza.
+ */
+public record RespuestaGuardada(int status, String contentType, byte[] cuerpo, String huella) {
+}
@@ -0,0 +1,80 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.paginacion;
+
+import cue.edu.co.eventia_core_api.application.dto.PaginaResponse;
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
+import cue.edu.co.eventia_core_api.exception.ParametroInvalidoException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Parámetros de paginación por cursor de los listados REST (?after=&limit=)
+ * - El cursor es opaco para el cliente: codifica en Base64 URL el último ID entregado
+ * - El límite por defecto y el máximo salen de eventia.pagination
+ */
+@Component
+public class CursorPaginacion {
+
+    private static final String PREFIJO = "v1:";
+
+    private final int limitePorDefecto;
+    private final int limiteMaximo;
+
+    public CursorPaginacion(@Value("${eventia.pagination.default-page-size:20}") int limitePorDefecto,
+                            @Value("${eventia.pagination.max-page-size:100}") int limiteMaximo) {
+        this.limitePorDefecto = limitePorDefecto;
+        this.limiteMaximo = limiteMaximo;
+    }
+
+    /**
+     * Límite efectivo: el por defecto si no se envía, recortado al máximo configurado
+     */
+    public int limite(Integer solicitado) {
+        if (solicitado == null) {
+            return limitePorDefecto;
+        }
+        if (solicitado < 1) {
+            throw new ParametroInvalidoException("limit", solicitado);
+        }
+        return Math.min(solicitado, limiteMaximo);
+    }
+
+    /**
+     * ID a partir del cual continúa el listado (null si es la primera página)
+     */
+    public Long despuesDe(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(PREFIJO)) {
+                throw new ParametroInvalidoException("after", cursor);
+            }
+            return Long.parseLong(valor.substring(PREFIJO.length()));
+        } catch (IllegalArgumentException ex) {
+            // Base64 o número mal formados (NumberFormatException es un IllegalArgumentException)
+            throw new ParametroInvalidoException("after", cursor);
+        }
+    }
+
+    public String cursor(Long ultimoId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIJO + ultimoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte la página de dominio en la respuesta REST con el cursor de la página siguiente
+     */
+    public <T, R> PaginaResponse<R> respuesta(Pagina<T> pagina, int limite, Function<List<T>, List<R>> conversion) {
+        return PaginaResponse.<R>builder()
+                .elementos(conversion.apply(pagina.getElementos()))
+                .siguienteCursor(pagina.isHayMas() ? cursor(pagina.getUltimoId()) : null)
+                .limite(limite)
+                .build();
+    }
+}
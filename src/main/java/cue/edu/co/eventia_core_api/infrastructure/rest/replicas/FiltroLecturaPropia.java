@@ -0,0 +1,65 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.replicas;
+
+import cue.edu.co.eventia_core_api.infrastructure.persistence.replicas.ContextoLectura;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.replicas.PropiedadesReplicas;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Lectura de las propias escrituras con réplicas de lectura
+ * - Una petición de escritura deja una cookie que dura eventia.replicas.lectura-propia
+ * - Mientras el cliente la envíe, sus lecturas van a la primaria y ven lo que acaba de escribir
+ *   aunque la réplica aún no lo haya replicado
+ */
+@Component
+@ConditionalOnProperty(name = "eventia.replicas.enabled", havingValue = "true")
+public class FiltroLecturaPropia extends OncePerRequestFilter {
+
+    private static final Set<String> METODOS_LECTURA = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final PropiedadesReplicas propiedades;
+
+    public FiltroLecturaPropia(PropiedadesReplicas propiedades) {
+        this.propiedades = propiedades;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (escribioRecientemente(request)) {
+            ContextoLectura.forzarPrimaria();
+        }
+        if (!METODOS_LECTURA.contains(request.getMethod())) {
+            ResponseCookie cookie = ResponseCookie.from(propiedades.getCookieLecturaPropia(), "1")
+                    .maxAge(propiedades.getLecturaPropia())
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ContextoLectura.limpiar();
+        }
+    }
+
+    private boolean escribioRecientemente(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        return cookies != null && Arrays.stream(cookies)
+                .anyMatch(cookie -> propiedades.getCookieLecturaPropia().equals(cookie.getName()));
+    }
+}
@@ -0,0 +1,19 @@
+-- Diario de deltas de evento_estadisticas
+-- Cada transición de una asistencia inserta aquí su delta en lugar de actualizar la fila del
+-- evento (que volvía a ser una fila caliente); ReconciliadorEstadisticas los compacta por lotes
+-- sobre evento_estadisticas y las lecturas suman la fila más los deltas aún no compactados
+CREATE TABLE evento_estadisticas_deltas (
+    id BIGSERIAL PRIMARY KEY,
+    evento_id BIGINT NOT NULL,
+    confirmados INTEGER NOT NULL DEFAULT 0,
+    cancelados INTEGER NOT NULL DEFAULT 0,
+    asistieron INTEGER NOT NULL DEFAULT 0,
+    no_asistieron INTEGER NOT NULL DEFAULT 0,
+    en_espera INTEGER NOT NULL DEFAULT 0,
+    fecha_registro TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_estadisticas_deltas_evento FOREIGN KEY (evento_id) REFERENCES eventos(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_estadisticas_deltas_evento ON evento_estadisticas_deltas(evento_id);
+
+COMMENT ON TABLE evento_estadisticas_deltas IS 'Deltas de evento_estadisticas pendientes de compactar';
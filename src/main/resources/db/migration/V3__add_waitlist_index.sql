@@ -0,0 +1,3 @@
+-- Índice para la lista de espera: promoción FIFO y cálculo de posición sin recorrer
+-- todas las asistencias del evento
+CREATE INDEX idx_asistencia_lista_espera ON asistencias(evento_id, estado, fecha_registro, id);
@@ -0,0 +1,6 @@
+-- Generación de IDs por secuencia con optimizador pooled-lo
+-- Cada nextval reserva un bloque de ${id_allocation_size} IDs, así Hibernate puede agrupar
+-- las inserciones en lotes JDBC (con IDENTITY ejecuta cada INSERT de inmediato)
+ALTER SEQUENCE eventos_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE participantes_id_seq INCREMENT BY ${id_allocation_size};
+ALTER SEQUENCE asistencias_id_seq INCREMENT BY ${id_allocation_size};
@@ -0,0 +1,28 @@
+-- Contadores de asistencias por evento (modelo de lectura)
+-- Se mantienen con UPDATE incrementales en cada transición de estado; así las
+-- estadísticas de un evento se leen por clave primaria sin recorrer sus asistencias
+CREATE TABLE evento_estadisticas (
+    evento_id BIGINT PRIMARY KEY,
+    confirmados INTEGER NOT NULL DEFAULT 0,
+    cancelados INTEGER NOT NULL DEFAULT 0,
+    asistieron INTEGER NOT NULL DEFAULT 0,
+    no_asistieron INTEGER NOT NULL DEFAULT 0,
+    en_espera INTEGER NOT NULL DEFAULT 0,
+    fecha_actualizacion TIMESTAMP,
+    CONSTRAINT fk_estadisticas_evento FOREIGN KEY (evento_id) REFERENCES eventos(id) ON DELETE CASCADE
+);
+
+-- Carga inicial desde las asistencias existentes
+INSERT INTO evento_estadisticas (evento_id, confirmados, cancelados, asistieron, no_asistieron, en_espera, fecha_actualizacion)
+SELECT e.id,
+       COUNT(a.id) FILTER (WHERE a.estado = 'CONFIRMADO'),
+       COUNT(a.id) FILTER (WHERE a.estado = 'CANCELADO'),
+       COUNT(a.id) FILTER (WHERE a.estado = 'ASISTIO'),
+       COUNT(a.id) FILTER (WHERE a.estado = 'NO_ASISTIO'),
+       COUNT(a.id) FILTER (WHERE a.estado = 'EN_ESPERA'),
+       CURRENT_TIMESTAMP
+FROM eventos e
+LEFT JOIN asistencias a ON a.evento_id = e.id
+GROUP BY e.id;
+
+COMMENT ON TABLE evento_estadisticas IS 'Contadores de asistencias por estado, mantenidos de forma incremental';
@@ -0,0 +1,5 @@
+-- Paginación por clave de las asistencias de un evento: WHERE evento_id = ? AND id > ?
+-- ORDER BY id se resuelve recorriendo el índice sin ordenar. Reemplaza al índice simple
+-- sobre evento_id, que queda cubierto por el prefijo del nuevo índice
+DROP INDEX IF EXISTS idx_asistencia_evento;
+CREATE INDEX idx_asistencia_evento_id ON asistencias(evento_id, id);
@@ -0,0 +1,131 @@
+-- Particionado declarativo de asistencias por HASH(evento_id)
+-- Se particiona por evento y no por rango de fecha_registro: en PostgreSQL toda restricción
+-- única de una tabla particionada debe incluir la clave de partición, y así
+-- uk_asistencia_evento_participante se conserva tal cual (y con ella el ON CONFLICT del registro).
+-- Las consultas por evento leen una sola partición; las que solo filtran por id o por
+-- participante consultan el índice de cada partición.
+--
+-- Esta migración solo prepara la tabla nueva. Los datos los mueve en línea, por lotes,
+-- MigradorAsistenciasParticionadas (eventia.particionado.asistencias.enabled):
+-- 1. iniciar_migracion_asistencias(): un disparador replica en la tabla nueva toda escritura
+--    sobre asistencias y se fija el id máximo a copiar
+-- 2. Lotes de INSERT ... SELECT por id hasta ese máximo
+-- 3. intercambiar_asistencias_particionada(): con un bloqueo breve, la tabla nueva pasa a
+--    llamarse asistencias y la anterior queda como asistencias_heredada
+
+CREATE TABLE asistencias_particionada (
+    id BIGINT NOT NULL DEFAULT nextval('asistencias_id_seq'),
+    evento_id BIGINT NOT NULL,
+    participante_id BIGINT NOT NULL,
+    fecha_registro TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    estado VARCHAR(20) NOT NULL DEFAULT 'CONFIRMADO',
+    notas TEXT,
+    fecha_actualizacion TIMESTAMP,
+    CONSTRAINT asistencias_particionada_pkey PRIMARY KEY (id, evento_id),
+    CONSTRAINT fk_asistencia_evento FOREIGN KEY (evento_id) REFERENCES eventos(id) ON DELETE CASCADE,
+    CONSTRAINT fk_asistencia_participante FOREIGN KEY (participante_id) REFERENCES participantes(id) ON DELETE CASCADE,
+    CONSTRAINT uk_asistencia_particionada_evento_participante UNIQUE (evento_id, participante_id)
+) PARTITION BY HASH (evento_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..${asistencias_particiones} - 1 LOOP
+        EXECUTE format('CREATE TABLE asistencias_p%s PARTITION OF asistencias_particionada '
+                       'FOR VALUES WITH (MODULUS %s, REMAINDER %s)',
+                       lpad(i::text, 2, '0'), ${asistencias_particiones}, i);
+    END LOOP;
+END $$;
+
+-- Índices compuestos según las consultas de JpaAsistenciaRepository
+-- - (evento_id, participante_id), por la restricción única: existencia y IDs registrados por evento, solo índice
+-- - (evento_id, id): listado y paginación por clave del evento, exportación
+-- - (evento_id, estado, fecha_registro, id): lista de espera y conteos por estado, solo índice
+-- - (participante_id, evento_id): asistencias de un participante
+-- idx_asistencia_estado no se recrea: ninguna consulta filtra solo por estado
+CREATE INDEX idx_asistencia_particionada_evento_id ON asistencias_particionada(evento_id, id);
+CREATE INDEX idx_asistencia_particionada_lista_espera ON asistencias_particionada(evento_id, estado, fecha_registro, id);
+CREATE INDEX idx_asistencia_particionada_participante ON asistencias_particionada(participante_id, evento_id);
+
+-- Progreso de la copia (una sola fila)
+CREATE TABLE migracion_asistencias (
+    id INTEGER PRIMARY KEY CHECK (id = 1),
+    ultimo_id BIGINT,
+    hasta_id BIGINT,
+    fecha_inicio TIMESTAMP,
+    fecha_fin TIMESTAMP
+);
+INSERT INTO migracion_asistencias (id) VALUES (1);
+
+-- Replica cada escritura sobre asistencias en la tabla nueva mientras dura la copia
+-- El upsert deja la versión más reciente aunque el lote que copia la fila vaya por detrás
+CREATE FUNCTION replicar_asistencia_particionada() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        IF TG_OP = 'DELETE' OR NEW.evento_id <> OLD.evento_id THEN
+            DELETE FROM asistencias_particionada WHERE id = OLD.id AND evento_id = OLD.evento_id;
+        END IF;
+        IF TG_OP = 'DELETE' THEN
+            RETURN OLD;
+        END IF;
+    END IF;
+    INSERT INTO asistencias_particionada (id, evento_id, participante_id, fecha_registro, estado, notas, fecha_actualizacion)
+    VALUES (NEW.id, NEW.evento_id, NEW.participante_id, NEW.fecha_registro, NEW.estado, NEW.notas, NEW.fecha_actualizacion)
+    ON CONFLICT (id, evento_id) DO UPDATE SET
+        participante_id = EXCLUDED.participante_id,
+        fecha_registro = EXCLUDED.fecha_registro,
+        estado = EXCLUDED.estado,
+        notas = EXCLUDED.notas,
+        fecha_actualizacion = EXCLUDED.fecha_actualizacion;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Instala el disparador y fija el último id a copiar por lotes
+-- El bloqueo espera a las inserciones en curso: lo que confirmen después lo replica el disparador
+CREATE FUNCTION iniciar_migracion_asistencias() RETURNS void AS $$
+BEGIN
+    LOCK TABLE asistencias IN SHARE ROW EXCLUSIVE MODE;
+    CREATE TRIGGER trg_replicar_asistencia_particionada
+        AFTER INSERT OR UPDATE OR DELETE ON asistencias
+        FOR EACH ROW EXECUTE FUNCTION replicar_asistencia_particionada();
+    UPDATE migracion_asistencias
+    SET ultimo_id = 0,
+        hasta_id = (SELECT COALESCE(MAX(id), 0) FROM asistencias),
+        fecha_inicio = CURRENT_TIMESTAMP
+    WHERE id = 1;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Intercambia las tablas una vez copiados todos los lotes
+-- La tabla anterior queda como asistencias_heredada hasta verificar la migración
+CREATE FUNCTION intercambiar_asistencias_particionada() RETURNS void AS $$
+BEGIN
+    LOCK TABLE asistencias IN ACCESS EXCLUSIVE MODE;
+    DROP TRIGGER trg_replicar_asistencia_particionada ON asistencias;
+
+    ALTER TABLE asistencias RENAME TO asistencias_heredada;
+    ALTER TABLE asistencias_heredada RENAME CONSTRAINT asistencias_pkey TO asistencias_heredada_pkey;
+    ALTER TABLE asistencias_heredada RENAME CONSTRAINT uk_asistencia_evento_participante
+        TO uk_asistencia_heredada_evento_participante;
+    ALTER INDEX idx_asistencia_evento_id RENAME TO idx_asistencia_heredada_evento_id;
+    ALTER INDEX idx_asistencia_lista_espera RENAME TO idx_asistencia_heredada_lista_espera;
+    ALTER INDEX idx_asistencia_participante RENAME TO idx_asistencia_heredada_participante;
+    ALTER INDEX idx_asistencia_estado RENAME TO idx_asistencia_heredada_estado;
+    ALTER TABLE asistencias_heredada ALTER COLUMN id DROP DEFAULT;
+
+    ALTER TABLE asistencias_particionada RENAME TO asistencias;
+    ALTER TABLE asistencias RENAME CONSTRAINT asistencias_particionada_pkey TO asistencias_pkey;
+    ALTER TABLE asistencias RENAME CONSTRAINT uk_asistencia_particionada_evento_participante
+        TO uk_asistencia_evento_participante;
+    ALTER INDEX idx_asistencia_particionada_evento_id RENAME TO idx_asistencia_evento_id;
+    ALTER INDEX idx_asistencia_particionada_lista_espera RENAME TO idx_asistencia_lista_espera;
+    ALTER INDEX idx_asistencia_particionada_participante RENAME TO idx_asistencia_participante;
+    -- La secuencia pasa a la tabla nueva: borrar asistencias_heredada no debe borrarla
+    ALTER SEQUENCE asistencias_id_seq OWNED BY asistencias.id;
+
+    COMMENT ON TABLE asistencias IS 'Tabla intermedia que relaciona eventos con participantes (particionada por HASH(evento_id))';
+    COMMENT ON COLUMN asistencias.estado IS 'Estado: CONFIRMADO, CANCELADO, ASISTIO, NO_ASISTIO, EN_ESPERA';
+
+    UPDATE migracion_asistencias SET fecha_fin = CURRENT_TIMESTAMP WHERE id = 1;
+END;
+$$ LANGUAGE plpgsql;
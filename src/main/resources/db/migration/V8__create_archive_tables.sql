@@ -0,0 +1,48 @@
+-- Archivo de eventos terminados (FINALIZADO o CANCELADO) y de sus asistencias
+-- ArchivadorEventos mueve aquí los eventos con fecha_fin anterior a eventia.archivo.antiguedad:
+-- las tablas activas (eventos, asistencias) solo conservan el conjunto de trabajo.
+-- Las filas archivadas no se actualizan: fillfactor 100 (sin espacio reservado para UPDATE)
+-- y textos largos comprimidos con lz4.
+CREATE TABLE eventos_archivados (
+    id BIGINT PRIMARY KEY,
+    nombre VARCHAR(200) NOT NULL,
+    descripcion TEXT,
+    fecha_inicio TIMESTAMP NOT NULL,
+    fecha_fin TIMESTAMP NOT NULL,
+    ubicacion VARCHAR(300) NOT NULL,
+    capacidad_maxima INTEGER NOT NULL,
+    participantes_registrados INTEGER NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    fecha_creacion TIMESTAMP NOT NULL,
+    fecha_actualizacion TIMESTAMP,
+    fecha_archivado TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+) WITH (fillfactor = 100);
+
+CREATE TABLE asistencias_archivadas (
+    id BIGINT PRIMARY KEY,
+    evento_id BIGINT NOT NULL,
+    participante_id BIGINT NOT NULL,
+    fecha_registro TIMESTAMP NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    notas TEXT,
+    fecha_actualizacion TIMESTAMP,
+    CONSTRAINT fk_asistencia_archivada_evento FOREIGN KEY (evento_id) REFERENCES eventos_archivados(id) ON DELETE CASCADE,
+    CONSTRAINT fk_asistencia_archivada_participante FOREIGN KEY (participante_id) REFERENCES participantes(id) ON DELETE CASCADE
+) WITH (fillfactor = 100);
+
+CREATE INDEX idx_asistencia_archivada_evento_id ON asistencias_archivadas(evento_id, id);
+CREATE INDEX idx_asistencia_archivada_participante ON asistencias_archivadas(participante_id);
+
+DO $$
+BEGIN
+    ALTER TABLE eventos_archivados ALTER COLUMN descripcion SET COMPRESSION lz4;
+    ALTER TABLE asistencias_archivadas ALTER COLUMN notas SET COMPRESSION lz4;
+EXCEPTION WHEN feature_not_supported THEN
+    RAISE NOTICE 'PostgreSQL sin soporte de lz4: el archivo usa la compresión por defecto (pglz)';
+END $$;
+
+-- Candidatos a archivar: solo eventos terminados, por fecha de fin
+CREATE INDEX idx_evento_terminado_fecha_fin ON eventos(fecha_fin, id) WHERE estado IN ('FINALIZADO', 'CANCELADO');
+
+COMMENT ON TABLE eventos_archivados IS 'Eventos terminados movidos fuera de eventos por el archivador';
+COMMENT ON TABLE asistencias_archivadas IS 'Asistencias de los eventos archivados';
@@ -0,0 +1,3 @@
+-- Ciclo de vida de los eventos (CicloVidaEventos)
+-- Eventos ACTIVO por fecha de fin: la búsqueda de eventos a finalizar solo recorre los activos
+CREATE INDEX idx_evento_activo_fecha_fin ON eventos(fecha_fin, id) WHERE estado = 'ACTIVO';
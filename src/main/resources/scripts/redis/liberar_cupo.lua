@@ -0,0 +1,10 @@
+-- Devuelve un cupo y opcionalmente retira al participante del evento
+-- KEYS[1] = cupos libres del evento, KEYS[2] = participantes registrados
+-- ARGV[1] = id del participante, ARGV[2] = '1' para retirar al participante
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    redis.call('INCR', KEYS[1])
+end
+if ARGV[2] == '1' then
+    redis.call('SREM', KEYS[2], ARGV[1])
+end
+return 1
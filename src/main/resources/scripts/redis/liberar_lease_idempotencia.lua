@@ -0,0 +1,8 @@
+-- Borra el lease de una Idempotency-Key solo si sigue perteneciendo a quien lo adquirió
+-- (si expiró y lo tomó otra petición, no se le quita)
+-- KEYS[1] = lease de la clave
+-- ARGV[1] = token del dueño
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,13 @@
+-- Reemplaza el estado de cupos de un evento con los datos de la base de datos
+-- KEYS[1] = cupos libres del evento, KEYS[2] = participantes registrados
+-- ARGV[1] = TTL en segundos, ARGV[2] = cupos libres, ARGV[3..n] = ids de participantes
+redis.call('DEL', KEYS[1], KEYS[2])
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[1])
+local lote = 1000
+for i = 3, #ARGV, lote do
+    redis.call('SADD', KEYS[2], unpack(ARGV, i, math.min(i + lote - 1, #ARGV)))
+end
+if #ARGV >= 3 then
+    redis.call('EXPIRE', KEYS[2], ARGV[1])
+end
+return 1
@@ -0,0 +1,21 @@
+-- Reserva un cupo y registra al participante en un solo paso atómico
+-- KEYS[1] = cupos libres del evento, KEYS[2] = participantes registrados
+-- ARGV[1] = id del participante
+-- Retorna: 1 reservado, 0 agotado, -1 duplicado, -2 evento no inicializado
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -2
+end
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return -1
+end
+if tonumber(redis.call('GET', KEYS[1])) <= 0 then
+    return 0
+end
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+-- El conjunto expira junto con el contador (si se creó aquí, aún no tenía TTL)
+local ttl = redis.call('PTTL', KEYS[1])
+if ttl > 0 then
+    redis.call('PEXPIRE', KEYS[2], ttl)
+end
+return 1
@@ -0,0 +1,120 @@
+package cue.edu.co.eventia_core_api.application.mapper;
+
+import cue.edu.co.eventia_core_api.application.dto.AsistenciaResponse;
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.service.EventoService;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.ParticipanteEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara el armado del listado de asistencias de un evento grande fila por fila
+ * (dos búsquedas por asistencia) contra el enriquecimiento en bloque.
+ * Se ejecuta con ./gradlew benchmark; las cachés se vacían antes de cada medición.
+ * Solo reporta los tiempos: una muestra en H2 no sirve para afirmar cuál es más rápido;
+ * cada armado sí debe devolver todas las asistencias enriquecidas.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("AsistenciaMapper - Benchmark de enriquecimiento en bloque")
+class AsistenciaMapperBenchmarkTest {
+
+    private static final int ASISTENCIAS = 5_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private AsistenciaRepository asistenciaRepository;
+
+    @Autowired
+    private AsistenciaMapper asistenciaMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Reporta el tiempo del armado por fila y en bloque")
+    void comparaPorFilaContraEnBloque() {
+        Long eventoId = prepararEvento();
+        List<Asistencia> asistencias = asistenciaRepository.findByEventoId(eventoId);
+
+        long porFila = medir("por-fila", () -> asistencias.stream().map(asistenciaMapper::toResponse).toList());
+        long enBloque = medir("en-bloque", () -> asistenciaMapper.toResponseList(asistencias));
+
+        System.out.printf("Listado de %d asistencias - por fila: %d ms | en bloque: %d ms%n",
+                asistencias.size(), porFila, enBloque);
+    }
+
+    private long medir(String nombre, Supplier<List<AsistenciaResponse>> armado) {
+        cacheManager.getCacheNames().forEach(cache -> cacheManager.getCache(cache).clear());
+        long inicio = System.nanoTime();
+        List<AsistenciaResponse> respuestas = armado.get();
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        assertThat(respuestas).as(nombre).hasSize(ASISTENCIAS).allMatch(r -> r.getNombreParticipante() != null);
+        return ms;
+    }
+
+    private Long prepararEvento() {
+        Long eventoId = eventoService.crearEvento(Evento.builder()
+                .nombre("Evento masivo")
+                .fechaInicio(LocalDateTime.now().plusDays(20))
+                .fechaFin(LocalDateTime.now().plusDays(20).plusHours(8))
+                .ubicacion("Coliseo")
+                .capacidadMaxima(ASISTENCIAS)
+                .build()).getId();
+
+        List<Long> participantes = transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>(ASISTENCIAS);
+            for (int i = 0; i < ASISTENCIAS; i++) {
+                ParticipanteEntity participante = ParticipanteEntity.builder()
+                        .nombre("Asistente")
+                        .apellido("N" + i)
+                        .email("masivo-" + i + "@benchmark.eventia.co")
+                        .documento("masivo-" + i)
+                        .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                        .build();
+                entityManager.persist(participante);
+                ids.add(participante.getId());
+            }
+            return ids;
+        });
+
+        LocalDateTime ahora = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> asistenciaRepository.saveAll(participantes.stream()
+                .map(participanteId -> Asistencia.builder()
+                        .eventoId(eventoId)
+                        .participanteId(participanteId)
+                        .fechaRegistro(ahora)
+                        .estado(EstadoAsistencia.CONFIRMADO)
+                        .build())
+                .toList()));
+        return eventoId;
+    }
+}
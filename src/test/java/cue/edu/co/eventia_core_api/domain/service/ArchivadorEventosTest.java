@@ -0,0 +1,66 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.repository.ArchivoEventosRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchivadorEventos - Pruebas Unitarias")
+class ArchivadorEventosTest {
+
+    @Mock
+    private ArchivoEventosRepository archivoRepository;
+
+    @Mock
+    private InvalidadorCache invalidadorCache;
+
+    private ArchivadorEventos archivador;
+
+    @BeforeEach
+    void setUp() {
+        archivador = new ArchivadorEventos(archivoRepository, invalidadorCache, Duration.ofDays(90), 2);
+    }
+
+    @Test
+    @DisplayName("Archiva lotes hasta recibir uno incompleto e invalida la caché de cada evento movido")
+    void archivaPorLotes() {
+        // Given
+        when(archivoRepository.archivarTerminados(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+
+        // When
+        archivador.archivar();
+
+        // Then
+        verify(archivoRepository, times(2)).archivarTerminados(any(LocalDateTime.class), eq(2));
+        for (Long eventoId : List.of(1L, 2L, 3L)) {
+            verify(invalidadorCache).evento(eventoId);
+            verify(invalidadorCache).asistenciasDeEvento(eventoId);
+        }
+    }
+
+    @Test
+    @DisplayName("Sin eventos que archivar no invalida nada")
+    void sinCandidatos() {
+        // Given
+        when(archivoRepository.archivarTerminados(any(LocalDateTime.class), eq(2))).thenReturn(List.of());
+
+        // When
+        archivador.archivar();
+
+        // Then
+        verifyNoInteractions(invalidadorCache);
+    }
+}
@@ -0,0 +1,332 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.SolicitudAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido.ResultadoReserva;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
+import cue.edu.co.eventia_core_api.exception.EventoAgotadoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsistenciaService - Pruebas Unitarias")
+class AsistenciaServiceTest {
+
+    @Mock
+    private AsistenciaRepository asistenciaRepository;
+
+    @Mock
+    private EventoService eventoService;
+
+    @Mock
+    private ParticipanteService participanteService;
+
+    @Mock
+    private AsignadorCuposDistribuido asignadorCupos;
+
+    @Mock
+    private ListaEsperaService listaEsperaService;
+
+    @Mock
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    @Mock
+    private InvalidadorCache invalidadorCache;
+
+    @InjectMocks
+    private AsistenciaService asistenciaService;
+
+    private Evento evento;
+
+    @BeforeEach
+    void setUp() {
+        evento = Evento.builder()
+                .id(1L)
+                .nombre("Conferencia Tech 2025")
+                .fechaInicio(LocalDateTime.now().plusDays(10))
+                .fechaFin(LocalDateTime.now().plusDays(10).plusHours(8))
+                .ubicacion("Centro de Convenciones")
+                .capacidadMaxima(100)
+                .participantesRegistrados(10)
+                .estado(EstadoEvento.ACTIVO)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe registrar la asistencia cuando la reserva del cupo es exitosa")
+    void debeRegistrarAsistenciaCuandoHayCupo() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.NO_DISPONIBLE);
+        when(eventoService.incrementarParticipantes(1L)).thenReturn(true);
+        when(asistenciaRepository.insertarSiNoExiste(any(Asistencia.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
+
+        // When
+        Asistencia resultado = asistenciaService.registrarAsistencia(1L, 2L, "notas");
+
+        // Then
+        assertThat(resultado.getEstado()).isEqualTo(EstadoAsistencia.CONFIRMADO);
+        verify(eventoService, times(1)).incrementarParticipantes(1L);
+        verify(asistenciaRepository, times(1)).insertarSiNoExiste(any(Asistencia.class));
+    }
+
+    @Test
+    @DisplayName("Debe reportar evento agotado cuando el UPDATE condicionado no afecta filas")
+    void debeReportarEventoAgotado() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.NO_DISPONIBLE);
+        when(eventoService.incrementarParticipantes(1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> asistenciaService.registrarAsistencia(1L, 2L, null))
+                .isInstanceOf(EventoAgotadoException.class)
+                .hasMessageContaining("capacidad máxima");
+
+        verify(asistenciaRepository, never()).insertarSiNoExiste(any(Asistencia.class));
+    }
+
+    @Test
+    @DisplayName("Debe dejar la asistencia en lista de espera cuando el evento está agotado")
+    void debeDejarEnEsperaCuandoEventoAgotado() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.NO_DISPONIBLE);
+        when(listaEsperaService.habilitada()).thenReturn(true);
+        when(eventoService.incrementarParticipantes(1L)).thenReturn(false);
+        when(asistenciaRepository.insertarSiNoExiste(any(Asistencia.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
+
+        // When
+        Asistencia resultado = asistenciaService.registrarAsistencia(1L, 2L, null);
+
+        // Then
+        assertThat(resultado.getEstado()).isEqualTo(EstadoAsistencia.EN_ESPERA);
+    }
+
+    @Test
+    @DisplayName("Debe confirmar en la base de datos un AGOTADO de Redis e invalidar su estado si había cupo")
+    void debeConfirmarAgotadoDeRedisEnBaseDeDatos() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.AGOTADO);
+        when(eventoService.incrementarParticipantes(1L)).thenReturn(true);
+        when(asistenciaRepository.insertarSiNoExiste(any(Asistencia.class))).thenAnswer(inv -> Optional.of(inv.getArgument(0)));
+
+        // When
+        Asistencia resultado = asistenciaService.registrarAsistencia(1L, 2L, null);
+
+        // Then
+        assertThat(resultado.getEstado()).isEqualTo(EstadoAsistencia.CONFIRMADO);
+        verify(asignadorCupos, times(1)).invalidar(1L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el doble registro detectado por la restricción única al insertar")
+    void debeRechazarDobleRegistroDetectadoAlInsertar() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.NO_DISPONIBLE);
+        when(eventoService.incrementarParticipantes(1L)).thenReturn(true);
+        when(asistenciaRepository.insertarSiNoExiste(any(Asistencia.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> asistenciaService.registrarAsistencia(1L, 2L, null))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("ya está registrado");
+
+        verify(asignadorCupos, never()).invalidar(any());
+        verify(estadisticasRepository, never()).ajustar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe promover la lista de espera al cancelar una asistencia confirmada")
+    void debePromoverListaEsperaAlCancelar() {
+        // Given
+        Asistencia asistencia = Asistencia.builder()
+                .id(5L)
+                .eventoId(1L)
+                .participanteId(2L)
+                .estado(EstadoAsistencia.CONFIRMADO)
+                .build();
+        when(asistenciaRepository.findById(5L)).thenReturn(Optional.of(asistencia));
+        when(asistenciaRepository.save(any(Asistencia.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        asistenciaService.cancelarAsistencia(5L);
+
+        // Then
+        verify(eventoService, times(1)).decrementarParticipantes(1L);
+        verify(listaEsperaService, times(1)).promover(1L);
+        verify(estadisticasRepository, times(1)).ajustar(1L, Map.of(
+                EstadoAsistencia.CONFIRMADO, -1,
+                EstadoAsistencia.CANCELADO, 1));
+        verify(invalidadorCache, times(1)).asistenciasDeEvento(1L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el doble registro detectado por el asignador distribuido sin consultar la base de datos")
+    void debeRechazarDobleRegistroDetectadoEnRedis() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(participanteService.obtenerParticipantePorId(2L)).thenReturn(new Participante());
+        when(asignadorCupos.reservar(1L, 2L)).thenReturn(ResultadoReserva.DUPLICADO);
+
+        // When & Then
+        assertThatThrownBy(() -> asistenciaService.registrarAsistencia(1L, 2L, null))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("ya está registrado");
+
+        verify(asistenciaRepository, never()).insertarSiNoExiste(any());
+        verify(eventoService, never()).incrementarParticipantes(any());
+    }
+
+    @Test
+    @DisplayName("Debe liberar el cupo al eliminar una asistencia que ya asistió")
+    void debeLiberarCupoAlEliminarAsistenciaQueOcupaCupo() {
+        // Given
+        Asistencia asistencia = Asistencia.builder()
+                .id(5L)
+                .eventoId(1L)
+                .participanteId(2L)
+                .estado(EstadoAsistencia.ASISTIO)
+                .build();
+        when(asistenciaRepository.findById(5L)).thenReturn(Optional.of(asistencia));
+
+        // When
+        asistenciaService.eliminarAsistencia(5L);
+
+        // Then
+        verify(eventoService, times(1)).decrementarParticipantes(1L);
+        verify(asignadorCupos, times(1)).liberar(1L, 2L, true);
+        verify(asistenciaRepository, times(1)).deleteById(5L);
+    }
+
+    @Test
+    @DisplayName("Debe registrar un lote reservando cupos una vez por evento y reportar cada resultado")
+    void debeRegistrarLoteConResultadosPorSolicitud() {
+        // Given
+        List<SolicitudAsistencia> solicitudes = List.of(
+                solicitud(1L, 2L),
+                solicitud(1L, 3L),
+                solicitud(1L, 2L),
+                solicitud(1L, 9L),
+                solicitud(1L, 4L));
+        when(eventoService.obtenerEventosPorIds(anyCollection())).thenReturn(List.of(evento));
+        when(participanteService.obtenerIdsExistentes(anyCollection())).thenReturn(Set.of(2L, 3L, 4L));
+        when(asistenciaRepository.findParticipanteIdsRegistrados(eq(1L), anyCollection())).thenReturn(List.of(3L));
+        when(eventoService.reservarCupos(1L, 2)).thenReturn(1);
+        when(asistenciaRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<Asistencia> asistencias = inv.getArgument(0);
+            asistencias.forEach(a -> a.setId(100L + a.getParticipanteId()));
+            return asistencias;
+        });
+
+        // When
+        ResultadoRegistroLote resultado = asistenciaService.registrarAsistenciasEnLote(solicitudes);
+
+        // Then
+        assertThat(resultado.getResultados())
+                .extracting(ResultadoRegistro::getEstado)
+                .containsExactly(
+                        ResultadoRegistro.Estado.CREADO,
+                        ResultadoRegistro.Estado.DUPLICADO,
+                        ResultadoRegistro.Estado.DUPLICADO,
+                        ResultadoRegistro.Estado.RECHAZADO,
+                        ResultadoRegistro.Estado.AGOTADO);
+        assertThat(resultado.getResultados().get(0).getAsistenciaId()).isEqualTo(102L);
+        verify(eventoService, times(1)).reservarCupos(1L, 2);
+        verify(asistenciaRepository, times(1)).saveAll(anyList());
+        verify(asistenciaRepository, never()).save(any(Asistencia.class));
+    }
+
+    @Test
+    @DisplayName("Debe construir las estadísticas con una sola consulta agregada")
+    void debeConstruirEstadisticasConUnaConsulta() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(asistenciaRepository.contarPorEstado(1L)).thenReturn(ConteoAsistencias.builder()
+                .eventoId(1L).total(14).confirmados(8).cancelados(2).asistieron(1).noAsistieron(1).enEspera(2)
+                .build());
+
+        // When
+        EstadisticasEvento estadisticas = asistenciaService.obtenerEstadisticas(1L);
+
+        // Then
+        assertThat(estadisticas.getTotalRegistrados()).isEqualTo(14);
+        assertThat(estadisticas.getConfirmados()).isEqualTo(8);
+        assertThat(estadisticas.getEnEspera()).isEqualTo(2);
+        verify(asistenciaRepository, never()).countByEventoIdAndEstado(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe leer las estadísticas de los contadores materializados sin contar asistencias")
+    void debeLeerEstadisticasMaterializadas() {
+        // Given
+        when(eventoService.obtenerEventoPorId(1L)).thenReturn(evento);
+        when(estadisticasRepository.findByEventoId(1L)).thenReturn(Optional.of(ConteoAsistencias.builder()
+                .eventoId(1L).total(5).confirmados(5)
+                .build()));
+
+        // When
+        EstadisticasEvento estadisticas = asistenciaService.obtenerEstadisticas(1L);
+
+        // Then
+        assertThat(estadisticas.getConfirmados()).isEqualTo(5);
+        verify(asistenciaRepository, never()).contarPorEstado(anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe obtener estadísticas de varios eventos omitiendo los inexistentes")
+    void debeObtenerEstadisticasDeVariosEventos() {
+        // Given
+        when(eventoService.obtenerEventosPorIds(List.of(1L, 99L))).thenReturn(List.of(evento));
+        when(asistenciaRepository.contarPorEstado(Set.of(1L)))
+                .thenReturn(Map.of(1L, ConteoAsistencias.vacio(1L)));
+
+        // When
+        List<EstadisticasEvento> estadisticas = asistenciaService.obtenerEstadisticasDeEventos(List.of(1L, 99L));
+
+        // Then
+        assertThat(estadisticas).extracting(EstadisticasEvento::getEventoId).containsExactly(1L);
+        assertThat(estadisticas.get(0).getTotalRegistrados()).isZero();
+    }
+
+    private static SolicitudAsistencia solicitud(Long eventoId, Long participanteId) {
+        return SolicitudAsistencia.builder()
+                .eventoId(eventoId)
+                .participanteId(participanteId)
+                .build();
+    }
+}
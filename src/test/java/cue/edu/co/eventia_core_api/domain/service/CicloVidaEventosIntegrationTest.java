@@ -0,0 +1,151 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.BloqueoTareasProgramadas;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Ciclo de vida de eventos - Pruebas de Integración")
+class CicloVidaEventosIntegrationTest {
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Autowired
+    private AsistenciaRepository asistenciaRepository;
+
+    @Autowired
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    @Autowired
+    private BloqueoTareasProgramadas bloqueo;
+
+    @Autowired
+    private InvalidadorCache invalidadorCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CicloVidaEventos cicloVida;
+
+    @BeforeEach
+    void setUp() {
+        cicloVida = new CicloVidaEventos(eventoRepository, asistenciaRepository, estadisticasRepository,
+                bloqueo, invalidadorCache, transactionManager, 2, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Finaliza los eventos terminados y marca como NO_ASISTIO las asistencias confirmadas")
+    void finalizaYMarcaNoAsistio() {
+        // Given
+        Evento terminado = evento("Taller terminado", LocalDateTime.now().minusHours(2));
+        Evento vigente = evento("Taller vigente", LocalDateTime.now().plusDays(3));
+        Asistencia confirmada1 = asistencia(terminado, participante("ciclo-1@eventia.co", "8000000001"),
+                EstadoAsistencia.CONFIRMADO);
+        Asistencia confirmada2 = asistencia(terminado, participante("ciclo-2@eventia.co", "8000000002"),
+                EstadoAsistencia.CONFIRMADO);
+        Asistencia confirmada3 = asistencia(terminado, participante("ciclo-3@eventia.co", "8000000003"),
+                EstadoAsistencia.CONFIRMADO);
+        Asistencia asistio = asistencia(terminado, participante("ciclo-4@eventia.co", "8000000004"),
+                EstadoAsistencia.ASISTIO);
+        Asistencia deVigente = asistencia(vigente, participante("ciclo-5@eventia.co", "8000000005"),
+                EstadoAsistencia.CONFIRMADO);
+        estadisticasRepository.reconstruir(terminado.getId());
+
+        // When
+        cicloVida.ejecutar();
+
+        // Then
+        assertThat(eventoRepository.findById(terminado.getId())).get()
+                .extracting(Evento::getEstado).isEqualTo(EstadoEvento.FINALIZADO);
+        assertThat(eventoRepository.findById(vigente.getId())).get()
+                .extracting(Evento::getEstado).isEqualTo(EstadoEvento.ACTIVO);
+
+        for (Asistencia asistencia : new Asistencia[]{confirmada1, confirmada2, confirmada3}) {
+            assertThat(asistenciaRepository.findById(asistencia.getId())).get()
+                    .extracting(Asistencia::getEstado).isEqualTo(EstadoAsistencia.NO_ASISTIO);
+        }
+        assertThat(asistenciaRepository.findById(asistio.getId())).get()
+                .extracting(Asistencia::getEstado).isEqualTo(EstadoAsistencia.ASISTIO);
+        assertThat(asistenciaRepository.findById(deVigente.getId())).get()
+                .extracting(Asistencia::getEstado).isEqualTo(EstadoAsistencia.CONFIRMADO);
+
+        ConteoAsistencias conteo = estadisticasRepository.findByEventoId(terminado.getId()).orElseThrow();
+        assertThat(conteo.getConfirmados()).isZero();
+        assertThat(conteo.getNoAsistieron()).isEqualTo(3);
+        assertThat(conteo.getAsistieron()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un evento ACTIVO cuya fecha de fin ya pasó no aparece con cupos ni admite reservas")
+    void eventoTerminadoSinCupos() {
+        // Given
+        Evento terminado = evento("Charla terminada", LocalDateTime.now().minusMinutes(5));
+
+        // When & Then
+        assertThat(eventoRepository.findEventosConCapacidadDisponible())
+                .extracting(Evento::getId)
+                .doesNotContain(terminado.getId());
+        assertThat(eventoRepository.reservarCupo(terminado.getId())).isFalse();
+        assertThat(eventoRepository.reservarCupos(terminado.getId(), 2)).isZero();
+    }
+
+    private Evento evento(String nombre, LocalDateTime fechaFin) {
+        return eventoRepository.save(Evento.builder()
+                .nombre(nombre)
+                .descripcion("Evento de prueba del ciclo de vida")
+                .fechaInicio(fechaFin.minusHours(4))
+                .fechaFin(fechaFin)
+                .ubicacion("Armenia, Colombia")
+                .capacidadMaxima(50)
+                .participantesRegistrados(0)
+                .estado(EstadoEvento.ACTIVO)
+                .build());
+    }
+
+    private Participante participante(String email, String documento) {
+        return participanteRepository.save(Participante.builder()
+                .nombre("Luis")
+                .apellido("Ciclo")
+                .email(email)
+                .documento(documento)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build());
+    }
+
+    private Asistencia asistencia(Evento evento, Participante participante, EstadoAsistencia estado) {
+        return asistenciaRepository.save(Asistencia.builder()
+                .eventoId(evento.getId())
+                .participanteId(participante.getId())
+                .fechaRegistro(LocalDateTime.now().minusDays(1))
+                .estado(estado)
+                .build());
+    }
+}
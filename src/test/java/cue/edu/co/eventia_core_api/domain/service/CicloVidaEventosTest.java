@@ -0,0 +1,131 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.BloqueoTareasProgramadas;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static cue.edu.co.eventia_core_api.domain.service.CicloVidaEventos.CLAVE_BLOQUEO;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CicloVidaEventos - Pruebas Unitarias")
+class CicloVidaEventosTest {
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    @Mock
+    private AsistenciaRepository asistenciaRepository;
+
+    @Mock
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    @Mock
+    private BloqueoTareasProgramadas bloqueo;
+
+    @Mock
+    private InvalidadorCache invalidadorCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CicloVidaEventos cicloVida;
+
+    @BeforeEach
+    void setUp() {
+        cicloVida = new CicloVidaEventos(eventoRepository, asistenciaRepository, estadisticasRepository,
+                bloqueo, invalidadorCache, transactionManager, 3, Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("Si otro nodo tiene el bloqueo no modifica nada")
+    void noProcesaSinElBloqueo() {
+        // Given
+        when(bloqueo.intentarAdquirir(CLAVE_BLOQUEO)).thenReturn(false);
+
+        // When
+        cicloVida.ejecutar();
+
+        // Then
+        verifyNoInteractions(eventoRepository, asistenciaRepository, estadisticasRepository, invalidadorCache);
+    }
+
+    @Test
+    @DisplayName("Finaliza por lotes hasta recibir uno incompleto e invalida solo los eventos finalizados")
+    void finalizaPorLotes() {
+        // Given
+        when(bloqueo.intentarAdquirir(CLAVE_BLOQUEO)).thenReturn(true);
+        when(eventoRepository.finalizarTerminados(any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(1L, 2L, 3L))
+                .thenReturn(List.of(4L));
+        when(asistenciaRepository.findEventosFinalizadosConConfirmadas(any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of());
+
+        // When
+        cicloVida.ejecutar();
+
+        // Then
+        verify(eventoRepository, times(2)).finalizarTerminados(any(LocalDateTime.class), eq(3));
+        for (Long eventoId : List.of(1L, 2L, 3L, 4L)) {
+            verify(invalidadorCache).evento(eventoId);
+        }
+        verifyNoMoreInteractions(invalidadorCache);
+    }
+
+    @Test
+    @DisplayName("Marca NO_ASISTIO hasta completar el lote y ajusta los contadores de cada evento")
+    void marcaNoAsistioConLimitePorLote() {
+        // Given
+        when(bloqueo.intentarAdquirir(CLAVE_BLOQUEO)).thenReturn(true);
+        when(asistenciaRepository.findEventosFinalizadosConConfirmadas(any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(10L, 20L, 30L));
+        when(asistenciaRepository.marcarNoAsistioConfirmadas(10L, 3)).thenReturn(1);
+        when(asistenciaRepository.marcarNoAsistioConfirmadas(20L, 2)).thenReturn(2);
+
+        // When
+        Integer marcadas = cicloVida.marcarNoAsistioLote(LocalDateTime.now().minusDays(1));
+
+        // Then
+        assertThat(marcadas).isEqualTo(3);
+        verify(asistenciaRepository, never()).marcarNoAsistioConfirmadas(eq(30L), anyInt());
+        verify(estadisticasRepository).ajustar(10L,
+                Map.of(EstadoAsistencia.CONFIRMADO, -1, EstadoAsistencia.NO_ASISTIO, 1));
+        verify(estadisticasRepository).ajustar(20L,
+                Map.of(EstadoAsistencia.CONFIRMADO, -2, EstadoAsistencia.NO_ASISTIO, 2));
+        verify(invalidadorCache).asistenciasDeEvento(10L);
+        verify(invalidadorCache).asistenciasDeEvento(20L);
+    }
+
+    @Test
+    @DisplayName("Un evento sin asistencias pendientes no ajusta contadores ni invalida la caché")
+    void eventoSinPendientes() {
+        // Given
+        when(bloqueo.intentarAdquirir(CLAVE_BLOQUEO)).thenReturn(true);
+        when(asistenciaRepository.findEventosFinalizadosConConfirmadas(any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(10L));
+        when(asistenciaRepository.marcarNoAsistioConfirmadas(10L, 3)).thenReturn(0);
+
+        // When
+        Integer marcadas = cicloVida.marcarNoAsistioLote(LocalDateTime.now().minusDays(1));
+
+        // Then
+        assertThat(marcadas).isZero();
+        verifyNoInteractions(estadisticasRepository, invalidadorCache);
+    }
+}
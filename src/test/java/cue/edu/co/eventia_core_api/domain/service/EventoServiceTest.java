@@ -2,6 +2,8 @@ package cue.edu.co.eventia_core_api.domain.service;
 
 import cue.edu.co.eventia_core_api.domain.model.Evento;
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Pagina;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
 import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
 import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
 import cue.edu.co.eventia_core_api.exception.ResourceNotFoundException;
@@ -14,7 +16,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,15 @@ class EventoServiceTest {
     @Mock
     private EventoRepository eventoRepository;
 
+    @Mock
+    private InvalidadorCache invalidadorCache;
+
+    @Mock
+    private LedgerCupos ledgerCupos;
+
+    @Mock
+    private AsignadorCuposDistribuido asignadorCupos;
+
     @InjectMocks
     private EventoService eventoService;
 
@@ -125,19 +135,22 @@ class EventoServiceTest {
     }
 
     @Test
-    @DisplayName("Debe obtener todos los eventos")
-    void debeObtenerTodosLosEventos() {
+    @DisplayName("Debe pedir una fila extra para saber si hay página siguiente y descartarla")
+    void debeObtenerPaginaDeEventos() {
         // Given
-        List<Evento> eventos = Arrays.asList(eventoValido, eventoValido);
-        when(eventoRepository.findAll()).thenReturn(eventos);
+        List<Evento> filas = List.of(
+                Evento.builder().id(11L).build(),
+                Evento.builder().id(12L).build(),
+                Evento.builder().id(13L).build());
+        when(eventoRepository.findSiguientes(10L, 3)).thenReturn(filas);
 
         // When
-        List<Evento> resultado = eventoService.obtenerTodosLosEventos();
+        Pagina<Evento> pagina = eventoService.obtenerPaginaEventos(10L, 2);
 
         // Then
-        assertThat(resultado).isNotEmpty();
-        assertThat(resultado).hasSize(2);
-        verify(eventoRepository, times(1)).findAll();
+        assertThat(pagina.getElementos()).extracting(Evento::getId).containsExactly(11L, 12L);
+        assertThat(pagina.getUltimoId()).isEqualTo(12L);
+        assertThat(pagina.isHayMas()).isTrue();
     }
 
     @Test
@@ -154,6 +167,35 @@ class EventoServiceTest {
         // Then
         verify(eventoRepository, times(1)).existsById(eventoId);
         verify(eventoRepository, times(1)).deleteById(eventoId);
+        verify(invalidadorCache, times(1)).evento(eventoId);
+        verify(invalidadorCache, times(1)).asistenciasDeEvento(eventoId);
+        verify(ledgerCupos).invalidar(eventoId);
+        verify(asignadorCupos).invalidar(eventoId);
+    }
+
+    @Test
+    @DisplayName("Vuelca el ledger antes de validar la nueva capacidad contra los registrados")
+    void vuelcaElLedgerAntesDeValidarCapacidad() {
+        // Given
+        Long eventoId = 1L;
+        eventoValido.setId(eventoId);
+        eventoValido.setParticipantesRegistrados(80);
+        when(eventoRepository.findById(eventoId)).thenReturn(Optional.of(eventoValido));
+        Evento cambios = Evento.builder()
+                .nombre(eventoValido.getNombre())
+                .fechaInicio(eventoValido.getFechaInicio())
+                .fechaFin(eventoValido.getFechaFin())
+                .ubicacion(eventoValido.getUbicacion())
+                .capacidadMaxima(50)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> eventoService.actualizarEvento(eventoId, cambios))
+                .isInstanceOf(BusinessRuleException.class);
+        var orden = inOrder(ledgerCupos, eventoRepository);
+        orden.verify(ledgerCupos).volcarEvento(eventoId);
+        orden.verify(eventoRepository).findById(eventoId);
+        verify(eventoRepository, never()).save(any(Evento.class));
     }
 
     @Test
@@ -0,0 +1,231 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.IntegracionPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Verifica que la invalidación por clave mantenga alta la tasa de aciertos de la caché
+ * con tráfico mixto de lecturas y registros
+ */
+@DisplayName("Invalidación de caché por clave - Pruebas de Integración")
+class InvalidacionCacheTest extends IntegracionPostgres {
+
+    private static final int EVENTOS = 20;
+    private static final int OPERACIONES = 4_000;
+    private static final double PROPORCION_ESCRITURAS = 0.05;
+
+    @Autowired
+    private EventoService eventoService;
+
+    @Autowired
+    private ParticipanteService participanteService;
+
+    @Autowired
+    private AsistenciaService asistenciaService;
+
+    @Autowired
+    private InvalidadorCache invalidadorCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<Long> eventos = new ArrayList<>();
+    private String prefijo;
+    private int siguienteParticipante;
+
+    @BeforeEach
+    void setUp() {
+        prefijo = "cache-" + System.nanoTime();
+        eventos.clear();
+        for (int i = 0; i < EVENTOS; i++) {
+            eventos.add(eventoService.crearEvento(evento("Evento caché " + i)).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("La tasa de aciertos se mantiene alta con tráfico mixto de lecturas y registros")
+    void mantieneTasaDeAciertosConTraficoMixto() {
+        // Given
+        Random random = new Random(42);
+        eventos.forEach(this::leer);
+        leerListas();
+        ContadorAciertos contador = (ContadorAciertos) cacheManager;
+        contador.reiniciar();
+
+        // When
+        for (int i = 0; i < OPERACIONES; i++) {
+            Long eventoId = eventos.get(random.nextInt(EVENTOS));
+            if (random.nextDouble() < PROPORCION_ESCRITURAS) {
+                asistenciaService.registrarAsistencia(eventoId, nuevoParticipante(), null);
+            } else {
+                switch (random.nextInt(3)) {
+                    case 0 -> eventoService.obtenerEventoPorId(eventoId);
+                    case 1 -> asistenciaService.obtenerEstadisticas(eventoId);
+                    default -> leerListas();
+                }
+            }
+        }
+
+        // Then
+        assertThat(contador.tasaAciertos()).isGreaterThan(0.8);
+    }
+
+    @Test
+    @DisplayName("Registrar en un evento no invalida las entradas de los demás eventos")
+    void registrarSoloInvalidaElEventoAfectado() {
+        // Given
+        Long eventoA = eventos.get(0);
+        Long eventoB = eventos.get(1);
+        leer(eventoA);
+        leer(eventoB);
+
+        // When
+        asistenciaService.registrarAsistencia(eventoA, nuevoParticipante(), null);
+
+        // Then
+        assertThat(cacheManager.getCache("eventos").get(eventoA)).isNull();
+        assertThat(cacheManager.getCache("estadisticasEvento").get(eventoA)).isNull();
+        assertThat(cacheManager.getCache("eventos").get(eventoB)).isNotNull();
+        assertThat(cacheManager.getCache("estadisticasEvento").get(eventoB)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Registrar en un evento no cambia la versión de las listas")
+    void registrarNoCambiaLaVersionDeLasListas() {
+        // Given
+        leerListas();
+        String version = invalidadorCache.version(InvalidadorCache.GRUPO_EVENTOS);
+
+        // When
+        asistenciaService.registrarAsistencia(eventos.get(0), nuevoParticipante(), null);
+
+        // Then
+        assertThat(invalidadorCache.version(InvalidadorCache.GRUPO_EVENTOS)).isEqualTo(version);
+        assertThat(cacheManager.getCache("eventosDisponibles").get(version)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Crear un evento invalida la lista de eventos sin tocar las entradas por ID")
+    void crearEventoCambiaLaVersionDeLasListas() {
+        // Given
+        Long eventoA = eventos.get(0);
+        leer(eventoA);
+        int totalAntes = eventoService.obtenerEventosConCapacidadDisponible().size();
+
+        // When
+        eventoService.crearEvento(evento("Evento nuevo"));
+
+        // Then
+        assertThat(eventoService.obtenerEventosConCapacidadDisponible()).hasSize(totalAntes + 1);
+        assertThat(cacheManager.getCache("eventos").get(eventoA)).isNotNull();
+    }
+
+    private void leerListas() {
+        eventoService.obtenerEventosConCapacidadDisponible();
+        eventoService.obtenerEventosProximos();
+    }
+
+    private void leer(Long eventoId) {
+        eventoService.obtenerEventoPorId(eventoId);
+        asistenciaService.obtenerEstadisticas(eventoId);
+    }
+
+    private Long nuevoParticipante() {
+        int n = siguienteParticipante++;
+        return participanteService.crearParticipante(Participante.builder()
+                .nombre("Participante")
+                .apellido("Caché")
+                .email(prefijo + "-" + n + "@cache.eventia.co")
+                .documento(prefijo + "-" + n)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build()).getId();
+    }
+
+    private static Evento evento(String nombre) {
+        return Evento.builder()
+                .nombre(nombre)
+                .descripcion("Evento de prueba de caché")
+                .fechaInicio(LocalDateTime.now().plusDays(10))
+                .fechaFin(LocalDateTime.now().plusDays(10).plusHours(2))
+                .ubicacion("Sala de pruebas")
+                .capacidadMaxima(1_000)
+                .build();
+    }
+
+    @TestConfiguration
+    static class ConfiguracionCache {
+
+        @Bean
+        @Primary
+        CacheManager cacheManager() {
+            return new ContadorAciertos();
+        }
+    }
+
+    /**
+     * CacheManager en memoria que cuenta aciertos y fallos de las cachés por ID y de las listas
+     */
+    static class ContadorAciertos extends ConcurrentMapCacheManager {
+
+        private static final Set<String> CACHES_CONTADAS =
+                Set.of("eventos", "estadisticasEvento", "eventosDisponibles", "eventosProximos");
+
+        private final AtomicLong aciertos = new AtomicLong();
+        private final AtomicLong fallos = new AtomicLong();
+
+        void reiniciar() {
+            aciertos.set(0);
+            fallos.set(0);
+        }
+
+        double tasaAciertos() {
+            long total = aciertos.get() + fallos.get();
+            return total == 0 ? 0 : (double) aciertos.get() / total;
+        }
+
+        @Override
+        protected Cache createConcurrentMapCache(String name) {
+            if (!CACHES_CONTADAS.contains(name)) {
+                return super.createConcurrentMapCache(name);
+            }
+            return new ConcurrentMapCache(name) {
+                @Override
+                public ValueWrapper get(Object key) {
+                    ValueWrapper valor = super.get(key);
+                    (valor != null ? aciertos : fallos).incrementAndGet();
+                    return valor;
+                }
+
+                @Override
+                public <T> T get(Object key, Callable<T> valueLoader) {
+                    // Camino de @Cacheable(sync = true)
+                    (lookup(key) != null ? aciertos : fallos).incrementAndGet();
+                    return super.get(key, valueLoader);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerCupos - Pruebas Unitarias")
+class LedgerCuposTest {
+
+    @Mock
+    private EventoRepository eventoRepository;
+
+    private LedgerCupos ledgerCupos;
+
+    @BeforeEach
+    void setUp() {
+        ledgerCupos = new LedgerCupos(eventoRepository, new InvalidadorCache(new ConcurrentMapCacheManager()), false, Set.of(1L), 4);
+
+        Evento evento = Evento.builder()
+                .id(1L)
+                .capacidadMaxima(100)
+                .participantesRegistrados(40)
+                .estado(EstadoEvento.ACTIVO)
+                .build();
+        lenient().when(eventoRepository.findById(1L)).thenReturn(Optional.of(evento));
+    }
+
+    @Test
+    @DisplayName("Nunca entrega más cupos que los disponibles bajo concurrencia")
+    void noSuperaLaCapacidadBajoConcurrencia() throws InterruptedException {
+        // Given
+        AtomicInteger reservados = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            executor.submit(() -> {
+                if (ledgerCupos.reservar(1L)) {
+                    reservados.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(reservados.get()).isEqualTo(60);
+        assertThat(ledgerCupos.reservar(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Vuelca el delta neto acumulado en un solo lote")
+    @SuppressWarnings("unchecked")
+    void vuelcaElDeltaNetoEnUnLote() {
+        // Given
+        ledgerCupos.reservar(1L);
+        ledgerCupos.reservar(1L);
+        ledgerCupos.reservar(1L);
+        ledgerCupos.liberar(1L);
+
+        // When
+        ledgerCupos.volcarPendientes();
+        ledgerCupos.volcarPendientes();
+
+        // Then
+        ArgumentCaptor<Map<Long, Integer>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(eventoRepository, times(1)).sumarParticipantes(deltas.capture());
+        assertThat(deltas.getValue()).containsEntry(1L, 2);
+    }
+
+    @Test
+    @DisplayName("Al invalidar vuelca el delta pendiente y recarga el evento en el siguiente uso")
+    @SuppressWarnings("unchecked")
+    void invalidarVuelcaYDescarta() {
+        // Given
+        ledgerCupos.reservar(1L);
+        ledgerCupos.reservar(1L);
+
+        // When
+        ledgerCupos.invalidar(1L);
+        ledgerCupos.reservar(1L);
+
+        // Then
+        ArgumentCaptor<Map<Long, Integer>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(eventoRepository).sumarParticipantes(deltas.capture());
+        assertThat(deltas.getValue()).containsEntry(1L, 2);
+        verify(eventoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Vuelca a demanda solo el evento indicado")
+    @SuppressWarnings("unchecked")
+    void vuelcaUnEventoADemanda() {
+        // Given
+        ledgerCupos.reservar(1L);
+
+        // When
+        ledgerCupos.volcarEvento(1L);
+        ledgerCupos.volcarEvento(2L);
+
+        // Then
+        ArgumentCaptor<Map<Long, Integer>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(eventoRepository).sumarParticipantes(deltas.capture());
+        assertThat(deltas.getValue()).containsExactly(Map.entry(1L, 1));
+    }
+
+    @Test
+    @DisplayName("Un delta que excede la capacidad se reconcilia contra asistencias y el evento se recarga")
+    void deltaRechazadoSeReconcilia() {
+        // Given
+        ledgerCupos.reservar(1L);
+        when(eventoRepository.sumarParticipantes(Map.of(1L, 1))).thenReturn(Set.of(1L));
+
+        // When
+        ledgerCupos.volcarPendientes();
+        ledgerCupos.reservar(1L);
+
+        // Then
+        verify(eventoRepository).reconciliarParticipantesRegistrados(Set.of(1L));
+        verify(eventoRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Al arrancar reconcilia solo los eventos gestionados")
+    void reconciliaSoloEventosGestionados() {
+        // When
+        ledgerCupos.afterSingletonsInstantiated();
+
+        // Then
+        verify(eventoRepository).reconciliarParticipantesRegistrados(Set.of(1L));
+        verify(eventoRepository, never()).reconciliarParticipantesRegistrados();
+    }
+
+    @Test
+    @DisplayName("Solo gestiona los eventos configurados")
+    void soloGestionaEventosConfigurados() {
+        assertThat(ledgerCupos.gestiona(1L)).isTrue();
+        assertThat(ledgerCupos.gestiona(2L)).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.exception.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListaEsperaService - Pruebas Unitarias")
+class ListaEsperaServiceTest {
+
+    @Mock
+    private AsistenciaRepository asistenciaRepository;
+
+    @Mock
+    private EventoService eventoService;
+
+    @Mock
+    private AsignadorCuposDistribuido asignadorCupos;
+
+    @Mock
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    @Mock
+    private InvalidadorCache invalidadorCache;
+
+    private ListaEsperaService listaEsperaService;
+
+    @BeforeEach
+    void setUp() {
+        listaEsperaService = new ListaEsperaService(asistenciaRepository, eventoService, asignadorCupos, estadisticasRepository, invalidadorCache, true, 2);
+    }
+
+    @Test
+    @DisplayName("Debe promover por lotes hasta agotar los cupos liberados")
+    void debePromoverPorLotes() {
+        // Given
+        when(asistenciaRepository.countByEventoIdAndEstado(1L, EstadoAsistencia.EN_ESPERA)).thenReturn(5L);
+        when(eventoService.reservarCupos(1L, 2)).thenReturn(2, 1);
+        when(asistenciaRepository.promoverEnEspera(1L, 2)).thenReturn(2);
+        when(asistenciaRepository.promoverEnEspera(1L, 1)).thenReturn(1);
+
+        // When
+        int promovidos = listaEsperaService.promover(1L);
+
+        // Then
+        assertThat(promovidos).isEqualTo(3);
+        verify(eventoService, never()).liberarCupos(anyLong(), anyInt());
+        verify(asignadorCupos, times(1)).invalidar(1L);
+        verify(estadisticasRepository, times(1)).ajustar(1L, Map.of(
+                EstadoAsistencia.EN_ESPERA, -3,
+                EstadoAsistencia.CONFIRMADO, 3));
+        verify(invalidadorCache, times(1)).asistenciasDeEvento(1L);
+    }
+
+    @Test
+    @DisplayName("Sin cupos para promover no invalida la caché")
+    void sinPromocionesNoInvalida() {
+        // Given
+        when(asistenciaRepository.countByEventoIdAndEstado(1L, EstadoAsistencia.EN_ESPERA)).thenReturn(4L);
+        when(eventoService.reservarCupos(1L, 2)).thenReturn(0);
+
+        // When
+        int promovidos = listaEsperaService.promover(1L);
+
+        // Then
+        assertThat(promovidos).isZero();
+        verifyNoInteractions(invalidadorCache, estadisticasRepository);
+    }
+
+    @Test
+    @DisplayName("Debe devolver los cupos que no se usaron por una promoción concurrente")
+    void debeDevolverCuposNoUsados() {
+        // Given
+        when(asistenciaRepository.countByEventoIdAndEstado(1L, EstadoAsistencia.EN_ESPERA)).thenReturn(2L);
+        when(eventoService.reservarCupos(1L, 2)).thenReturn(2);
+        when(asistenciaRepository.promoverEnEspera(1L, 2)).thenReturn(1);
+
+        // When
+        int promovidos = listaEsperaService.promover(1L);
+
+        // Then
+        assertThat(promovidos).isEqualTo(1);
+        verify(eventoService, times(1)).liberarCupos(1L, 1);
+    }
+
+    @Test
+    @DisplayName("Debe calcular la posición contando solo a quienes llegaron antes")
+    void debeCalcularPosicion() {
+        // Given
+        LocalDateTime registro = LocalDateTime.now();
+        Asistencia asistencia = Asistencia.builder()
+                .id(9L)
+                .eventoId(1L)
+                .fechaRegistro(registro)
+                .estado(EstadoAsistencia.EN_ESPERA)
+                .build();
+        when(asistenciaRepository.findById(9L)).thenReturn(Optional.of(asistencia));
+        when(asistenciaRepository.contarEnEsperaAntesDe(1L, registro, 9L)).thenReturn(3L);
+
+        // When & Then
+        assertThat(listaEsperaService.obtenerPosicion(9L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la consulta de posición de una asistencia confirmada")
+    void debeRechazarPosicionDeAsistenciaConfirmada() {
+        // Given
+        Asistencia asistencia = Asistencia.builder()
+                .id(9L)
+                .eventoId(1L)
+                .estado(EstadoAsistencia.CONFIRMADO)
+                .build();
+        when(asistenciaRepository.findById(9L)).thenReturn(Optional.of(asistencia));
+
+        // When & Then
+        assertThatThrownBy(() -> listaEsperaService.obtenerPosicion(9L))
+                .isInstanceOf(BusinessRuleException.class);
+    }
+}
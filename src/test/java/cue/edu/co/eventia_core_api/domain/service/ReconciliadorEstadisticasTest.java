@@ -0,0 +1,60 @@
+package cue.edu.co.eventia_core_api.domain.service;
+
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconciliadorEstadisticas - Pruebas Unitarias")
+class ReconciliadorEstadisticasTest {
+
+    @Mock
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    private ReconciliadorEstadisticas reconciliador;
+
+    @BeforeEach
+    void setUp() {
+        reconciliador = new ReconciliadorEstadisticas(estadisticasRepository, 2);
+    }
+
+    @Test
+    @DisplayName("Compacta lotes hasta recibir uno incompleto")
+    void compactaPorLotes() {
+        // Given
+        when(estadisticasRepository.compactar(2)).thenReturn(2, 2, 1);
+
+        // When
+        reconciliador.compactar();
+
+        // Then
+        verify(estadisticasRepository, times(3)).compactar(2);
+    }
+
+    @Test
+    @DisplayName("Reconstruye evento a evento recorriendo los IDs por keyset")
+    void reconstruyeEventoAEvento() {
+        // Given
+        when(estadisticasRepository.findEventoIds(0L, 2)).thenReturn(List.of(1L, 5L));
+        when(estadisticasRepository.findEventoIds(5L, 2)).thenReturn(List.of(9L));
+        when(estadisticasRepository.findEventoIds(9L, 2)).thenReturn(List.of());
+
+        // When
+        reconciliador.reconciliar();
+
+        // Then
+        InOrder orden = inOrder(estadisticasRepository);
+        orden.verify(estadisticasRepository).reconstruir(1L);
+        orden.verify(estadisticasRepository).reconstruir(5L);
+        orden.verify(estadisticasRepository).reconstruir(9L);
+    }
+}
@@ -4,12 +4,12 @@ import cue.edu.co.eventia_core_api.application.dto.CrearEventoRequest;
 import cue.edu.co.eventia_core_api.application.dto.CrearParticipanteRequest;
 import cue.edu.co.eventia_core_api.application.dto.RegistrarAsistenciaRequest;
 import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.IntegracionPostgres;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import org.junit.jupiter.api.*;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
-import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 
@@ -17,10 +17,9 @@ import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
-@ActiveProfiles("test")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 @DisplayName("Eventia Core API - Pruebas End-to-End")
-class EventiaCoreApiE2ETest {
+class EventiaCoreApiE2ETest extends IntegracionPostgres {
 
     @LocalServerPort
     private int port;
@@ -199,5 +198,69 @@ class EventiaCoreApiE2ETest {
                 .body("participantesRegistrados", equalTo(0))
                 .body("cuposDisponibles", equalTo(30));
     }
-}
 
+    @Test
+    @Order(9)
+    @DisplayName("E2E: Exportar las asistencias del evento en CSV y NDJSON")
+    void e2e_09_exportarAsistencias() {
+        given()
+                .when()
+                .get("/asistencias/evento/" + eventoId + "/export?format=csv")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("text/csv"))
+                .header("Content-Disposition", containsString("asistencias-evento-" + eventoId + ".csv"))
+                .body(startsWith("asistencia_id,participante_id,nombre_participante"))
+                .body(containsString(asistenciaId + "," + participanteId + ",Carlos Test,carlos.test.e2e@example.com"))
+                .body(containsString("CANCELADO"));
+
+        given()
+                .when()
+                .get("/asistencias/evento/" + eventoId + "/export?format=ndjson")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .body(containsString("\"nombreParticipante\":\"Carlos Test\""));
+
+        given()
+                .when()
+                .get("/asistencias/evento/" + eventoId + "/export?format=xml")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("E2E: Importar participantes desde CSV con reporte de rechazos")
+    void e2e_10_importarParticipantes() {
+        String csv = """
+                nombre,apellido,email,telefono,documento,tipo_documento
+                Ana,Importada,ana.import.e2e@example.com,3001112233,9000000001,CEDULA_CIUDADANIA
+                Carlos,Repetido,carlos.test.e2e@example.com,,9000000002,CEDULA_CIUDADANIA
+                "Luis, Jr.",Importado,luis.import.e2e@example.com,,9000000001,PASAPORTE
+                Marta,Importada,marta.import.e2e@example.com,,9000000003,LICENCIA
+                """;
+
+        given()
+                .contentType("text/csv")
+                .body(csv)
+                .when()
+                .post("/participantes/import")
+                .then()
+                .statusCode(200)
+                .body("total", equalTo(4))
+                .body("importados", equalTo(1))
+                .body("rechazados", equalTo(3))
+                .body("filasPorSegundo", notNullValue())
+                .body("rechazos.fila", contains(2, 3, 4))
+                .body("rechazos.motivo", contains("EMAIL_EXISTENTE", "DOCUMENTO_DUPLICADO_EN_ARCHIVO",
+                        "TIPO_DOCUMENTO_INVALIDO"));
+
+        given()
+                .when()
+                .get("/participantes/email/ana.import.e2e@example.com")
+                .then()
+                .statusCode(200)
+                .body("documento", equalTo("9000000001"));
+    }
+}
@@ -0,0 +1,210 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheDosNiveles - Pruebas Unitarias")
+class CacheDosNivelesTest {
+
+    private final List<InvalidacionCache> difundidas = new ArrayList<>();
+
+    private ConcurrentMapCacheManager redis;
+    private CacheManagerDosNiveles nodoA;
+    private CacheManagerDosNiveles nodoB;
+
+    @BeforeEach
+    void setUp() {
+        // La L2 compartida se simula con un único CacheManager en memoria para ambos nodos
+        redis = new ConcurrentMapCacheManager();
+        PropiedadesCacheL1 propiedades = new PropiedadesCacheL1();
+        PropiedadesCacheL1.Nivel eventos = new PropiedadesCacheL1.Nivel();
+        eventos.setTamanoMaximo(2);
+        eventos.setTtl(Duration.ofMinutes(1));
+        propiedades.getCaches().put("eventos", eventos);
+
+        nodoA = new CacheManagerDosNiveles(redis, propiedades, this::difundir);
+        nodoB = new CacheManagerDosNiveles(redis, propiedades, this::difundir);
+    }
+
+    @Test
+    @DisplayName("Una lectura en L2 se promueve a L1 y las siguientes no consultan Redis")
+    void promueveLecturasDeL2() {
+        // Given
+        redis.getCache("eventos").put(1L, "evento-1");
+        Cache cache = nodoA.getCache("eventos");
+
+        // When
+        assertThat(cache.get(1L).get()).isEqualTo("evento-1");
+        redis.getCache("eventos").evict(1L);
+
+        // Then
+        assertThat(cache.get(1L).get()).isEqualTo("evento-1");
+    }
+
+    @Test
+    @DisplayName("Invalidar en un nodo descarta la copia L1 de los demás nodos")
+    void invalidaL1EnOtrosNodos() {
+        // Given
+        nodoA.getCache("eventos").put(1L, "evento-1");
+        assertThat(nodoB.getCache("eventos").get(1L).get()).isEqualTo("evento-1");
+
+        // When
+        nodoA.getCache("eventos").evict(1L);
+
+        // Then
+        assertThat(nodoB.getCache("eventos").get(1L)).isNull();
+        assertThat(difundidas).extracting(InvalidacionCache::clave).contains(1L);
+    }
+
+    @Test
+    @DisplayName("putIfAbsent respeta el valor que ya existe en L2")
+    void putIfAbsentUsaElValorDeL2() {
+        // Given
+        nodoA.getCache("versionesCache").putIfAbsent("eventos", "v1");
+
+        // When
+        Cache.ValueWrapper existente = nodoB.getCache("versionesCache").putIfAbsent("eventos", "v2");
+
+        // Then
+        assertThat(existente.get()).isEqualTo("v1");
+        assertThat(nodoB.getCache("versionesCache").get("eventos").get()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("putIfAbsent con copia en L1 no consulta L2 y una invalidación descarta la copia")
+    void putIfAbsentSirveDesdeL1() {
+        // Given
+        nodoB.getCache("versionesCache").putIfAbsent("eventos", "v1");
+        redis.getCache("versionesCache").put("eventos", "v2");
+
+        // When
+        Cache.ValueWrapper local = nodoB.getCache("versionesCache").putIfAbsent("eventos", "v3");
+        nodoA.getCache("versionesCache").evict("eventos");
+        Cache.ValueWrapper trasInvalidar = nodoB.getCache("versionesCache").putIfAbsent("eventos", "v4");
+
+        // Then
+        assertThat(local.get()).isEqualTo("v1");
+        assertThat(trasInvalidar).isNull();
+        assertThat(redis.getCache("versionesCache").get("eventos").get()).isEqualTo("v4");
+    }
+
+    @Test
+    @DisplayName("Los fallos concurrentes sobre la misma clave esperan una única carga")
+    void cargaUnicaBajoConcurrencia() throws InterruptedException {
+        // Given
+        Cache cache = nodoA.getCache("eventos");
+        AtomicInteger cargas = new AtomicInteger();
+        CountDownLatch inicio = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        for (int i = 0; i < 16; i++) {
+            executor.submit(() -> {
+                inicio.await();
+                return cache.get(1L, () -> {
+                    cargas.incrementAndGet();
+                    Thread.sleep(50);
+                    return "evento-1";
+                });
+            });
+        }
+        inicio.countDown();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(cargas).hasValue(1);
+        assertThat(redis.getCache("eventos").get(1L).get()).isEqualTo("evento-1");
+    }
+
+    @Test
+    @DisplayName("Una entrada cerca de expirar se recarga una sola vez en segundo plano sin bloquear al lector")
+    void refrescaAntesDeExpirar() throws InterruptedException {
+        // Given
+        PropiedadesCacheL1 propiedades = new PropiedadesCacheL1();
+        propiedades.setRefrescoAnticipado(0.001);
+        CacheManagerDosNiveles nodo = new CacheManagerDosNiveles(redis, propiedades, invalidacion -> { });
+        Cache cache = nodo.getCache("eventosDisponibles");
+        cache.get("v1", () -> "anterior");
+        Thread.sleep(100);
+        CountDownLatch liberarRecarga = new CountDownLatch(1);
+        AtomicInteger recargas = new AtomicInteger();
+
+        // When
+        Object primero = cache.get("v1", () -> {
+            recargas.incrementAndGet();
+            liberarRecarga.await();
+            return "nuevo";
+        });
+        Object segundo = cache.get("v1", () -> {
+            recargas.incrementAndGet();
+            return "otro";
+        });
+        liberarRecarga.countDown();
+
+        // Then
+        assertThat(primero).isEqualTo("anterior");
+        assertThat(segundo).isEqualTo("anterior");
+        assertThat(esperarValor(cache, "v1", "nuevo")).isTrue();
+        assertThat(recargas).hasValue(1);
+        assertThat(redis.getCache("eventosDisponibles").get("v1").get()).isEqualTo("nuevo");
+    }
+
+    @Test
+    @DisplayName("Una recarga durante la cual se invalidó la clave no se guarda en L1 ni en L2")
+    void cargaInvalidadaNoSeGuarda() throws Exception {
+        // Given
+        Cache cache = nodoA.getCache("eventos");
+        CountDownLatch cargando = new CountDownLatch(1);
+        CountDownLatch continuar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        var lectura = executor.submit(() -> cache.get(1L, () -> {
+            cargando.countDown();
+            continuar.await();
+            return "anterior";
+        }));
+        cargando.await();
+        cache.evict(1L);
+        continuar.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThat(lectura.get(5, TimeUnit.SECONDS)).isEqualTo("anterior");
+        assertThat(redis.getCache("eventos").get(1L)).isNull();
+        assertThat(cache.get(1L, () -> "actual")).isEqualTo("actual");
+    }
+
+    private static boolean esperarValor(Cache cache, Object clave, Object esperado) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < limite) {
+            Cache.ValueWrapper valor = cache.get(clave);
+            if (valor != null && esperado.equals(valor.get())) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
+    private void difundir(InvalidacionCache invalidacion) {
+        difundidas.add(invalidacion);
+        nodoA.recibir(invalidacion);
+        nodoB.recibir(invalidacion);
+    }
+}
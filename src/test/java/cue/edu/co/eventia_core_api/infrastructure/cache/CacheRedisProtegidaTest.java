@@ -0,0 +1,135 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CacheRedisProtegida - Pruebas Unitarias")
+class CacheRedisProtegidaTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicBoolean redisCaido = new AtomicBoolean();
+    private final AtomicInteger llamadas = new AtomicInteger();
+
+    private ConcurrentMapCache redis;
+    private CircuitoRedis circuito;
+    private CacheRedisProtegida cache;
+
+    @BeforeEach
+    void setUp() {
+        // Simula Redis: cuenta las llamadas y falla mientras redisCaido sea true
+        redis = new ConcurrentMapCache("eventos") {
+            @Override
+            public ValueWrapper get(Object key) {
+                llamar();
+                return super.get(key);
+            }
+
+            @Override
+            public void put(Object key, Object value) {
+                llamar();
+                super.put(key, value);
+            }
+
+            @Override
+            public void evict(Object key) {
+                llamar();
+                super.evict(key);
+            }
+
+            @Override
+            public ValueWrapper putIfAbsent(Object key, Object value) {
+                llamar();
+                return super.putIfAbsent(key, value);
+            }
+        };
+        circuito = new CircuitoRedis(3, Duration.ofMillis(100), registry);
+        cache = new CacheRedisProtegida(redis, circuito);
+    }
+
+    @Test
+    @DisplayName("Los errores de Redis se tratan como fallos de caché y abren el circuito")
+    void abreElCircuitoTrasFallosSeguidos() {
+        // Given
+        redisCaido.set(true);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThat(cache.get(1L)).isNull();
+        }
+        cache.get(1L);
+        cache.put(1L, "evento-1");
+
+        // Then
+        assertThat(circuito.estado()).isEqualTo(CircuitoRedis.Estado.ABIERTO);
+        assertThat(llamadas).hasValue(3);
+        assertThat(registry.get("eventia.cache.redis.omitidas").counter().count()).isEqualTo(2);
+        assertThat(registry.get("eventia.cache.redis.errores").counter().count()).isEqualTo(3);
+        assertThat(registry.get("eventia.cache.redis.circuito").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Tras la pausa, una prueba exitosa cierra el circuito y aplica los desalojos omitidos")
+    void aplicaDesalojosPendientesAlRecuperarse() throws InterruptedException {
+        // Given
+        redis.put(1L, "evento-1 (antes del cambio)");
+        redisCaido.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get(2L);
+        }
+        cache.evict(1L);
+
+        // When
+        redisCaido.set(false);
+        Thread.sleep(150);
+        Object leido = cache.get(1L);
+
+        // Then
+        assertThat(leido).isNull();
+        assertThat(circuito.estado()).isEqualTo(CircuitoRedis.Estado.CERRADO);
+        assertThat(redis.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Con el circuito abierto putIfAbsent devuelve el último valor conocido en lugar del nuevo")
+    void conservaElUltimoValorConocidoSinRedis() {
+        // Given
+        assertThat(cache.putIfAbsent("eventos", "version-1")).isNull();
+        redisCaido.set(true);
+        for (int i = 0; i < 3; i++) {
+            cache.get(2L);
+        }
+
+        // When
+        Cache.ValueWrapper primera = cache.putIfAbsent("eventos", "version-2");
+        Cache.ValueWrapper segunda = cache.putIfAbsent("eventos", "version-3");
+
+        // Then
+        assertThat(circuito.estado()).isEqualTo(CircuitoRedis.Estado.ABIERTO);
+        assertThat(primera).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("version-1");
+        assertThat(segunda).isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("version-1");
+
+        // Un desalojo sin Redis cambia la versión una sola vez, no en cada llamada
+        cache.evict("eventos");
+        assertThat(cache.putIfAbsent("eventos", "version-4")).isNull();
+        assertThat(cache.putIfAbsent("eventos", "version-5"))
+                .isNotNull().extracting(Cache.ValueWrapper::get).isEqualTo("version-4");
+    }
+
+    private void llamar() {
+        if (redisCaido.get()) {
+            llamadas.incrementAndGet();
+            throw new RedisConnectionFailureException("Redis no responde");
+        }
+    }
+}
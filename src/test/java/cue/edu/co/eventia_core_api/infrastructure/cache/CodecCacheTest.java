@@ -0,0 +1,75 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CodecCache - Pruebas Unitarias")
+class CodecCacheTest {
+
+    private final CodecCache codec = CodecCache.smile(1024);
+
+    @Test
+    @DisplayName("Codifica y decodifica un evento sin requerir Serializable")
+    void codificaEvento() {
+        // Given
+        Evento evento = Evento.builder()
+                .id(1L)
+                .nombre("Workshop")
+                .fechaInicio(LocalDateTime.of(2025, 5, 1, 9, 0))
+                .fechaFin(LocalDateTime.of(2025, 5, 1, 12, 0))
+                .capacidadMaxima(100)
+                .participantesRegistrados(40)
+                .estado(EstadoEvento.ACTIVO)
+                .build();
+
+        // When
+        Object leido = codec.deserialize(codec.serialize(evento));
+
+        // Then
+        assertThat(leido).isEqualTo(evento);
+    }
+
+    @Test
+    @DisplayName("Comprime las listas grandes y conserva el tipo de sus elementos")
+    void comprimeListasGrandes() {
+        // Given
+        List<Asistencia> asistencias = IntStream.range(0, 500)
+                .mapToObj(i -> Asistencia.builder()
+                        .id((long) i)
+                        .eventoId(1L)
+                        .participanteId((long) i)
+                        .estado(EstadoAsistencia.CONFIRMADO)
+                        .build())
+                .toList();
+
+        // When
+        byte[] bytes = codec.serialize(asistencias);
+        Object leido = codec.deserialize(bytes);
+
+        // Then
+        assertThat(bytes[2]).isEqualTo(CodecCache.GZIP);
+        assertThat(leido).isInstanceOf(List.class);
+        assertThat((List<?>) leido).hasSize(500).first().isInstanceOf(Asistencia.class);
+    }
+
+    @Test
+    @DisplayName("Ignora valores de otro formato (serialización JDK) como un fallo de caché")
+    void ignoraFormatosDesconocidos() {
+        // Given
+        byte[] jdk = RedisSerializer.java().serialize("valor anterior");
+
+        // When / Then
+        assertThat(codec.deserialize(jdk)).isNull();
+    }
+}
@@ -0,0 +1,57 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CodecInvalidacion - Pruebas Unitarias")
+class CodecInvalidacionTest {
+
+    private final CodecInvalidacion codec = new CodecInvalidacion();
+
+    @Test
+    @DisplayName("Conserva el tipo de las claves Long y String")
+    void conservaElTipoDeLaClave() {
+        // Given
+        InvalidacionCache porId = new InvalidacionCache("nodo-a", "eventos", 42L);
+        InvalidacionCache porTexto = new InvalidacionCache("nodo-a", "versionesCache", "eventos");
+
+        // When & Then
+        assertThat(codec.deserialize(codec.serialize(porId))).isEqualTo(porId);
+        assertThat(codec.deserialize(codec.serialize(porTexto))).isEqualTo(porTexto);
+    }
+
+    @Test
+    @DisplayName("Una clave de otro tipo se difunde como vaciado de la caché")
+    void claveDesconocidaVaciaLaCache() {
+        // Given
+        InvalidacionCache invalidacion = new InvalidacionCache("nodo-a", "eventos", List.of(1, 2));
+
+        // When
+        InvalidacionCache leida = codec.deserialize(codec.serialize(invalidacion));
+
+        // Then
+        assertThat(leida.esVaciado()).isTrue();
+        assertThat(leida.cache()).isEqualTo("eventos");
+    }
+
+    @Test
+    @DisplayName("Ignora los mensajes que no son JSON, como los de serialización JDK")
+    void ignoraMensajesIlegibles() throws IOException {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream salida = new ObjectOutputStream(bytes)) {
+            salida.writeObject("eventos");
+        }
+
+        // When & Then
+        assertThat(codec.deserialize(bytes.toByteArray())).isNull();
+        assertThat(codec.deserialize(new byte[0])).isNull();
+    }
+}
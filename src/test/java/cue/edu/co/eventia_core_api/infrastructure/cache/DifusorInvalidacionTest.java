@@ -0,0 +1,70 @@
+package cue.edu.co.eventia_core_api.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DifusorInvalidacion - Pruebas Unitarias")
+class DifusorInvalidacionTest {
+
+    private static final String CANAL = "eventia:cache:invalidaciones";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, InvalidacionCache> publicador = mock(RedisTemplate.class);
+
+    private CircuitoRedis circuito;
+    private DifusorInvalidacion difusor;
+
+    @BeforeEach
+    void setUp() {
+        circuito = new CircuitoRedis(2, Duration.ofMinutes(1), registry);
+        difusor = new DifusorInvalidacion(publicador, CANAL, circuito);
+    }
+
+    @Test
+    @DisplayName("Los fallos al publicar abren el circuito y con él abierto ya no se llama a Redis")
+    void omitePublicacionConCircuitoAbierto() {
+        // Given
+        InvalidacionCache invalidacion = new InvalidacionCache("nodo-a", "eventos", 1L);
+        when(publicador.convertAndSend(CANAL, invalidacion))
+                .thenThrow(new RedisConnectionFailureException("caído"));
+
+        // When
+        difusor.accept(invalidacion);
+        difusor.accept(invalidacion);
+        difusor.accept(invalidacion);
+
+        // Then
+        assertThat(circuito.estado()).isEqualTo(CircuitoRedis.Estado.ABIERTO);
+        verify(publicador, times(2)).convertAndSend(CANAL, invalidacion);
+        assertThat(registry.counter("eventia.cache.redis.omitidas", "cache", "eventos").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Una publicación correcta reinicia la cuenta de fallos del circuito")
+    void publicaConCircuitoCerrado() {
+        // Given
+        InvalidacionCache invalidacion = new InvalidacionCache("nodo-a", "eventos", 1L);
+        when(publicador.convertAndSend(CANAL, invalidacion))
+                .thenThrow(new RedisConnectionFailureException("caído"))
+                .thenReturn(1L);
+
+        // When
+        difusor.accept(invalidacion);
+        difusor.accept(invalidacion);
+
+        // Then
+        assertThat(circuito.estado()).isEqualTo(CircuitoRedis.Estado.CERRADO);
+        verify(publicador, times(2)).convertAndSend(CANAL, invalidacion);
+    }
+}
@@ -0,0 +1,69 @@
+package cue.edu.co.eventia_core_api.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DataSourceLimitado - Pruebas Unitarias")
+class DataSourceLimitadoTest {
+
+    private final DataSource destino = mock(DataSource.class);
+    private final Connection conexion = mock(Connection.class);
+
+    private DataSourceLimitado dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(destino.getConnection()).thenReturn(conexion);
+        dataSource = new DataSourceLimitado(destino, 2, 50);
+    }
+
+    @Test
+    @DisplayName("Rechaza rápido cuando todas las conexiones permitidas están en uso")
+    void rechazaAlAlcanzarElLimite() throws SQLException {
+        // Given
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("Límite de concurrencia");
+        verify(destino, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Devuelve el permiso una sola vez aunque la conexión se cierre varias veces")
+    void devuelvePermisoAlCerrar() throws SQLException {
+        // Given
+        Connection primera = dataSource.getConnection();
+        assertThat(dataSource.disponibles()).isEqualTo(1);
+
+        // When
+        primera.close();
+        primera.close();
+
+        // Then
+        assertThat(dataSource.disponibles()).isEqualTo(2);
+        verify(conexion, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Devuelve el permiso si el pool no entrega la conexión")
+    void devuelvePermisoSiElPoolFalla() throws SQLException {
+        // Given
+        when(destino.getConnection()).thenThrow(new SQLException("pool agotado"));
+
+        // When & Then
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool agotado");
+        assertThat(dataSource.disponibles()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,86 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence;
+
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.ParticipanteEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Mide inserciones por segundo sin lotes (equivalente a IDENTITY, un INSERT por viaje)
+ * y con lotes JDBC habilitados por los IDs de secuencia.
+ * Se ejecuta con ./gradlew benchmark; para cifras representativas usar PostgreSQL
+ * (SPRING_DATASOURCE_URL=...?reWriteBatchedInserts=true) en lugar de H2 en memoria.
+ * Solo reporta las cifras: una muestra de tiempo en H2 no sirve para afirmar cuál es más rápido.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("Inserción por lotes - Benchmark")
+class InsercionPorLotesBenchmarkTest {
+
+    private static final int TOTAL = 5_000;
+    private static final int CALENTAMIENTO = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Reporta inserciones por segundo con y sin lotes JDBC")
+    void comparaInsercionesPorSegundo() {
+        insertar("calentamiento", CALENTAMIENTO, 50);
+
+        double sinLotes = insertar("sin-lotes", TOTAL, 1);
+        double conLotes = insertar("con-lotes", TOTAL, 50);
+
+        System.out.printf("Inserciones/s sin lotes: %.0f | con lotes (50): %.0f | mejora: %.1fx%n",
+                sinLotes, conLotes, conLotes / sinLotes);
+        assertThat(contar("sin-lotes-%")).isEqualTo(TOTAL);
+        assertThat(contar("con-lotes-%")).isEqualTo(TOTAL);
+    }
+
+    private long contar(String patron) {
+        return entityManager.createQuery(
+                        "SELECT COUNT(p) FROM ParticipanteEntity p WHERE p.documento LIKE :patron", Long.class)
+                .setParameter("patron", patron)
+                .getSingleResult();
+    }
+
+    private double insertar(String prefijo, int cantidad, int tamanoLote) {
+        long inicio = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(tamanoLote);
+            for (int i = 0; i < cantidad; i++) {
+                entityManager.persist(participante(prefijo + "-" + i));
+                if ((i + 1) % 500 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+        return cantidad / segundos;
+    }
+
+    private static ParticipanteEntity participante(String clave) {
+        return ParticipanteEntity.builder()
+                .nombre("Benchmark")
+                .apellido("Lotes")
+                .email(clave + "@benchmark.eventia.co")
+                .documento(clave)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base de las pruebas que ejecutan SQL propio de PostgreSQL (COPY, ON CONFLICT, secuencias pooled)
+ * El esquema lo crea Flyway, igual que en producción; el contenedor lo arranca Spring y se comparte
+ * entre las clases que reutilizan el mismo contexto. Las propiedades van en @TestPropertySource para
+ * que una subclase pueda redeclarar @SpringBootTest (p. ej. con servidor web). Sin Docker se omiten.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class IntegracionPostgres {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+}
@@ -0,0 +1,128 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.IntegracionPostgres;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Transactional
+@DisplayName("AsistenciaRepositoryAdapter - Pruebas de Integración con PostgreSQL")
+class AsistenciaRepositoryAdapterIntegrationTest extends IntegracionPostgres {
+
+    @Autowired
+    private AsistenciaRepository asistenciaRepository;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Test
+    @DisplayName("insertarSiNoExiste guarda todas las columnas que guarda la entidad")
+    void insertaTodasLasColumnas() {
+        // Given
+        Evento evento = evento();
+        Participante participante = participante("insertar-1@eventia.co", "9400000001");
+
+        // When
+        Optional<Asistencia> insertada = asistenciaRepository.insertarSiNoExiste(
+                asistencia(evento, participante, EstadoAsistencia.EN_ESPERA, "Llega tarde"));
+
+        // Then
+        assertThat(insertada).isPresent();
+        Asistencia leida = asistenciaRepository.findById(insertada.get().getId()).orElseThrow();
+        assertThat(leida.getEventoId()).isEqualTo(evento.getId());
+        assertThat(leida.getParticipanteId()).isEqualTo(participante.getId());
+        assertThat(leida.getEstado()).isEqualTo(EstadoAsistencia.EN_ESPERA);
+        assertThat(leida.getNotas()).isEqualTo("Llega tarde");
+        assertThat(leida.getFechaRegistro()).isNotNull();
+        assertThat(leida.getFechaActualizacion()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Una asistencia repetida devuelve vacío sin abortar la transacción")
+    void repetidaDevuelveVacio() {
+        // Given
+        Evento evento = evento();
+        Participante participante = participante("insertar-2@eventia.co", "9400000002");
+        asistenciaRepository.insertarSiNoExiste(asistencia(evento, participante, EstadoAsistencia.CONFIRMADO, null));
+
+        // When
+        Optional<Asistencia> repetida = asistenciaRepository.insertarSiNoExiste(
+                asistencia(evento, participante, EstadoAsistencia.CONFIRMADO, null));
+
+        // Then
+        assertThat(repetida).isEmpty();
+        assertThat(asistenciaRepository.existsByEventoIdAndParticipanteId(evento.getId(), participante.getId()))
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("Los IDs salen del bloque pooled-lo en memoria: inserciones seguidas reciben IDs consecutivos")
+    void idsConsecutivosDelMismoBloque() {
+        // Given
+        Evento evento = evento();
+        Participante primero = participante("insertar-3@eventia.co", "9400000003");
+        Participante segundo = participante("insertar-4@eventia.co", "9400000004");
+
+        // When
+        Long id1 = asistenciaRepository.insertarSiNoExiste(
+                asistencia(evento, primero, EstadoAsistencia.CONFIRMADO, null)).orElseThrow().getId();
+        Long id2 = asistenciaRepository.insertarSiNoExiste(
+                asistencia(evento, segundo, EstadoAsistencia.CONFIRMADO, null)).orElseThrow().getId();
+        Long id3 = asistenciaRepository.save(asistencia(evento, participante("insertar-5@eventia.co", "9400000005"),
+                EstadoAsistencia.CONFIRMADO, null)).getId();
+
+        // Then
+        assertThat(id2 - id1).isEqualTo(1);
+        assertThat(id3 - id2).isEqualTo(1);
+    }
+
+    private Evento evento() {
+        return eventoRepository.save(Evento.builder()
+                .nombre("Evento de inserción")
+                .descripcion("Evento de prueba de insertarSiNoExiste")
+                .fechaInicio(LocalDateTime.now().plusDays(5))
+                .fechaFin(LocalDateTime.now().plusDays(5).plusHours(2))
+                .ubicacion("Armenia, Colombia")
+                .capacidadMaxima(50)
+                .participantesRegistrados(0)
+                .estado(EstadoEvento.ACTIVO)
+                .build());
+    }
+
+    private Participante participante(String email, String documento) {
+        return participanteRepository.save(Participante.builder()
+                .nombre("Sara")
+                .apellido("Insercion")
+                .email(email)
+                .documento(documento)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build());
+    }
+
+    private Asistencia asistencia(Evento evento, Participante participante, EstadoAsistencia estado, String notas) {
+        return Asistencia.builder()
+                .eventoId(evento.getId())
+                .participanteId(participante.getId())
+                .estado(estado)
+                .notas(notas)
+                .build();
+    }
+}
@@ -0,0 +1,121 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.ConteoAsistencias;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EstadisticasEventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Estadísticas de eventos - Pruebas de Integración")
+class EstadisticasEventoIntegrationTest {
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Autowired
+    private AsistenciaRepository asistenciaRepository;
+
+    @Autowired
+    private EstadisticasEventoRepository estadisticasRepository;
+
+    @Test
+    @DisplayName("Las lecturas suman los deltas pendientes y compactarlos no cambia el resultado")
+    void compactarConservaLosContadores() {
+        // Given
+        Evento evento = evento();
+        estadisticasRepository.reconstruir(evento.getId());
+        estadisticasRepository.ajustar(evento.getId(), Map.of(EstadoAsistencia.CONFIRMADO, 1));
+        estadisticasRepository.ajustar(evento.getId(), Map.of(EstadoAsistencia.CONFIRMADO, 1));
+        estadisticasRepository.ajustar(evento.getId(),
+                Map.of(EstadoAsistencia.CONFIRMADO, -1, EstadoAsistencia.CANCELADO, 1));
+        assertThat(estadisticasRepository.findByEventoId(evento.getId())).get()
+                .extracting(ConteoAsistencias::getConfirmados, ConteoAsistencias::getCancelados)
+                .containsExactly(1L, 1L);
+
+        // When
+        int compactados = estadisticasRepository.compactar(100);
+
+        // Then
+        assertThat(compactados).isGreaterThanOrEqualTo(3);
+        assertThat(estadisticasRepository.findByEventoId(evento.getId())).get()
+                .extracting(ConteoAsistencias::getConfirmados, ConteoAsistencias::getCancelados)
+                .containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Reconstruir con deltas sin compactar no los cuenta dos veces")
+    void reconstruirDescuentaLosDeltasPendientes() {
+        // Given
+        Evento evento = evento();
+        asistencia(evento, participante("estadisticas-1@eventia.co", "6000000001"), EstadoAsistencia.CONFIRMADO);
+        asistencia(evento, participante("estadisticas-2@eventia.co", "6000000002"), EstadoAsistencia.CONFIRMADO);
+        estadisticasRepository.ajustar(evento.getId(), Map.of(EstadoAsistencia.CONFIRMADO, 1));
+        estadisticasRepository.ajustar(evento.getId(), Map.of(EstadoAsistencia.CONFIRMADO, 1));
+
+        // When
+        estadisticasRepository.reconstruir(evento.getId());
+
+        // Then
+        assertThat(estadisticasRepository.findByEventoId(evento.getId())).get()
+                .extracting(ConteoAsistencias::getConfirmados).isEqualTo(2L);
+        estadisticasRepository.compactar(100);
+        assertThat(estadisticasRepository.findByEventoId(evento.getId())).get()
+                .extracting(ConteoAsistencias::getConfirmados).isEqualTo(2L);
+    }
+
+    private Evento evento() {
+        LocalDateTime inicio = LocalDateTime.now().plusDays(10);
+        return eventoRepository.save(Evento.builder()
+                .nombre("Foro de estadísticas")
+                .descripcion("Evento de prueba de las estadísticas")
+                .fechaInicio(inicio)
+                .fechaFin(inicio.plusHours(3))
+                .ubicacion("Armenia, Colombia")
+                .capacidadMaxima(50)
+                .participantesRegistrados(0)
+                .estado(EstadoEvento.ACTIVO)
+                .build());
+    }
+
+    private Participante participante(String email, String documento) {
+        return participanteRepository.save(Participante.builder()
+                .nombre("Eva")
+                .apellido("Contadores")
+                .email(email)
+                .documento(documento)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build());
+    }
+
+    private void asistencia(Evento evento, Participante participante, EstadoAsistencia estado) {
+        asistenciaRepository.save(Asistencia.builder()
+                .eventoId(evento.getId())
+                .participanteId(participante.getId())
+                .fechaRegistro(LocalDateTime.now())
+                .estado(estado)
+                .build());
+    }
+}
@@ -0,0 +1,101 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.adapter;
+
+import cue.edu.co.eventia_core_api.domain.repository.ImportadorParticipantes;
+import cue.edu.co.eventia_core_api.domain.service.RechazoImportacion;
+import cue.edu.co.eventia_core_api.domain.service.ResultadoImportacionParticipantes;
+import cue.edu.co.eventia_core_api.exception.ParametroInvalidoException;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.IntegracionPostgres;
+import cue.edu.co.eventia_core_api.infrastructure.persistence.entity.SecuenciasIds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Transactional
+@DisplayName("JdbcImportadorParticipantes - Pruebas de Integración con PostgreSQL")
+class JdbcImportadorParticipantesIntegrationTest extends IntegracionPostgres {
+
+    private static final String CABECERA = "nombre,apellido,email,telefono,documento,tipo_documento\n";
+
+    @Autowired
+    private ImportadorParticipantes importador;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Carga el CSV con COPY, importa las filas válidas y rechaza el resto con su fila y motivo")
+    void importaConCopyYRechazaInvalidas() {
+        // Given
+        String csv = CABECERA +
+                "Ana,Copy,ana.copy@eventia.co,3001112233,9100000001,CEDULA_CIUDADANIA\n" +
+                "\"Luis, Jr\",Copy,luis.copy@eventia.co,,9100000002,pasaporte\n" +
+                "Eva,Copy,eva.copy@eventia.co,3001112244,9100000003,CEDULA_EXTRANJERIA\n" +
+                "Sin,Arroba,sin-arroba.eventia.co,,9100000004,CEDULA_CIUDADANIA\n" +
+                "Ana,Repetida,ana.copy@eventia.co,,9100000005,CEDULA_CIUDADANIA\n";
+
+        // When
+        ResultadoImportacionParticipantes resultado = importador.importar(new StringReader(csv));
+
+        // Then
+        assertThat(resultado.getTotal()).isEqualTo(5);
+        assertThat(resultado.getImportados()).isEqualTo(3);
+        assertThat(resultado.getRechazos())
+                .extracting(RechazoImportacion::getFila, RechazoImportacion::getMotivo)
+                .containsExactly(
+                        tuple(4L, RechazoImportacion.Motivo.EMAIL_INVALIDO),
+                        tuple(5L, RechazoImportacion.Motivo.EMAIL_DUPLICADO_EN_ARCHIVO));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT nombre || '|' || tipo_documento FROM participantes WHERE email = 'luis.copy@eventia.co'",
+                String.class)).isEqualTo("Luis, Jr|PASAPORTE");
+    }
+
+    @Test
+    @DisplayName("Asigna IDs consecutivos dentro de cada bloque de la secuencia en lugar de un bloque por fila")
+    void asignaIdsPorBloques() {
+        // Given
+        int filas = SecuenciasIds.TAMANO_BLOQUE + 10;
+        String csv = CABECERA + IntStream.range(0, filas)
+                .mapToObj(i -> "Bloque,Ids,bloque-" + i + "@eventia.co,," + (9200000000L + i) + ",CEDULA_CIUDADANIA\n")
+                .collect(Collectors.joining());
+        long antes = siguienteBloque();
+
+        // When
+        ResultadoImportacionParticipantes resultado = importador.importar(new StringReader(csv));
+
+        // Then
+        assertThat(resultado.getImportados()).isEqualTo(filas);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM participantes WHERE email LIKE 'bloque-%@eventia.co' ORDER BY id", Long.class);
+        assertThat(ids).containsExactlyElementsOf(LongStream
+                .range(antes + SecuenciasIds.TAMANO_BLOQUE, antes + SecuenciasIds.TAMANO_BLOQUE + filas)
+                .boxed()
+                .toList());
+        // Dos bloques para 60 filas: el siguiente nextval queda justo detrás de ellos
+        assertThat(siguienteBloque()).isEqualTo(antes + 3L * SecuenciasIds.TAMANO_BLOQUE);
+    }
+
+    @Test
+    @DisplayName("Un CSV con columnas de más se rechaza como parámetro inválido sin importar nada")
+    void csvMalformado() {
+        // Given
+        String csv = CABECERA + "Ana,Columnas,ana.columnas@eventia.co,,9300000001,CEDULA_CIUDADANIA,sobra\n";
+
+        // When & Then
+        assertThatThrownBy(() -> importador.importar(new StringReader(csv)))
+                .isInstanceOf(ParametroInvalidoException.class);
+    }
+
+    private long siguienteBloque() {
+        return jdbcTemplate.queryForObject("SELECT nextval('participantes_id_seq')", Long.class);
+    }
+}
@@ -0,0 +1,179 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.particionado;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Migración completa contra PostgreSQL con escrituras concurrentes durante la copia
+ * Usa su propio contenedor (no extiende IntegracionPostgres): el intercambio cambia la tabla
+ * asistencias y no debe afectar a las demás pruebas
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("MigradorAsistenciasParticionadas - Pruebas de Integración con PostgreSQL")
+class MigradorAsistenciasParticionadasIntegrationTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private static final int PARTICIPANTES = 60;
+    private static final int TAMANO_LOTE = 25;
+    private static final String FILAS = "SELECT id, evento_id, participante_id, fecha_registro, estado, notas, " +
+            "fecha_actualizacion FROM %s ORDER BY id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Test
+    @DisplayName("Las escrituras durante la copia quedan en la tabla particionada con los mismos IDs tras el intercambio")
+    void migraConEscriturasConcurrentes() throws Exception {
+        // Given
+        List<Long> participantes = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTES; i++) {
+            participantes.add(participante(i).getId());
+        }
+        List<Long> eventos = List.of(evento().getId(), evento().getId(), evento().getId());
+        Long eventoNuevas = evento().getId();
+        List<Object[]> filas = new ArrayList<>();
+        for (Long eventoId : eventos) {
+            for (Long participanteId : participantes) {
+                filas.add(new Object[]{eventoId, participanteId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO asistencias " +
+                "(id, evento_id, participante_id, fecha_registro, estado, fecha_actualizacion) " +
+                "VALUES (nextval('asistencias_id_seq'), ?, ?, now(), 'CONFIRMADO', now())", filas);
+        List<Long> iniciales = jdbcTemplate.queryForList("SELECT id FROM asistencias ORDER BY id", Long.class);
+
+        MigradorAsistenciasParticionadas migrador = new MigradorAsistenciasParticionadas(
+                jdbcTemplate, transactionManager, TAMANO_LOTE, Duration.ofSeconds(5));
+        migrador.migrarSiguienteLote();
+        assertThat(progreso().get("hasta_id")).isNotNull();
+
+        // When
+        AtomicBoolean detener = new AtomicBoolean();
+        CompletableFuture<Integer> escritor = CompletableFuture.supplyAsync(
+                () -> escribir(iniciales, eventoNuevas, participantes, detener));
+        int lotes = 0;
+        while (quedanPorCopiar() && lotes++ < 1_000) {
+            migrador.migrarSiguienteLote();
+        }
+        detener.set(true);
+        int escrituras = escritor.get(30, TimeUnit.SECONDS);
+        List<Map<String, Object>> antesDelIntercambio = jdbcTemplate.queryForList(FILAS.formatted("asistencias"));
+        migrador.migrarSiguienteLote();
+
+        // Then
+        assertThat(escrituras).isPositive();
+        assertThat(progreso().get("fecha_fin")).isNotNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'asistencias'", String.class)).isEqualTo("p");
+        List<Map<String, Object>> migradas = jdbcTemplate.queryForList(FILAS.formatted("asistencias"));
+        assertThat(migradas).hasSize(antesDelIntercambio.size());
+        assertThat(migradas).containsExactlyElementsOf(antesDelIntercambio);
+        assertThat(jdbcTemplate.queryForList(FILAS.formatted("asistencias_heredada")))
+                .containsExactlyElementsOf(migradas);
+    }
+
+    /**
+     * Inserta, actualiza y borra asistencias en transacciones propias hasta que se le indique
+     * @return escrituras realizadas
+     */
+    private int escribir(List<Long> iniciales, Long eventoNuevas, List<Long> participantes, AtomicBoolean detener) {
+        int escrituras = 0;
+        while (!detener.get()) {
+            int paso = escrituras++;
+            switch (paso % 3) {
+                case 0 -> jdbcTemplate.update("UPDATE asistencias SET estado = 'CANCELADO', notas = ?, " +
+                                "fecha_actualizacion = now() WHERE id = ?",
+                        "escritura " + paso, iniciales.get((paso * 7) % iniciales.size()));
+                case 1 -> jdbcTemplate.update("DELETE FROM asistencias WHERE id = ?",
+                        iniciales.get((paso * 13) % iniciales.size()));
+                default -> jdbcTemplate.update("INSERT INTO asistencias " +
+                                "(id, evento_id, participante_id, fecha_registro, estado, fecha_actualizacion) " +
+                                "VALUES (nextval('asistencias_id_seq'), ?, ?, now(), 'EN_ESPERA', now()) " +
+                                "ON CONFLICT DO NOTHING",
+                        eventoNuevas, participantes.get((paso / 3) % participantes.size()));
+            }
+        }
+        return escrituras;
+    }
+
+    /**
+     * Las escrituras concurrentes solo crean IDs por encima de hasta_id, así que al no quedar filas
+     * pendientes el siguiente lote es el intercambio
+     */
+    private boolean quedanPorCopiar() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM asistencias a, migracion_asistencias m " +
+                "WHERE m.id = 1 AND a.id > m.ultimo_id AND a.id <= m.hasta_id)", Boolean.class));
+    }
+
+    private Map<String, Object> progreso() {
+        return jdbcTemplate.queryForMap("SELECT ultimo_id, hasta_id, fecha_fin FROM migracion_asistencias WHERE id = 1");
+    }
+
+    private Evento evento() {
+        return eventoRepository.save(Evento.builder()
+                .nombre("Evento de migración")
+                .descripcion("Evento de prueba de la migración particionada")
+                .fechaInicio(LocalDateTime.now().plusDays(10))
+                .fechaFin(LocalDateTime.now().plusDays(10).plusHours(3))
+                .ubicacion("Armenia, Colombia")
+                .capacidadMaxima(500)
+                .participantesRegistrados(0)
+                .estado(EstadoEvento.ACTIVO)
+                .build());
+    }
+
+    private Participante participante(int numero) {
+        return participanteRepository.save(Participante.builder()
+                .nombre("Marta")
+                .apellido("Migracion")
+                .email("migracion-" + numero + "@eventia.co")
+                .documento(String.valueOf(9500000000L + numero))
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.particionado;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static cue.edu.co.eventia_core_api.infrastructure.persistence.particionado.MigradorAsistenciasParticionadas.CLAVE_BLOQUEO;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MigradorAsistenciasParticionadas - Pruebas Unitarias")
+class MigradorAsistenciasParticionadasTest {
+
+    private static final String PROGRESO = "SELECT ultimo_id, hasta_id, fecha_fin FROM migracion_asistencias WHERE id = 1";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MigradorAsistenciasParticionadas migrador;
+
+    @BeforeEach
+    void setUp() {
+        migrador = new MigradorAsistenciasParticionadas(jdbcTemplate, transactionManager, 1000, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Si otro nodo tiene el bloqueo no copia nada")
+    void noCopiaSinElBloqueo() {
+        // Given
+        when(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CLAVE_BLOQUEO))
+                .thenReturn(false);
+
+        // When
+        migrador.migrarSiguienteLote();
+
+        // Then
+        verify(jdbcTemplate, never()).queryForMap(anyString());
+    }
+
+    @Test
+    @DisplayName("La primera ejecución instala el disparador antes de copiar")
+    void iniciaLaMigracion() {
+        // Given
+        conBloqueo();
+        when(jdbcTemplate.queryForMap(PROGRESO)).thenReturn(progreso(null, null));
+
+        // When
+        MigradorAsistenciasParticionadas.Estado estado = migrador.avanzar();
+
+        // Then
+        assertThat(estado).isEqualTo(MigradorAsistenciasParticionadas.Estado.EN_CURSO);
+        verify(jdbcTemplate).execute("SET LOCAL lock_timeout = '2000ms'");
+        verify(jdbcTemplate).execute("SELECT iniciar_migracion_asistencias()");
+    }
+
+    @Test
+    @DisplayName("Copia un lote y guarda el último id copiado")
+    void copiaUnLote() {
+        // Given
+        conBloqueo();
+        when(jdbcTemplate.queryForMap(PROGRESO)).thenReturn(progreso(0L, 2500L));
+        when(jdbcTemplate.queryForObject(contains("INSERT INTO asistencias_particionada"), eq(Long.class),
+                eq(0L), eq(2500L), eq(1000))).thenReturn(1000L);
+
+        // When
+        MigradorAsistenciasParticionadas.Estado estado = migrador.avanzar();
+
+        // Then
+        assertThat(estado).isEqualTo(MigradorAsistenciasParticionadas.Estado.EN_CURSO);
+        verify(jdbcTemplate).update("UPDATE migracion_asistencias SET ultimo_id = ? WHERE id = 1", 1000L);
+        verify(jdbcTemplate, never()).execute("SELECT intercambiar_asistencias_particionada()");
+    }
+
+    @Test
+    @DisplayName("Sin filas pendientes intercambia las tablas y deja de ejecutarse")
+    void intercambiaAlTerminar() {
+        // Given
+        conBloqueo();
+        when(jdbcTemplate.queryForMap(PROGRESO)).thenReturn(progreso(2500L, 2500L));
+
+        // When
+        migrador.migrarSiguienteLote();
+        migrador.migrarSiguienteLote();
+
+        // Then
+        verify(jdbcTemplate).execute("SELECT intercambiar_asistencias_particionada()");
+        verify(jdbcTemplate, times(1)).queryForMap(PROGRESO);
+    }
+
+    @Test
+    @DisplayName("Si el intercambio no obtiene el bloqueo a tiempo, se reintenta en la siguiente ejecución")
+    void reintentaElIntercambio() {
+        // Given
+        conBloqueo();
+        when(jdbcTemplate.queryForMap(PROGRESO)).thenReturn(progreso(2500L, 2500L));
+        doThrow(new CannotAcquireLockException("lock timeout"))
+                .doNothing()
+                .when(jdbcTemplate).execute("SELECT intercambiar_asistencias_particionada()");
+
+        // When
+        migrador.migrarSiguienteLote();
+        migrador.migrarSiguienteLote();
+
+        // Then
+        verify(jdbcTemplate, times(2)).execute("SELECT intercambiar_asistencias_particionada()");
+    }
+
+    private void conBloqueo() {
+        when(jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CLAVE_BLOQUEO))
+                .thenReturn(true);
+    }
+
+    private static Map<String, Object> progreso(Long ultimoId, Long hastaId) {
+        Map<String, Object> progreso = new HashMap<>();
+        progreso.put("ultimo_id", ultimoId);
+        progreso.put("hasta_id", hastaId);
+        progreso.put("fecha_fin", null);
+        return progreso;
+    }
+}
@@ -0,0 +1,145 @@
+package cue.edu.co.eventia_core_api.infrastructure.persistence.replicas;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Enrutamiento con dos bases H2 en memoria en lugar de una primaria y una réplica de PostgreSQL:
+ * cada una tiene una tabla "nodo" con su nombre y la réplica una tabla con el atraso que informa
+ */
+@DisplayName("DataSourceReplicas - Pruebas Unitarias")
+class DataSourceReplicasTest {
+
+    private JdbcTemplate primaria;
+    private JdbcTemplate replica;
+    private DataSourceReplicas dataSourceReplicas;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate lectura;
+    private TransactionTemplate escritura;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource basePrimaria = baseEnMemoria("primaria");
+        DriverManagerDataSource baseReplica = baseEnMemoria("replica");
+        primaria = new JdbcTemplate(basePrimaria);
+        replica = new JdbcTemplate(baseReplica);
+        replica.execute("CREATE TABLE estado_replica (lag_ms BIGINT)");
+        replica.update("INSERT INTO estado_replica VALUES (0)");
+
+        dataSourceReplicas = new DataSourceReplicas(basePrimaria,
+                List.of(new DataSourceReplicas.Replica("replica-1", baseReplica)),
+                5000, "SELECT lag_ms FROM estado_replica");
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(basePrimaria);
+        dataSource.setReadOnlyDataSource(dataSourceReplicas);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+        escritura = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContextoLectura.limpiar();
+        primaria.execute("SHUTDOWN");
+        replica.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura van a la réplica y las de escritura a la primaria")
+    void enrutaSegunSoloLectura() {
+        // Given
+        dataSourceReplicas.medirLag();
+
+        // When
+        String nodoLectura = lectura.execute(estado -> nodoActual());
+        String nodoEscritura = escritura.execute(estado -> nodoActual());
+
+        // Then
+        assertThat(nodoLectura).isEqualTo("replica");
+        assertThat(nodoEscritura).isEqualTo("primaria");
+    }
+
+    @Test
+    @DisplayName("Una réplica con más atraso que el máximo deja de recibir lecturas hasta ponerse al día")
+    void descartaReplicaAtrasada() {
+        // Given
+        replica.update("UPDATE estado_replica SET lag_ms = 30000");
+        dataSourceReplicas.medirLag();
+
+        // When
+        String conAtraso = lectura.execute(estado -> nodoActual());
+        replica.update("UPDATE estado_replica SET lag_ms = 100");
+        dataSourceReplicas.medirLag();
+        String alDia = lectura.execute(estado -> nodoActual());
+
+        // Then
+        assertThat(conAtraso).isEqualTo("primaria");
+        assertThat(alDia).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Sin medición o tras una escritura reciente del cliente, las lecturas van a la primaria")
+    void usaPrimariaSinMedicionOConLecturaPropia() {
+        // Given
+        String sinMedir = lectura.execute(estado -> nodoActual());
+        dataSourceReplicas.medirLag();
+
+        // When
+        ContextoLectura.forzarPrimaria();
+        String lecturaPropia = lectura.execute(estado -> nodoActual());
+
+        // Then
+        assertThat(sinMedir).isEqualTo("primaria");
+        assertThat(lecturaPropia).isEqualTo("primaria");
+    }
+
+    @Test
+    @DisplayName("Con credenciales explícitas la conexión va a la primaria en lugar de fallar")
+    void credencialesExplicitasUsanLaPrimaria() throws SQLException {
+        // Given
+        dataSourceReplicas.medirLag();
+
+        // When
+        String nodo;
+        try (Connection conexion = dataSourceReplicas.getConnection("", "");
+             Statement consulta = conexion.createStatement();
+             ResultSet resultado = consulta.executeQuery("SELECT nombre FROM nodo")) {
+            resultado.next();
+            nodo = resultado.getString(1);
+        }
+
+        // Then
+        assertThat(nodo).isEqualTo("primaria");
+    }
+
+    private String nodoActual() {
+        return jdbcTemplate.queryForObject("SELECT nombre FROM nodo", String.class);
+    }
+
+    private static DriverManagerDataSource baseEnMemoria(String nombre) {
+        DriverManagerDataSource base = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nombre + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(base);
+        jdbc.execute("CREATE TABLE nodo (nombre VARCHAR(20))");
+        jdbc.update("INSERT INTO nodo VALUES (?)", nombre);
+        return base;
+    }
+}
@@ -0,0 +1,168 @@
+package cue.edu.co.eventia_core_api.infrastructure.redis;
+
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.repository.AsignadorCuposDistribuido.ResultadoReserva;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas del asignador de cupos contra un Redis embebido (no requiere Docker)
+ */
+@DisplayName("RedisAsignadorCupos - Pruebas con Redis embebido")
+class RedisAsignadorCuposTest {
+
+    private static RedisServer redisServer;
+    private static int puerto;
+
+    private final EventoRepository eventoRepository = mock(EventoRepository.class);
+    private final AsistenciaRepository asistenciaRepository = mock(AsistenciaRepository.class);
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisAsignadorCupos asignador;
+
+    @BeforeAll
+    static void iniciarRedis() throws IOException {
+        puerto = puertoLibre();
+        redisServer = new RedisServer(puerto);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void detenerRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = conexion(puerto);
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        try (var conexion = connectionFactory.getConnection()) {
+            conexion.serverCommands().flushAll();
+        }
+        asignador = new RedisAsignadorCupos(redisTemplate, eventoRepository, asistenciaRepository, true, 60, 5000);
+
+        Evento evento = Evento.builder()
+                .id(1L)
+                .capacidadMaxima(3)
+                .participantesRegistrados(1)
+                .estado(EstadoEvento.ACTIVO)
+                .build();
+        when(eventoRepository.findById(1L)).thenReturn(Optional.of(evento));
+        when(asistenciaRepository.findParticipanteIdsByEventoId(1L)).thenReturn(List.of(100L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Reconstruye desde la base de datos y reserva hasta agotar los cupos")
+    void reservaHastaAgotar() {
+        assertThat(asignador.reservar(1L, 200L)).isEqualTo(ResultadoReserva.RESERVADO);
+        assertThat(asignador.reservar(1L, 201L)).isEqualTo(ResultadoReserva.RESERVADO);
+        assertThat(asignador.reservar(1L, 202L)).isEqualTo(ResultadoReserva.AGOTADO);
+
+        verify(eventoRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Detecta el doble registro, incluso de participantes ya registrados en la base de datos")
+    void detectaDobleRegistro() {
+        assertThat(asignador.reservar(1L, 100L)).isEqualTo(ResultadoReserva.DUPLICADO);
+        assertThat(asignador.reservar(1L, 200L)).isEqualTo(ResultadoReserva.RESERVADO);
+        assertThat(asignador.reservar(1L, 200L)).isEqualTo(ResultadoReserva.DUPLICADO);
+    }
+
+    @Test
+    @DisplayName("Liberar devuelve el cupo y permite un nuevo registro")
+    void liberarDevuelveElCupo() {
+        asignador.reservar(1L, 200L);
+        asignador.reservar(1L, 201L);
+
+        asignador.liberar(1L, 200L, true);
+
+        assertThat(asignador.reservar(1L, 202L)).isEqualTo(ResultadoReserva.RESERVADO);
+        assertThat(asignador.reservar(1L, 200L)).isEqualTo(ResultadoReserva.AGOTADO);
+    }
+
+    @Test
+    @DisplayName("El conjunto de participantes expira con el contador aunque el evento no tuviera registrados")
+    void conjuntoDeParticipantesExpira() {
+        when(asistenciaRepository.findParticipanteIdsByEventoId(1L)).thenReturn(List.of());
+
+        asignador.reservar(1L, 200L);
+
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        Long ttl = redisTemplate.getExpire("eventia:cupos:{1}:participantes");
+        assertThat(ttl).isBetween(1L, 60L);
+    }
+
+    @Test
+    @DisplayName("Responde NO_DISPONIBLE cuando Redis no responde, para usar la base de datos")
+    void caeALaBaseDeDatosSinRedis() throws IOException {
+        LettuceConnectionFactory sinServidor = conexion(puertoLibre());
+        try {
+            RedisAsignadorCupos sinRedis = new RedisAsignadorCupos(
+                    new StringRedisTemplate(sinServidor), eventoRepository, asistenciaRepository, true, 60, 5000);
+
+            assertThat(sinRedis.reservar(1L, 200L)).isEqualTo(ResultadoReserva.NO_DISPONIBLE);
+            // Durante la pausa ni siquiera se intenta contactar a Redis
+            assertThat(sinRedis.reservar(1L, 201L)).isEqualTo(ResultadoReserva.NO_DISPONIBLE);
+        } finally {
+            sinServidor.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("Una invalidación que falló se aplica al volver Redis y el evento se reconstruye desde la base de datos")
+    void aplicaInvalidacionesPendientesAlVolverRedis() {
+        // Given
+        StringRedisTemplate redisTemplate = spy(new StringRedisTemplate(connectionFactory));
+        // Sin pausa para que la siguiente operación encuentre Redis disponible de inmediato
+        RedisAsignadorCupos conFallo = new RedisAsignadorCupos(
+                redisTemplate, eventoRepository, asistenciaRepository, true, 60, 0);
+        assertThat(conFallo.reservar(1L, 200L)).isEqualTo(ResultadoReserva.RESERVADO);
+        doThrow(new RedisConnectionFailureException("caído")).doCallRealMethod()
+                .when(redisTemplate).delete(anyCollection());
+
+        // When
+        conFallo.invalidar(1L);
+
+        // Then
+        assertThat(conFallo.reservar(1L, 200L)).isEqualTo(ResultadoReserva.RESERVADO);
+        verify(redisTemplate, times(2)).delete(anyCollection());
+    }
+
+    private static LettuceConnectionFactory conexion(int puerto) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", puerto),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(500)).build());
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static int puertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
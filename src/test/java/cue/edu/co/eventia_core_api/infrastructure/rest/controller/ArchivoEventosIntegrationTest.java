@@ -0,0 +1,147 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.controller;
+
+import cue.edu.co.eventia_core_api.domain.model.Asistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoAsistencia;
+import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.domain.model.Evento;
+import cue.edu.co.eventia_core_api.domain.model.Participante;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import cue.edu.co.eventia_core_api.domain.repository.ArchivoEventosRepository;
+import cue.edu.co.eventia_core_api.domain.repository.AsistenciaRepository;
+import cue.edu.co.eventia_core_api.domain.repository.EventoRepository;
+import cue.edu.co.eventia_core_api.domain.repository.ParticipanteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Archivo de eventos - Pruebas de Integración")
+class ArchivoEventosIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventoRepository eventoRepository;
+
+    @Autowired
+    private ParticipanteRepository participanteRepository;
+
+    @Autowired
+    private AsistenciaRepository asistenciaRepository;
+
+    @Autowired
+    private ArchivoEventosRepository archivoRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Archiva solo los eventos terminados antes del límite, con sus asistencias")
+    void archivaEventosTerminadosConSusAsistencias() {
+        // Given
+        Evento antiguo = evento("Congreso 2020", EstadoEvento.FINALIZADO, LocalDateTime.now().minusYears(5));
+        Evento reciente = evento("Congreso de ayer", EstadoEvento.FINALIZADO, LocalDateTime.now().minusDays(1));
+        Evento activo = evento("Congreso próximo", EstadoEvento.ACTIVO, LocalDateTime.now().minusYears(5));
+        Asistencia asistencia = asistencia(antiguo, participante("archivo-1@eventia.co", "7000000001"));
+        entityManager.flush();
+
+        // When
+        List<Long> archivados = archivoRepository.archivarTerminados(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        // Then
+        assertThat(archivados).containsExactly(antiguo.getId());
+        assertThat(eventoRepository.existsById(antiguo.getId())).isFalse();
+        assertThat(eventoRepository.existsById(reciente.getId())).isTrue();
+        assertThat(eventoRepository.existsById(activo.getId())).isTrue();
+        assertThat(asistenciaRepository.findById(asistencia.getId())).isEmpty();
+        assertThat(archivoRepository.findAsistenciaById(asistencia.getId()))
+                .hasValueSatisfying(a -> assertThat(a.getEstado()).isEqualTo(EstadoAsistencia.ASISTIO));
+    }
+
+    @Test
+    @DisplayName("Los endpoints de lectura recurren al archivo cuando el evento ya no está en las tablas activas")
+    void lecturasRecurrenAlArchivo() throws Exception {
+        // Given
+        Evento evento = evento("Feria 2019", EstadoEvento.FINALIZADO, LocalDateTime.now().minusYears(6));
+        Participante participante = participante("archivo-2@eventia.co", "7000000002");
+        Asistencia asistencia = asistencia(evento, participante);
+        entityManager.flush();
+        archivoRepository.archivarTerminados(LocalDateTime.now().minusDays(90), 100);
+        entityManager.clear();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos/{id}", evento.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Feria 2019"))
+                .andExpect(jsonPath("$.estado").value("FINALIZADO"));
+
+        mockMvc.perform(get("/api/v1/asistencias/{id}", asistencia.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombreEvento").value("Feria 2019"));
+
+        mockMvc.perform(get("/api/v1/asistencias/evento/{eventoId}", evento.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].id").value(asistencia.getId()));
+
+        mockMvc.perform(get("/api/v1/asistencias/participante/{participanteId}", participante.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].eventoId").value(evento.getId()));
+
+        mockMvc.perform(get("/api/v1/asistencias/evento/{eventoId}/estadisticas", evento.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.asistieron").value(1));
+
+        mockMvc.perform(get("/api/v1/eventos/{id}", 999_999L))
+                .andExpect(status().isNotFound());
+    }
+
+    private Evento evento(String nombre, EstadoEvento estado, LocalDateTime fechaFin) {
+        return eventoRepository.save(Evento.builder()
+                .nombre(nombre)
+                .descripcion("Evento de prueba del archivo")
+                .fechaInicio(fechaFin.minusHours(8))
+                .fechaFin(fechaFin)
+                .ubicacion("Armenia, Colombia")
+                .capacidadMaxima(100)
+                .participantesRegistrados(1)
+                .estado(estado)
+                .build());
+    }
+
+    private Participante participante(String email, String documento) {
+        return participanteRepository.save(Participante.builder()
+                .nombre("Ana")
+                .apellido("Archivo")
+                .email(email)
+                .documento(documento)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build());
+    }
+
+    private Asistencia asistencia(Evento evento, Participante participante) {
+        return asistenciaRepository.save(Asistencia.builder()
+                .eventoId(evento.getId())
+                .participanteId(participante.getId())
+                .estado(EstadoAsistencia.ASISTIO)
+                .build());
+    }
+}
@@ -2,6 +2,7 @@ package cue.edu.co.eventia_core_api.infrastructure.rest.controller;
 
 import cue.edu.co.eventia_core_api.application.dto.CrearEventoRequest;
 import cue.edu.co.eventia_core_api.domain.model.EstadoEvento;
+import cue.edu.co.eventia_core_api.infrastructure.rest.paginacion.CursorPaginacion;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +32,9 @@ class EventoControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CursorPaginacion cursorPaginacion;
+
     @Test
     @DisplayName("Debe crear un evento y retornar 201 Created")
     void debeCrearEventoYRetornar201() throws Exception {
@@ -98,5 +102,81 @@ class EventoControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
-}
 
+    @Test
+    @DisplayName("Debe recorrer los eventos por cursor en orden de ID")
+    void debePaginarEventosPorCursor() throws Exception {
+        // Given
+        Long primero = crearEvento("Página 1");
+        Long segundo = crearEvento("Página 2");
+        Long tercero = crearEvento("Página 3");
+        String inicio = cursorPaginacion.cursor(primero - 1);
+
+        // When
+        String respuesta = mockMvc.perform(get("/api/v1/eventos")
+                        .param("after", inicio)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos.length()").value(2))
+                .andExpect(jsonPath("$.elementos[0].id").value(primero))
+                .andExpect(jsonPath("$.elementos[1].id").value(segundo))
+                .andExpect(jsonPath("$.limite").value(2))
+                .andReturn().getResponse().getContentAsString();
+        String siguiente = objectMapper.readTree(respuesta).get("siguienteCursor").asText();
+
+        // Then
+        mockMvc.perform(get("/api/v1/eventos")
+                        .param("after", siguiente)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos.length()").value(1))
+                .andExpect(jsonPath("$.elementos[0].id").value(tercero))
+                .andExpect(jsonPath("$.siguienteCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Debe acotar el límite al máximo configurado y rechazar cursores inválidos")
+    void debeValidarParametrosDePaginacion() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos").param("limit", "5000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limite").value(100));
+
+        mockMvc.perform(get("/api/v1/eventos").param("after", "no-es-un-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"));
+    }
+
+    @Test
+    @DisplayName("Debe responder 304 Not Modified cuando el ETag del listado coincide")
+    void debeResponder304ConEtagVigente() throws Exception {
+        // Given
+        String etag = mockMvc.perform(get("/api/v1/eventos"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/eventos").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    private Long crearEvento(String nombre) throws Exception {
+        CrearEventoRequest request = CrearEventoRequest.builder()
+                .nombre(nombre)
+                .fechaInicio(LocalDateTime.now().plusDays(5))
+                .fechaFin(LocalDateTime.now().plusDays(5).plusHours(4))
+                .ubicacion("Popayán, Colombia")
+                .capacidadMaxima(50)
+                .build();
+        String respuesta = mockMvc.perform(post("/api/v1/eventos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(respuesta).get("id").asLong();
+    }
+}
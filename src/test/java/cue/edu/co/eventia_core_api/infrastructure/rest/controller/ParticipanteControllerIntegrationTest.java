@@ -0,0 +1,40 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("ParticipanteController - Pruebas de Integración")
+class ParticipanteControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("La importación por CSV responde 501 cuando la base de datos no es PostgreSQL")
+    void importacionSinPostgresRetorna501() throws Exception {
+        // Given
+        String csv = "nombre,apellido,email,telefono,documento,tipo_documento\n" +
+                "Ana,Gomez,ana.importacion@eventia.co,,1234567,CEDULA_CIUDADANIA\n";
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/participantes/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.error").value("Not Implemented"))
+                .andExpect(jsonPath("$.message").value("La importación de participantes requiere PostgreSQL (COPY)"));
+    }
+}
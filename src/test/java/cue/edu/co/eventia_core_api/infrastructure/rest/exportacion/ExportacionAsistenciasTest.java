@@ -0,0 +1,32 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.exportacion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportacionAsistencias - Pruebas Unitarias")
+class ExportacionAsistenciasTest {
+
+    @Test
+    @DisplayName("Los campos que empiezan como fórmula se exportan como texto")
+    void neutralizaFormulas() {
+        // When & Then
+        assertThat(ExportacionAsistencias.csv("=HYPERLINK(\"http://x\")")).isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\"");
+        assertThat(ExportacionAsistencias.csv("+57 300")).isEqualTo("'+57 300");
+        assertThat(ExportacionAsistencias.csv("-2+3")).isEqualTo("'-2+3");
+        assertThat(ExportacionAsistencias.csv("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ExportacionAsistencias.csv("\t=1")).isEqualTo("'\t=1");
+    }
+
+    @Test
+    @DisplayName("Escapa separadores y comillas y deja intactos los campos normales")
+    void escapaSegunRfc4180() {
+        // When & Then
+        assertThat(ExportacionAsistencias.csv("Ana María")).isEqualTo("Ana María");
+        assertThat(ExportacionAsistencias.csv("ana@eventia.co")).isEqualTo("ana@eventia.co");
+        assertThat(ExportacionAsistencias.csv("Pérez, Ana")).isEqualTo("\"Pérez, Ana\"");
+        assertThat(ExportacionAsistencias.csv("dijo \"hola\"")).isEqualTo("\"dijo \"\"hola\"\"\"");
+        assertThat(ExportacionAsistencias.csv(null)).isEmpty();
+    }
+}
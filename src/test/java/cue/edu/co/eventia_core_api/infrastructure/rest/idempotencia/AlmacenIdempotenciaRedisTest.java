@@ -0,0 +1,123 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Pruebas del lease entre nodos contra un Redis embebido (no requiere Docker)
+ */
+@DisplayName("AlmacenIdempotencia - Pruebas con Redis embebido")
+class AlmacenIdempotenciaRedisTest {
+
+    private static final String LEASE = "eventia:idempotencia:%s:en-curso";
+
+    private static RedisServer redisServer;
+    private static int puerto;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void iniciarRedis() throws IOException {
+        puerto = puertoLibre();
+        redisServer = new RedisServer(puerto);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void detenerRedis() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = conexion(puerto);
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try (var conexion = connectionFactory.getConnection()) {
+            conexion.serverCommands().flushAll();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("Un nodo cuyo lease expiró no borra el lease que tomó otro nodo")
+    void noBorraElLeaseDeOtroNodo() {
+        // Given
+        String clave = "/api/v1/asistencias:lease";
+        AlmacenIdempotencia nodoA = almacen(new ObjectMapper());
+        AlmacenIdempotencia nodoB = almacen(new ObjectMapper());
+        assertThat(nodoA.iniciar(clave)).isTrue();
+        redisTemplate.delete(LEASE.formatted(clave));
+        assertThat(nodoB.iniciar(clave)).isTrue();
+
+        // When
+        nodoA.finalizar(clave, null);
+
+        // Then
+        assertThat(redisTemplate.hasKey(LEASE.formatted(clave))).isTrue();
+        assertThat(almacen(new ObjectMapper()).iniciar(clave)).isFalse();
+
+        nodoB.finalizar(clave, null);
+        assertThat(redisTemplate.hasKey(LEASE.formatted(clave))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Si falla la escritura de la respuesta el lease se libera igualmente")
+    void liberaElLeaseSiFallaLaEscritura() throws JsonProcessingException {
+        // Given
+        String clave = "/api/v1/participantes:fallo";
+        ObjectMapper objectMapper = mock(ObjectMapper.class);
+        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("sin serializar") { });
+        AlmacenIdempotencia almacen = almacen(objectMapper);
+        assertThat(almacen.iniciar(clave)).isTrue();
+        RespuestaGuardada respuesta = new RespuestaGuardada(201, "application/json",
+                "{\"id\":9}".getBytes(StandardCharsets.UTF_8), "huella");
+
+        // When
+        assertThatThrownBy(() -> almacen.finalizar(clave, respuesta))
+                .isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(redisTemplate.hasKey(LEASE.formatted(clave))).isFalse();
+        assertThat(almacen(new ObjectMapper()).iniciar(clave)).isTrue();
+    }
+
+    private AlmacenIdempotencia almacen(ObjectMapper objectMapper) {
+        return new AlmacenIdempotencia(redisTemplate, objectMapper,
+                100, Duration.ofMinutes(1), Duration.ofSeconds(30), Duration.ofSeconds(1), 10, true, 5000);
+    }
+
+    private static LettuceConnectionFactory conexion(int puerto) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("localhost", puerto),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(500)).build());
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static int puertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
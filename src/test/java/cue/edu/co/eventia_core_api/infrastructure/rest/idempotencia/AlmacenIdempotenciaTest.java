@@ -0,0 +1,56 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AlmacenIdempotencia - Pruebas Unitarias (solo memoria)")
+class AlmacenIdempotenciaTest {
+
+    private final AlmacenIdempotencia almacen = new AlmacenIdempotencia(null, new ObjectMapper(),
+            100, Duration.ofMinutes(1), Duration.ofSeconds(30), Duration.ofSeconds(5), 10, false, 5000);
+
+    @Test
+    @DisplayName("Un duplicado concurrente espera a la petición original y recibe su respuesta")
+    void duplicadoConcurrenteEsperaALaOriginal() throws Exception {
+        // Given
+        String clave = "/api/v1/asistencias:abc";
+        assertThat(almacen.iniciar(clave)).isTrue();
+        assertThat(almacen.iniciar(clave)).isFalse();
+        CompletableFuture<Optional<RespuestaGuardada>> duplicado = CompletableFuture.supplyAsync(() -> almacen.esperar(clave));
+
+        // When
+        RespuestaGuardada respuesta = new RespuestaGuardada(201, "application/json",
+                "{\"id\":7}".getBytes(StandardCharsets.UTF_8), "huella");
+        almacen.finalizar(clave, respuesta);
+
+        // Then
+        assertThat(duplicado.get(5, TimeUnit.SECONDS)).contains(respuesta);
+        assertThat(almacen.buscar(clave)).contains(respuesta);
+    }
+
+    @Test
+    @DisplayName("Si la original falla, el duplicado no espera y la clave queda libre para reintentar")
+    void originalFallidaLiberaLaClave() throws Exception {
+        // Given
+        String clave = "/api/v1/participantes:xyz";
+        almacen.iniciar(clave);
+        CompletableFuture<Optional<RespuestaGuardada>> duplicado = CompletableFuture.supplyAsync(() -> almacen.esperar(clave));
+
+        // When
+        almacen.finalizar(clave, null);
+
+        // Then
+        assertThat(duplicado.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(almacen.buscar(clave)).isEmpty();
+        assertThat(almacen.iniciar(clave)).isTrue();
+    }
+}
@@ -0,0 +1,110 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventia_core_api.application.dto.CrearParticipanteRequest;
+import cue.edu.co.eventia_core_api.domain.model.TipoDocumento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("FiltroIdempotencia - Pruebas de Integración")
+class FiltroIdempotenciaIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Debe reproducir la respuesta original al reintentar con la misma Idempotency-Key")
+    void debeReproducirRespuestaOriginal() throws Exception {
+        // Given
+        String clave = UUID.randomUUID().toString();
+        String cuerpo = objectMapper.writeValueAsString(participante("reintento@eventia.co", "9000000001"));
+
+        // When
+        String original = mockMvc.perform(post("/api/v1/participantes")
+                        .header(FiltroIdempotencia.CABECERA, clave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpo))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(FiltroIdempotencia.CABECERA_REPRODUCIDA))
+                .andReturn().getResponse().getContentAsString();
+
+        String reintento = mockMvc.perform(post("/api/v1/participantes")
+                        .header(FiltroIdempotencia.CABECERA, clave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpo))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(FiltroIdempotencia.CABECERA_REPRODUCIDA, "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(reintento).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("Sin Idempotency-Key un reintento se valida de nuevo y termina en duplicado")
+    void sinClaveElReintentoEsDuplicado() throws Exception {
+        // Given
+        String cuerpo = objectMapper.writeValueAsString(participante("sin-clave@eventia.co", "9000000002"));
+        mockMvc.perform(post("/api/v1/participantes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpo))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/participantes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(cuerpo))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 422 la misma Idempotency-Key con un cuerpo distinto")
+    void debeRechazarClaveReutilizadaConOtroCuerpo() throws Exception {
+        // Given
+        String clave = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/v1/participantes")
+                        .header(FiltroIdempotencia.CABECERA, clave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(participante("primero@eventia.co", "9000000003"))))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/participantes")
+                        .header(FiltroIdempotencia.CABECERA, clave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(participante("segundo@eventia.co", "9000000004"))))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value(containsString("cuerpo de petición distinto")));
+    }
+
+    private static CrearParticipanteRequest participante(String email, String documento) {
+        return CrearParticipanteRequest.builder()
+                .nombre("Laura")
+                .apellido("Reintento")
+                .email(email)
+                .documento(documento)
+                .tipoDocumento(TipoDocumento.CEDULA_CIUDADANIA)
+                .build();
+    }
+}
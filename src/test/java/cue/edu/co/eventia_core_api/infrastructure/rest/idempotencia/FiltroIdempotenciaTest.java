@@ -0,0 +1,90 @@
+package cue.edu.co.eventia_core_api.infrastructure.rest.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiltroIdempotencia - Pruebas Unitarias")
+class FiltroIdempotenciaTest {
+
+    private static final String RUTA = "/api/v1/asistencias";
+
+    @Mock
+    private AlmacenIdempotencia almacen;
+
+    @Mock
+    private FilterChain chain;
+
+    @Test
+    @DisplayName("Si la original termina entre buscar e iniciar, reproduce su respuesta sin ejecutar la petición")
+    void releeTrasIniciar() throws Exception {
+        // Given
+        FiltroIdempotencia filtro = filtro(DataSize.ofMegabytes(1));
+        byte[] cuerpo = "{\"eventoId\":1}".getBytes(StandardCharsets.UTF_8);
+        String clave = RUTA + ":carrera";
+        RespuestaGuardada original = new RespuestaGuardada(201, "application/json",
+                "{\"id\":3}".getBytes(StandardCharsets.UTF_8), huella(cuerpo));
+        when(almacen.buscar(clave)).thenReturn(Optional.empty()).thenReturn(Optional.of(original));
+        when(almacen.iniciar(clave)).thenReturn(true);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RUTA);
+        request.addHeader(FiltroIdempotencia.CABECERA, "carrera");
+        request.setContent(cuerpo);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filtro.doFilter(request, response, chain);
+
+        // Then
+        verify(chain, never()).doFilter(any(), any());
+        verify(almacen).finalizar(clave, null);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(FiltroIdempotencia.CABECERA_REPRODUCIDA)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":3}");
+    }
+
+    @Test
+    @DisplayName("Rechaza con 413 un cuerpo mayor al máximo sin tocar el almacén")
+    void rechazaCuerpoDemasiadoGrande() throws Exception {
+        // Given
+        FiltroIdempotencia filtro = filtro(DataSize.ofBytes(8));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RUTA);
+        request.addHeader(FiltroIdempotencia.CABECERA, "grande");
+        request.setContent("{\"eventoId\":1}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filtro.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        verifyNoInteractions(almacen, chain);
+    }
+
+    private FiltroIdempotencia filtro(DataSize tamanoMaximoCuerpo) {
+        return new FiltroIdempotencia(almacen, new ObjectMapper(), Set.of(RUTA), tamanoMaximoCuerpo);
+    }
+
+    private static String huella(byte[] cuerpo) throws Exception {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigest.getInstance("SHA-256").digest(cuerpo));
+    }
+}